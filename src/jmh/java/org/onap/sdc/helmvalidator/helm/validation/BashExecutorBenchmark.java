@@ -0,0 +1,94 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of spawning Helm process, capturing its output and enforcing its timeout, measured with a stub Helm
+ * script printing output of successful lint, so time of Helm itself is left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BashExecutorBenchmark {
+
+    private static final String STUB_HELM = "#!/bin/sh\n"
+        + "echo \"==> Linting $2\"\n"
+        + "echo \"[INFO] Chart.yaml: icon is recommended\"\n"
+        + "echo \"1 chart(s) linted, 0 chart(s) failed\"\n";
+    private static final long TIMEOUT_MS = 10_000;
+    private static final long MAX_OUTPUT_BYTES = 1024 * 1024;
+    private static final int MAX_OUTPUT_LINES = 10_000;
+
+    private Path stubDirectory;
+
+    private BashExecutor bashExecutor;
+
+    private List<String> command;
+
+    @Setup
+    public void setUp() throws IOException {
+        stubDirectory = Files.createTempDirectory("helm-stub");
+        Path stubHelm = Files.writeString(stubDirectory.resolve("helm"), STUB_HELM, StandardCharsets.UTF_8);
+        Files.setPosixFilePermissions(stubHelm, PosixFilePermissions.fromString("rwxr-xr-x"));
+        command = List.of(stubHelm.toString(), "lint", "benchmark");
+        bashExecutor = new BashExecutor(new HelmProcessLimiter(1, 1, TIMEOUT_MS, 1), new SimpleMeterRegistry(),
+            MAX_OUTPUT_BYTES, MAX_OUTPUT_LINES, false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bashExecutor.shutdown();
+        try (Stream<Path> stubFiles = Files.walk(stubDirectory)) {
+            stubFiles.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public BashOutput spawnStubHelm() {
+        return bashExecutor.execute(command, TIMEOUT_MS);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of Helm output: capture of streamed output with classification of lines and diagnostics,
+ * and classification of already collected lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HelmOutputParsingBenchmark {
+
+    private static final String[] OUTPUT_LINES = {
+        "==> Linting benchmark",
+        "[INFO] Chart.yaml: icon is recommended",
+        "[WARNING] templates/deployment.yaml: object name does not conform to Kubernetes naming requirements",
+        "[ERROR] templates/: template: benchmark/templates/service.yaml:12:18: executing \"benchmark/templates/"
+            + "service.yaml\" at <.Values.service.port>: nil pointer evaluating interface {}.port",
+        "Error: YAML parse error on benchmark/templates/configmap.yaml: error converting YAML to JSON: yaml: line 7: "
+            + "did not find expected key",
+        "    name: benchmark-configmap",
+    };
+
+    @Param({"1000", "100000"})
+    public int lines;
+
+    private byte[] output;
+
+    private List<String> outputLines;
+
+    @Setup
+    public void setUp() {
+        outputLines = new ArrayList<>(lines);
+        for (var i = 0; i < lines; i++) {
+            outputLines.add(OUTPUT_LINES[i % OUTPUT_LINES.length]);
+        }
+        output = (String.join("\n", outputLines) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public BashOutput captureOutput() throws IOException {
+        var capture = new HelmOutputCapture(Long.MAX_VALUE, Integer.MAX_VALUE);
+        capture.readFrom(new ByteArrayInputStream(output), false);
+        return capture.toBashOutput(0, 0);
+    }
+
+    @Benchmark
+    public BashOutput classifyOutputLines() {
+        return new BashOutput(1, outputLines);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single pass scan of packaged charts done for every upload: decompression, archive limits and Chart.yaml parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiVersionsReaderBenchmark {
+
+    private static final String CHART_YAML = "apiVersion: v2\nname: benchmark\nversion: 1.0.0\n";
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(1024L * 1024 * 1024, 100_000,
+        256L * 1024 * 1024, 64, 10_000);
+
+    @Param({"SMALL", "LARGE", "MANY_ENTRIES"})
+    public ChartShape chartShape;
+
+    private ApiVersionsReader apiVersionsReader;
+
+    private byte[] packagedChart;
+
+    @Setup
+    public void setUp() throws IOException {
+        apiVersionsReader = new ApiVersionsReader(ARCHIVE_LIMITS);
+        packagedChart = chartShape.pack();
+    }
+
+    @Benchmark
+    public ChartMetadata readChartMetadata() throws IOException {
+        return apiVersionsReader.readChartMetadata(new ByteArrayInputStream(packagedChart));
+    }
+
+    public enum ChartShape {
+        SMALL(8, 2 * 1024),
+        LARGE(16, 2 * 1024 * 1024),
+        MANY_ENTRIES(10_000, 256);
+
+        private final int templates;
+        private final int templateBytes;
+
+        ChartShape(int templates, int templateBytes) {
+            this.templates = templates;
+            this.templateBytes = templateBytes;
+        }
+
+        byte[] pack() throws IOException {
+            var outputStream = new ByteArrayOutputStream();
+            try (var tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+                tarStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                addEntry(tarStream, "benchmark/Chart.yaml", CHART_YAML.getBytes(StandardCharsets.UTF_8));
+                for (var i = 0; i < templates; i++) {
+                    addEntry(tarStream, "benchmark/templates/template-" + i + ".yaml", template(i));
+                }
+            }
+            return outputStream.toByteArray();
+        }
+
+        private byte[] template(int index) {
+            var template = new StringBuilder(templateBytes + 64);
+            for (var line = 0; template.length() < templateBytes; line++) {
+                template.append("key-").append(index).append('-').append(line)
+                    .append(": \"{{ .Values.value").append(line % 97).append(" }}\"\n");
+            }
+            return template.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static void addEntry(TarArchiveOutputStream tarStream, String name, byte[] content)
+            throws IOException {
+            var entry = new TarArchiveEntry(name);
+            entry.setSize(content.length);
+            tarStream.putArchiveEntry(entry);
+            tarStream.write(content);
+            tarStream.closeArchiveEntry();
+        }
+    }
+}
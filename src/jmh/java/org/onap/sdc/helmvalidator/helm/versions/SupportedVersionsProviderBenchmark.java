@@ -0,0 +1,74 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolution of requested Helm version done for every validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SupportedVersionsProviderBenchmark {
+
+    private static final String SUPPORTED_VERSIONS = "3.5.2,3.10.3,3.11.3,3.12.3,3.13.3,3.14.4,3.15.4,3.16.4,2.17.0";
+
+    private SupportedVersionsProvider versionsProvider;
+
+    @Setup
+    public void setUp() {
+        versionsProvider = new SupportedVersionsProvider(new SystemEnvVersionsReader() {
+            @Override
+            String getSupportedVersionsFromEnv() {
+                return SUPPORTED_VERSIONS;
+            }
+        });
+    }
+
+    @Benchmark
+    public String getLatestVersion() {
+        return versionsProvider.getLatestVersion("3");
+    }
+
+    @Benchmark
+    public String resolveMajorVersion() {
+        return versionsProvider.resolveVersion("v3");
+    }
+
+    @Benchmark
+    public String resolveVersionConstraint() {
+        return versionsProvider.resolveVersion(">=3.10 <3.14");
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import org.onap.sdc.helmvalidator.config.docs.BatchValidationRequestParameters;
+import org.onap.sdc.helmvalidator.errorhandling.ValidationErrorResponse;
+import org.onap.sdc.helmvalidator.helm.validation.BatchValidationService;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@Tag(name = "ValidationService")
+public class BatchValidationController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchValidationController.class);
+
+    private final BatchValidationService batchValidationService;
+
+    public BatchValidationController(BatchValidationService batchValidationService) {
+        this.batchValidationService = batchValidationService;
+    }
+
+    /**
+     * Validates batch of Helm charts.
+     *
+     * @param version        requested version of Helm client to be used
+     * @param files          packaged Helm chart files
+     * @param archive        archive of packaged Helm chart files
+     * @param isLinted       flag deciding if charts should be linted
+     * @param isStrictLinted flag deciding if charts should be linted with strict option turned on
+     * @return Response with results of validation keyed by chart file name
+     */
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Helm charts validated, failures are reported per chart"),
+        @ApiResponse(responseCode = "400", description = "Batch of charts is missing, malformed or too big",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "413", description = "Helm chart exceeds maximum size",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "500", description = "Something went wrong during saving of the charts",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
+    })
+    @Operation(
+        summary = "Validate batch of charts",
+        description = "Web endpoint for parallel validation of many Helm charts. Charts in .tgz format are required, "
+            + "provided either as multiple 'file' parts or as a single 'archive' of charts.",
+        tags = "ValidationService",
+        requestBody = @RequestBody(
+            required = true,
+            content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                schema = @Schema(implementation = BatchValidationRequestParameters.class)
+            )
+        )
+    )
+    @PostMapping(value = "/validate/batch", produces = "application/json",
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, BatchValidationEntry>> validate(
+
+        @Parameter(hidden = true)
+        @RequestParam(value = "versionDesired", required = false) String version,
+        @Parameter(hidden = true)
+        @RequestParam(value = "file", required = false) List<MultipartFile> files,
+        @Parameter(hidden = true)
+        @RequestParam(value = "archive", required = false) MultipartFile archive,
+        @Parameter(hidden = true)
+        @RequestParam(value = "isLinted", required = false, defaultValue = "false") boolean isLinted,
+        @Parameter(hidden = true)
+        @RequestParam(value = "isStrictLinted", required = false, defaultValue = "false") boolean isStrictLinted) {
+        LOGGER.debug("Received batch of {} files, archive: {}, helm version: {}",
+            files != null ? files.size() : 0, archive != null ? archive.getOriginalFilename() : null, version);
+        Map<String, BatchValidationEntry> results = batchValidationService
+            .process(version, files, archive, isLinted, isStrictLinted);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+}
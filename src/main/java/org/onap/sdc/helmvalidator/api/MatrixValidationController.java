@@ -0,0 +1,114 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Map;
+import org.onap.sdc.helmvalidator.config.docs.MatrixValidationRequestParameters;
+import org.onap.sdc.helmvalidator.errorhandling.ValidationErrorResponse;
+import org.onap.sdc.helmvalidator.helm.validation.MatrixValidationService;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@Tag(name = "ValidationService")
+public class MatrixValidationController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatrixValidationController.class);
+
+    private final MatrixValidationService matrixValidationService;
+
+    public MatrixValidationController(MatrixValidationService matrixValidationService) {
+        this.matrixValidationService = matrixValidationService;
+    }
+
+    /**
+     * Validates Helm chart with many Helm versions.
+     *
+     * @param versions        requested versions of Helm client to be used
+     * @param file            packaged Helm chart file
+     * @param isLinted        flag deciding if chart should be linted
+     * @param isStrictLinted  flag deciding if chart should be linted with strict option turned on
+     * @param withDiagnostics flag deciding if structured diagnostics should be returned
+     * @return Response with results or errors of validation keyed by Helm version
+     */
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Helm chart validated, failures are reported per version"),
+        @ApiResponse(responseCode = "400", description = "Chart is not a readable chart archive or cannot be "
+            + "validated using selected versions",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "413", description = "Helm chart exceeds maximum size",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "500", description = "Something went wrong during saving of the chart",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
+    })
+    @Operation(
+        summary = "Validate chart with many Helm versions",
+        description = "Web endpoint validating Helm chart with each of selected Helm versions in parallel, "
+            + "all available versions by default. Helm chart in .tgz format is required and uploaded only once.",
+        tags = "ValidationService",
+        requestBody = @RequestBody(
+            required = true,
+            content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                schema = @Schema(implementation = MatrixValidationRequestParameters.class)
+            )
+        )
+    )
+    @PostMapping(value = "/validate/matrix", produces = "application/json",
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, BatchValidationEntry>> validate(
+
+        @Parameter(hidden = true)
+        @RequestParam(value = "versionsDesired", required = false) List<String> versions,
+        @Parameter(hidden = true)
+        @RequestParam MultipartFile file,
+        @Parameter(hidden = true)
+        @RequestParam(value = "isLinted", required = false, defaultValue = "false") boolean isLinted,
+        @Parameter(hidden = true)
+        @RequestParam(value = "isStrictLinted", required = false, defaultValue = "false") boolean isStrictLinted,
+        @Parameter(hidden = true)
+        @RequestParam(value = "withDiagnostics", required = false, defaultValue = "false") boolean withDiagnostics) {
+        LOGGER.debug("Received file: {}, size: {}, helm versions: {}",
+            file.getOriginalFilename(), file.getSize(), versions);
+        Map<String, BatchValidationEntry> results = matrixValidationService
+            .process(versions, file, isLinted, isStrictLinted);
+        if (withDiagnostics) {
+            results.replaceAll((version, entry) -> entry.withDiagnostics());
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+}
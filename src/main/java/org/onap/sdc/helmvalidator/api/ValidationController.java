@@ -29,16 +29,24 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Optional;
 import org.onap.sdc.helmvalidator.config.docs.ValidationRequestParameters;
 import org.onap.sdc.helmvalidator.errorhandling.ValidationErrorResponse;
 import org.onap.sdc.helmvalidator.helm.validation.ValidationService;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidValidationRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationResultNotFoundException;
 import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationTimings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -48,6 +56,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class ValidationController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ValidationController.class);
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+    static final String CHART_DIGEST_HEADER = "X-Chart-Digest";
+    private static final String VALIDATION_ENDPOINT = "/validate";
 
     private final ValidationService validationService;
 
@@ -56,13 +67,17 @@ public class ValidationController {
     }
 
     /**
-     * Validates Helm chart.
+     * Validates Helm chart. When digest of the chart is sent with the version, known result of its validation is
+     * returned without validating the chart, which then does not have to be uploaded.
      *
-     * @param version        requested version of Helm client to be used
-     * @param file           packaged Helm chart file
-     * @param isLinted       flag deciding if chart should be linted
-     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
-     * @return Response with result of validation
+     * @param version         requested version of Helm client to be used
+     * @param file            packaged Helm chart file, optional when known result of its validation is found
+     * @param isLinted        flag deciding if chart should be linted
+     * @param isStrictLinted  flag deciding if chart should be linted with strict option turned on
+     * @param withDiagnostics flag deciding if structured diagnostics should be returned
+     * @param withTimings     flag deciding if time spent in each validation phase should be returned
+     * @param chartDigest     SHA-256 digest of packaged Helm chart file in hex, used to look up known result
+     * @return Response with result of validation and Server-Timing header with time spent in each phase
      */
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Helm chart successfully validated",
@@ -73,14 +88,28 @@ public class ValidationController {
                         @ExampleObject(ref = "#/components/examples/simpleValidation", name = "Simple Validation"),
                         @ExampleObject(ref = "#/components/examples/validationWithLint", name = "Lint Validation")
                     })}),
-        @ApiResponse(responseCode = "400", description = "Chart cannot be validated using selected version",
+        @ApiResponse(responseCode = "400", description = "Chart is not a readable chart archive or cannot be "
+            + "validated using selected version, or neither chart nor its digest with version is sent",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Chart not sent and result of validation of its digest not "
+            + "known",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "413", description = "Helm chart exceeds maximum size",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "422", description = "Helm execution exceeded its timeout and was terminated",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "429", description = "Too many validations in progress, retry after given time",
             content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
         @ApiResponse(responseCode = "500", description = "Something went wrong during validation execution",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "503", description = "No free Helm execution slot in time, retry after given time",
             content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
     })
     @Operation(
         summary = "Validate chart",
-        description = "Web endpoint for Helm charts validation. Helm chart in .tgz format is required.",
+        description = "Web endpoint for Helm charts validation. Helm chart in .tgz format is required, unless its "
+            + "SHA-256 digest is sent in X-Chart-Digest header with versionDesired and result of its validation is "
+            + "already known.",
         tags = "ValidationService",
         requestBody = @RequestBody(
             required = true,
@@ -89,22 +118,112 @@ public class ValidationController {
             )
         )
     )
-    @PostMapping(value = "/validate", produces = "application/json", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PostMapping(value = VALIDATION_ENDPOINT, produces = "application/json",
+        consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ValidationResult> validate(
 
         @Parameter(hidden = true)
         @RequestParam(value = "versionDesired", required = false) String version,
-        @Parameter(description = "Helm chart that should be validated (packed in .tgz format)", required = true)
-        @RequestParam MultipartFile file,
+        @Parameter(description = "Helm chart that should be validated (packed in .tgz format)")
+        @RequestParam(required = false) MultipartFile file,
         @Parameter(hidden = true)
         @RequestParam(value = "isLinted", required = false, defaultValue = "false") boolean isLinted,
         @Parameter(hidden = true)
-        @RequestParam(value = "isStrictLinted", required = false, defaultValue = "false") boolean isStrictLinted) {
+        @RequestParam(value = "isStrictLinted", required = false, defaultValue = "false") boolean isStrictLinted,
+        @Parameter(hidden = true)
+        @RequestParam(value = "withDiagnostics", required = false, defaultValue = "false") boolean withDiagnostics,
+        @Parameter(hidden = true)
+        @RequestParam(value = "withTimings", required = false, defaultValue = "false") boolean withTimings,
+        @Parameter(description = "SHA-256 digest of Helm chart in hex, returns known result of its validation with "
+            + "versionDesired without validating the chart")
+        @RequestHeader(value = CHART_DIGEST_HEADER, required = false) String chartDigest) {
+        if (chartDigest != null) {
+            Optional<ValidationResult> knownResult = findKnownResult(chartDigest, version, isLinted, isStrictLinted);
+            if (knownResult.isPresent()) {
+                return knownResultResponse(chartDigest, knownResult.get(), withDiagnostics);
+            }
+            if (file == null) {
+                throw new ValidationResultNotFoundException(chartDigest);
+            }
+        } else if (file == null) {
+            throw new InvalidValidationRequestException(
+                "Helm chart file or its digest in " + CHART_DIGEST_HEADER + " header is required");
+        }
         LOGGER.debug("Received file: {}, size: {}, helm version: {}",
             file.getOriginalFilename(), file.getSize(), version);
+        var timings = new ValidationTimings();
         ValidationResult result = validationService
-            .process(version, file, isLinted, isStrictLinted);
-        LOGGER.debug("Processed file: {}, validation result: {}" , file.getOriginalFilename(), result);
-        return new ResponseEntity<>(result, HttpStatus.OK);
+            .process(version, file, isLinted, isStrictLinted, timings);
+        LOGGER.debug("Processed file: {}, validation result: {}, timings: {}", file.getOriginalFilename(), result,
+            timings);
+        if (withDiagnostics) {
+            result = result.withDiagnostics();
+        }
+        if (withTimings) {
+            result = result.withTimings(timings);
+        }
+        var headers = new HttpHeaders();
+        String serverTiming = timings.toServerTiming();
+        if (!serverTiming.isEmpty()) {
+            headers.set(SERVER_TIMING_HEADER, serverTiming);
+        }
+        return new ResponseEntity<>(result, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves known result of validation of Helm chart with given digest, without uploading the chart.
+     *
+     * @param chartDigest     SHA-256 digest of packaged Helm chart file in hex
+     * @param version         requested version of Helm client to be used
+     * @param isLinted        flag deciding if chart should be linted
+     * @param isStrictLinted  flag deciding if chart should be linted with strict option turned on
+     * @param withDiagnostics flag deciding if structured diagnostics should be returned
+     * @return Response with result of validation and ETag header with digest of the chart
+     */
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Result of Helm chart validation found",
+            content = @Content(schema = @Schema(implementation = ValidationResult.class))),
+        @ApiResponse(responseCode = "400", description = "Digest is not SHA-256 in hex or selected version is not "
+            + "supported",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Result of Helm chart validation not known",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
+    })
+    @Operation(
+        summary = "Get chart validation result",
+        description = "Web endpoint returning cached result of Helm chart validation with the same Helm version and "
+            + "options, so a chart which was already validated does not have to be uploaded.",
+        tags = "ValidationService"
+    )
+    @GetMapping(value = VALIDATION_ENDPOINT + "/results/{chartDigest}", produces = "application/json")
+    public ResponseEntity<ValidationResult> getResult(
+        @Parameter(description = "SHA-256 digest of packaged Helm chart in hex")
+        @PathVariable String chartDigest,
+        @Parameter(description = "Helm version used for validation, as returned in versionUsed of the result")
+        @RequestParam(value = "versionDesired") String version,
+        @RequestParam(value = "isLinted", required = false, defaultValue = "false") boolean isLinted,
+        @RequestParam(value = "isStrictLinted", required = false, defaultValue = "false") boolean isStrictLinted,
+        @RequestParam(value = "withDiagnostics", required = false, defaultValue = "false") boolean withDiagnostics) {
+        ValidationResult result = validationService.findResult(version, chartDigest, isLinted, isStrictLinted)
+            .orElseThrow(() -> new ValidationResultNotFoundException(chartDigest));
+        return knownResultResponse(chartDigest, result, withDiagnostics);
+    }
+
+    private Optional<ValidationResult> findKnownResult(String chartDigest, String version, boolean isLinted,
+        boolean isStrictLinted) {
+        // Version derived from the chart cannot be known without the chart, the same as in lookup by GET
+        if (version == null) {
+            throw new InvalidValidationRequestException(
+                "versionDesired is required with chart digest in " + CHART_DIGEST_HEADER + " header");
+        }
+        return validationService.findResult(version, chartDigest, isLinted, isStrictLinted);
+    }
+
+    private static ResponseEntity<ValidationResult> knownResultResponse(String chartDigest, ValidationResult result,
+        boolean withDiagnostics) {
+        LOGGER.debug("Found result of chart: {}, validation result: {}", chartDigest, result);
+        return ResponseEntity.ok()
+            .eTag(chartDigest)
+            .body(withDiagnostics ? result.withDiagnostics() : result);
     }
 }
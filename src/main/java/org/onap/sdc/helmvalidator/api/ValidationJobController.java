@@ -0,0 +1,133 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import org.onap.sdc.helmvalidator.config.docs.ValidationRequestParameters;
+import org.onap.sdc.helmvalidator.errorhandling.ValidationErrorResponse;
+import org.onap.sdc.helmvalidator.helm.validation.ValidationJobService;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@Tag(name = "ValidationService")
+public class ValidationJobController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationJobController.class);
+    private static final String JOBS_ENDPOINT = "/validate/jobs";
+
+    private final ValidationJobService validationJobService;
+
+    public ValidationJobController(ValidationJobService validationJobService) {
+        this.validationJobService = validationJobService;
+    }
+
+    /**
+     * Queues asynchronous validation of Helm chart.
+     *
+     * @param version        requested version of Helm client to be used
+     * @param file           packaged Helm chart file
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @return Response with queued validation job and its location
+     */
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Helm chart validation job queued",
+            content = @Content(schema = @Schema(implementation = ValidationJob.class))),
+        @ApiResponse(responseCode = "413", description = "Helm chart exceeds maximum size",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "429", description = "Too many validation jobs queued, retry after given time",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class))),
+        @ApiResponse(responseCode = "500", description = "Something went wrong during saving of the chart",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
+    })
+    @Operation(
+        summary = "Queue chart validation",
+        description = "Web endpoint for asynchronous Helm charts validation. Helm chart in .tgz format is required. "
+            + "Status and result of the validation can be polled using returned job location.",
+        tags = "ValidationService",
+        requestBody = @RequestBody(
+            required = true,
+            content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                schema = @Schema(implementation = ValidationRequestParameters.class)
+            )
+        )
+    )
+    @PostMapping(value = JOBS_ENDPOINT, produces = "application/json", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ValidationJob> submit(
+
+        @Parameter(hidden = true)
+        @RequestParam(value = "versionDesired", required = false) String version,
+        @Parameter(description = "Helm chart that should be validated (packed in .tgz format)", required = true)
+        @RequestParam MultipartFile file,
+        @Parameter(hidden = true)
+        @RequestParam(value = "isLinted", required = false, defaultValue = "false") boolean isLinted,
+        @Parameter(hidden = true)
+        @RequestParam(value = "isStrictLinted", required = false, defaultValue = "false") boolean isStrictLinted) {
+        LOGGER.debug("Received file: {}, size: {}, helm version: {}",
+            file.getOriginalFilename(), file.getSize(), version);
+        ValidationJob job = validationJobService.submit(version, file, isLinted, isStrictLinted);
+        return ResponseEntity
+            .accepted()
+            .location(URI.create(JOBS_ENDPOINT + "/" + job.getId()))
+            .body(job);
+    }
+
+    /**
+     * Retrieves status of validation job.
+     *
+     * @param jobId identifier of the validation job
+     * @return Response with validation job, containing validation result when the job succeeded
+     */
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Validation job found",
+            content = @Content(schema = @Schema(implementation = ValidationJob.class))),
+        @ApiResponse(responseCode = "404", description = "Validation job not found or already expired",
+            content = @Content(schema = @Schema(implementation = ValidationErrorResponse.class)))
+    })
+    @Operation(
+        summary = "Get chart validation job",
+        description = "Web endpoint returning status of asynchronous Helm chart validation.",
+        tags = "ValidationService"
+    )
+    @GetMapping(value = JOBS_ENDPOINT + "/{jobId}", produces = "application/json")
+    public ResponseEntity<ValidationJob> getJob(@PathVariable String jobId) {
+        return new ResponseEntity<>(validationJobService.getJob(jobId), HttpStatus.OK);
+    }
+}
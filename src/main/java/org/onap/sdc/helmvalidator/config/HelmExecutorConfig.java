@@ -0,0 +1,135 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HelmExecutorConfig {
+
+    public static final String HELM_TASK_EXECUTOR = "helmTaskExecutor";
+    public static final String VALIDATION_JOB_EXECUTOR = "validationJobExecutor";
+    public static final String BATCH_VALIDATION_EXECUTOR = "batchValidationExecutor";
+    public static final String MATRIX_VALIDATION_EXECUTOR = "matrixValidationExecutor";
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    /**
+     * Create bounded executor used to run Helm commands of a single validation concurrently.
+     * When the queue is full, the task is run by the submitting thread.
+     *
+     * @param poolSize      maximum number of threads running Helm commands
+     * @param queueCapacity maximum number of Helm commands waiting for a free thread
+     * @return Executor for Helm commands
+     */
+    @Bean(name = HELM_TASK_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService helmTaskExecutor(
+        @Value("${app.config.helm-executor.pool-size}") int poolSize,
+        @Value("${app.config.helm-executor.queue-capacity}") int queueCapacity) {
+        var executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory("helm-task-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Create bounded executor running asynchronous validation jobs.
+     * When the queue is full, new jobs are rejected.
+     *
+     * @param poolSize      maximum number of validation jobs running at the same time
+     * @param queueCapacity maximum number of validation jobs waiting for a free thread
+     * @return Executor for validation jobs
+     */
+    @Bean(name = VALIDATION_JOB_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService validationJobExecutor(
+        @Value("${app.config.jobs.pool-size}") int poolSize,
+        @Value("${app.config.jobs.queue-capacity}") int queueCapacity) {
+        var executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory("validation-job-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Create bounded executor validating charts of a batch in parallel.
+     * When the queue is full, the chart is validated by the calling thread.
+     *
+     * @param poolSize      maximum number of charts validated at the same time
+     * @param queueCapacity maximum number of charts waiting for a free thread
+     * @return Executor for batch validation
+     */
+    @Bean(name = BATCH_VALIDATION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService batchValidationExecutor(
+        @Value("${app.config.batch.pool-size}") int poolSize,
+        @Value("${app.config.batch.queue-capacity}") int queueCapacity) {
+        var executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory("batch-validation-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Create bounded executor validating a chart with many Helm versions in parallel.
+     * When the queue is full, the chart is validated by the calling thread.
+     *
+     * @param poolSize      maximum number of Helm versions validating a chart at the same time
+     * @param queueCapacity maximum number of Helm versions waiting for a free thread
+     * @return Executor for matrix validation
+     */
+    @Bean(name = MATRIX_VALIDATION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService matrixValidationExecutor(
+        @Value("${app.config.matrix.pool-size}") int poolSize,
+        @Value("${app.config.matrix.queue-capacity}") int queueCapacity) {
+        var executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new NamedThreadFactory("matrix-validation-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.onap.sdc.helmvalidator.helm.validation.cache.MappedValidationResultStore;
+import org.onap.sdc.helmvalidator.helm.validation.cache.ValidationResultStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResultStoreConfig {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultStoreConfig.class);
+
+    /**
+     * Create persistent store of validation results, which survives restarts when kept on the charts volume.
+     * When the store is disabled or cannot be opened, results are cached in memory only.
+     *
+     * @param isEnabled     flag indicating if results are stored on disk
+     * @param path          directory of store files
+     * @param maxBytes      maximum size of the store in bytes
+     * @param maxEntries    maximum number of stored results
+     * @param ttlMs         time in milliseconds after which stored result expires
+     * @param meterRegistry registry of application metrics
+     * @return Store of validation results
+     */
+    @Bean(destroyMethod = "close")
+    public ValidationResultStore validationResultStore(
+        @Value("${app.config.result-store.enabled}") boolean isEnabled,
+        @Value("${app.config.result-store.path}") String path,
+        @Value("${app.config.result-store.max-bytes}") long maxBytes,
+        @Value("${app.config.result-store.max-entries}") int maxEntries,
+        @Value("${app.config.result-store.ttl-ms}") long ttlMs,
+        MeterRegistry meterRegistry) {
+        if (!isEnabled) {
+            return ValidationResultStore.DISABLED;
+        }
+        try {
+            return new MappedValidationResultStore(Path.of(path), maxBytes, maxEntries, ttlMs, meterRegistry);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot open persistent store of validation results in {}, it is disabled", path, e);
+            return ValidationResultStore.DISABLED;
+        }
+    }
+}
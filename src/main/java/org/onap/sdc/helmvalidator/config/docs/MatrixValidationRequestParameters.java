@@ -0,0 +1,91 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.config.docs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import org.springframework.web.multipart.MultipartFile;
+
+@Schema
+public class MatrixValidationRequestParameters {
+
+    @Schema(description = "Desired Helm versions which should be used to validate the chart, separated by commas "
+        + "or given in repeated parameters. If parameter is not provided all available versions are used.<br> "
+        + "Allowed formats: <br>"
+        + "- Semantic version [X.Y.Z] e.g. 3.5.2 <br>"
+        + "- All available versions: all <br>"
+        + "- Major version [vX] resolved to all versions with that major version e.g. v3 <br>"
+        + "- Version constraint resolved to all matching versions e.g. ~3.12, ^3.5.0, >=3.10 <3.14")
+    private List<String> versionsDesired;
+
+    @Schema(description = "Helm chart that should be validated (packed in .tgz format)", required = true)
+    private MultipartFile file;
+
+    @Schema(description = "If true, there will be an attempt to lint chart")
+    private Boolean isLinted;
+
+    @Schema(description = "Strict linting marks the chart as invalid if detect any warning")
+    private Boolean isStrictLinted;
+
+    @Schema(description = "If true, each result contains structured diagnostics "
+        + "(severity, file, line, column, rule and message) next to the lists of messages")
+    private Boolean withDiagnostics;
+
+    public List<String> getVersionsDesired() {
+        return versionsDesired;
+    }
+
+    public void setVersionsDesired(List<String> versionsDesired) {
+        this.versionsDesired = versionsDesired;
+    }
+
+    public MultipartFile getFile() {
+        return file;
+    }
+
+    public void setFile(MultipartFile file) {
+        this.file = file;
+    }
+
+    public boolean getIsLinted() {
+        return isLinted;
+    }
+
+    public void setIsLinted(boolean linted) {
+        isLinted = linted;
+    }
+
+    public boolean getIsStrictLinted() {
+        return isStrictLinted;
+    }
+
+    public void setIsStrictLinted(boolean strictLinted) {
+        isStrictLinted = strictLinted;
+    }
+
+    public boolean getWithDiagnostics() {
+        return withDiagnostics;
+    }
+
+    public void setWithDiagnostics(boolean withDiagnostics) {
+        this.withDiagnostics = withDiagnostics;
+    }
+}
@@ -29,13 +29,15 @@ public class ValidationRequestParameters {
 
     @Schema(description = "Desired Helm version which should be used to validate the chart. "
         + "If parameter is not provided validation is processing with version based on chart's apiVersion."
-        + " Version could be provided in 'semantic version' or 'major version'.<br> "
+        + " Version could be provided in 'semantic version', 'major version' or 'version constraint'.<br> "
         + "Allowed formats: <br>"
         + "- Semantic version [X.Y.Z] e.g. 3.5.2 <br>"
-        + "- Major version [vX] e.g. v3")
+        + "- Major version [vX] e.g. v3 <br>"
+        + "- Version constraint resolved to the newest matching version e.g. ~3.12, ^3.5.0, >=3.10 <3.14")
     private String versionDesired;
 
-    @Schema(description = "Helm chart that should be validated (packed in .tgz format)", required = true)
+    @Schema(description = "Helm chart that should be validated (packed in .tgz format). Not required when "
+        + "result of validation of its digest sent in X-Chart-Digest header is known")
     private MultipartFile file;
 
     @Schema(description = "If true, there will be an attempt to lint chart")
@@ -44,6 +46,14 @@ public class ValidationRequestParameters {
     @Schema(description = "Strict linting marks the chart as invalid if detect any warning")
     private Boolean isStrictLinted;
 
+    @Schema(description = "If true, result of synchronous validation contains structured diagnostics "
+        + "(severity, file, line, column, rule and message) next to the lists of messages")
+    private Boolean withDiagnostics;
+
+    @Schema(description = "If true, result of synchronous validation contains time in milliseconds spent in each "
+        + "validation phase, which is also returned in Server-Timing header")
+    private Boolean withTimings;
+
     public String getVersionDesired() {
         return versionDesired;
     }
@@ -75,4 +85,20 @@ public class ValidationRequestParameters {
     public void setIsStrictLinted(boolean strictLinted) {
         isStrictLinted = strictLinted;
     }
+
+    public boolean getWithDiagnostics() {
+        return withDiagnostics;
+    }
+
+    public void setWithDiagnostics(boolean withDiagnostics) {
+        this.withDiagnostics = withDiagnostics;
+    }
+
+    public boolean getWithTimings() {
+        return withTimings;
+    }
+
+    public void setWithTimings(boolean withTimings) {
+        this.withTimings = withTimings;
+    }
 }
@@ -20,19 +20,41 @@
 
 package org.onap.sdc.helmvalidator.errorhandling;
 
+import org.onap.sdc.helmvalidator.api.BatchValidationController;
+import org.onap.sdc.helmvalidator.api.KubeProfileValidationController;
+import org.onap.sdc.helmvalidator.api.MatrixValidationController;
 import org.onap.sdc.helmvalidator.api.ValidationController;
+import org.onap.sdc.helmvalidator.api.ValidationJobController;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ChartTooLargeException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmOutputLimitExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmQueueTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidBatchRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartDigestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidValidationRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileVersionException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.UnsafeArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationJobNotFoundException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationResultNotFoundException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.ApiVersionNotFoundException;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.NotSupportedApiVersionException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.ReadFileException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-@RestControllerAdvice(assignableTypes = ValidationController.class)
+@RestControllerAdvice(assignableTypes = {
+    ValidationController.class, ValidationJobController.class, BatchValidationController.class,
+    MatrixValidationController.class, KubeProfileValidationController.class})
 public class ValidationErrorHandler {
 
     /**
@@ -77,6 +99,34 @@ public class ValidationErrorHandler {
         );
     }
 
+    /**
+     * NotSupportedKubeProfileException handler.
+     *
+     * @param exception Exception that occurs when not configured Kubernetes capability profile is requested
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = NotSupportedKubeProfileException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(NotSupportedKubeProfileException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * NotSupportedKubeProfileVersionException handler.
+     *
+     * @param exception Exception that occurs when Helm version does not support Kubernetes capability profiles
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = NotSupportedKubeProfileVersionException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(NotSupportedKubeProfileVersionException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
     /**
      * ApiVersionNotFoundException handler.
      *
@@ -119,6 +169,202 @@ public class ValidationErrorHandler {
         );
     }
 
+    /**
+     * HelmCapacityExceededException handler.
+     *
+     * @param exception Exception that occurs when the queue of Helm executions is full
+     * @return ResponseEntity with ValidationErrorResponse and Retry-After header created from given exception
+     */
+    @ExceptionHandler(value = HelmCapacityExceededException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(HelmCapacityExceededException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.TOO_MANY_REQUESTS,
+            exception.getRetryAfterSeconds()
+        );
+    }
+
+    /**
+     * HelmQueueTimeoutException handler.
+     *
+     * @param exception Exception that occurs when Helm execution waits too long for a free slot
+     * @return ResponseEntity with ValidationErrorResponse and Retry-After header created from given exception
+     */
+    @ExceptionHandler(value = HelmQueueTimeoutException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(HelmQueueTimeoutException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.SERVICE_UNAVAILABLE,
+            exception.getRetryAfterSeconds()
+        );
+    }
+
+    /**
+     * HelmTimeoutException handler.
+     *
+     * @param exception Exception that occurs when Helm execution exceeds its timeout
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = HelmTimeoutException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(HelmTimeoutException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.UNPROCESSABLE_ENTITY
+        );
+    }
+
+    /**
+     * HelmOutputLimitExceededException handler.
+     *
+     * @param exception Exception that occurs when Helm execution is terminated because its output exceeds limits
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = HelmOutputLimitExceededException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(HelmOutputLimitExceededException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.UNPROCESSABLE_ENTITY
+        );
+    }
+
+    /**
+     * ChartTooLargeException handler.
+     *
+     * @param exception Exception that occurs when uploaded Helm chart exceeds maximum size
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = ChartTooLargeException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(ChartTooLargeException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.PAYLOAD_TOO_LARGE
+        );
+    }
+
+    /**
+     * ArchiveLimitExceededException handler.
+     *
+     * @param exception Exception that occurs when Helm chart archive exceeds one of archive limits
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = ArchiveLimitExceededException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(ArchiveLimitExceededException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.PAYLOAD_TOO_LARGE
+        );
+    }
+
+    /**
+     * UnsafeArchiveException handler.
+     *
+     * @param exception Exception that occurs when Helm chart contains entry pointing outside of the chart
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = UnsafeArchiveException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(UnsafeArchiveException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * InvalidChartArchiveException handler.
+     *
+     * @param exception Exception that occurs when uploaded Helm chart is not a readable chart archive
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = InvalidChartArchiveException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(InvalidChartArchiveException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * ValidationJobNotFoundException handler.
+     *
+     * @param exception Exception that occurs when requested validation job does not exist or has expired
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = ValidationJobNotFoundException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(ValidationJobNotFoundException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.NOT_FOUND
+        );
+    }
+
+    /**
+     * InvalidChartDigestException handler.
+     *
+     * @param exception Exception that occurs when digest of Helm chart is not SHA-256 digest in hex
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = InvalidChartDigestException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(InvalidChartDigestException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * ValidationResultNotFoundException handler.
+     *
+     * @param exception Exception that occurs when result of validation of given chart is not known
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = ValidationResultNotFoundException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(ValidationResultNotFoundException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.NOT_FOUND
+        );
+    }
+
+    /**
+     * InvalidBatchRequestException handler.
+     *
+     * @param exception Exception that occurs when batch of charts is missing, malformed or too big
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = InvalidBatchRequestException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(InvalidBatchRequestException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * InvalidValidationRequestException handler.
+     *
+     * @param exception Exception that occurs when neither Helm chart nor its digest with version is sent
+     * @return ResponseEntity with ValidationErrorResponse created from given exception
+     */
+    @ExceptionHandler(value = InvalidValidationRequestException.class)
+    public ResponseEntity<ValidationErrorResponse> handle(InvalidValidationRequestException exception) {
+        return getErrorResponseEntity(
+            exception.getMessage(),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    private ResponseEntity<ValidationErrorResponse> getErrorResponseEntity(String errorMessage, HttpStatus status,
+        long retryAfterSeconds) {
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(errorMessage);
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return new ResponseEntity<>(
+            errorResponse,
+            headers,
+            status
+        );
+    }
+
     private ResponseEntity<ValidationErrorResponse> getErrorResponseEntity(String errorMessage, HttpStatus status) {
         ValidationErrorResponse errorResponse = new ValidationErrorResponse(errorMessage);
         return new ResponseEntity<>(
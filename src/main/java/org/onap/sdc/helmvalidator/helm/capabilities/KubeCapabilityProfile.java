@@ -0,0 +1,132 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.capabilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.onap.sdc.helmvalidator.helm.versions.HelmVersion;
+
+/**
+ * Named set of Kubernetes cluster capabilities, passed to Helm template so charts gated on
+ * '.Capabilities.KubeVersion' or '.Capabilities.APIVersions' render as on a cluster with these capabilities.
+ */
+public class KubeCapabilityProfile {
+
+    // Helm template accepts --kube-version only since 3.6.0
+    public static final String MINIMAL_HELM_VERSION = "3.6.0";
+
+    private static final String KUBE_VERSION_FLAG = "--kube-version";
+    private static final String API_VERSIONS_FLAG = "--api-versions";
+    private static final String API_VERSIONS_DELIMITER = ",";
+    private static final HelmVersion MINIMAL_PARSED_HELM_VERSION = HelmVersion.parse(MINIMAL_HELM_VERSION)
+        .orElseThrow();
+
+    private final String name;
+    private final String kubeVersion;
+    private final List<String> apiVersions;
+    private final String fingerprint;
+
+    /**
+     * Kubernetes capability profile.
+     * @param name name of the profile selected in requests
+     * @param kubeVersion Kubernetes version, e.g. 1.27.0 or v1.27
+     * @param apiVersions API versions available in addition to the built-in ones, e.g. monitoring.coreos.com/v1
+     */
+    public KubeCapabilityProfile(String name, String kubeVersion, List<String> apiVersions) {
+        this.name = name;
+        this.kubeVersion = kubeVersion;
+        this.apiVersions = List.copyOf(apiVersions);
+        this.fingerprint = DigestUtils.sha256Hex(kubeVersion + '\n' + String.join("\n", this.apiVersions));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKubeVersion() {
+        return kubeVersion;
+    }
+
+    public List<String> getApiVersions() {
+        return apiVersions;
+    }
+
+    /**
+     * Digest of capabilities of the profile, independent of its name, so validation results are not reused
+     * after the capabilities of a profile change.
+     * @return SHA-256 digest of Kubernetes version and API versions in hex
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Builds Helm template flags setting capabilities of the profile.
+     * @return flags passed to Helm template
+     */
+    public List<String> toTemplateFlags() {
+        List<String> flags = new ArrayList<>(List.of(KUBE_VERSION_FLAG, kubeVersion));
+        if (!apiVersions.isEmpty()) {
+            flags.add(API_VERSIONS_FLAG);
+            flags.add(String.join(API_VERSIONS_DELIMITER, apiVersions));
+        }
+        return flags;
+    }
+
+    /**
+     * Checks if Helm template of given Helm version accepts flags setting capabilities of profiles.
+     * @param helmVersion version of Helm client
+     * @return true if Helm version is at least {@value #MINIMAL_HELM_VERSION}
+     */
+    public static boolean isSupportedBy(String helmVersion) {
+        return HelmVersion.parse(helmVersion)
+            .map(version -> version.compareTo(MINIMAL_PARSED_HELM_VERSION) >= 0)
+            .orElse(false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        KubeCapabilityProfile that = (KubeCapabilityProfile) other;
+        return name.equals(that.name) && fingerprint.equals(that.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, fingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "KubeCapabilityProfile{" +
+            " name=" + name +
+            ", kubeVersion=" + kubeVersion +
+            ", apiVersions=" + apiVersions +
+            " }";
+    }
+}
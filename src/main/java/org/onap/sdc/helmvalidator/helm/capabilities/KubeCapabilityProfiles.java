@@ -0,0 +1,136 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.capabilities;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registry of Kubernetes capability profiles, read once from a JSON file mapping profile name to its
+ * 'kubeVersion' and 'apiVersions', e.g. {"k8s-1.27": {"kubeVersion": "1.27.0", "apiVersions": ["policy/v1"]}}.
+ * Invalid profiles are ignored, and a missing or unreadable file leaves the registry empty.
+ */
+@Service
+public class KubeCapabilityProfiles {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KubeCapabilityProfiles.class);
+    private static final String ALL_PROFILES = "all";
+    private static final String KUBE_VERSION_FIELD = "kubeVersion";
+    private static final String API_VERSIONS_FIELD = "apiVersions";
+    private static final Pattern PROFILE_NAME = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Pattern KUBE_VERSION = Pattern.compile("v?\\d{1,9}\\.\\d{1,9}(\\.\\d{1,9})?");
+    private static final Pattern API_VERSION = Pattern.compile("[A-Za-z0-9._/-]{1,253}");
+
+    private final Map<String, KubeCapabilityProfile> profiles;
+
+    /**
+     * Reads Kubernetes capability profiles.
+     *
+     * @param profilesPath path of JSON file with profiles, blank when no profiles are configured
+     */
+    public KubeCapabilityProfiles(@Value("${app.config.kube-profiles.path}") String profilesPath) {
+        this.profiles = profilesPath.isBlank() ? Map.of() : readProfiles(Paths.get(profilesPath));
+        LOGGER.info("Kubernetes capability profiles: {}", profiles.keySet());
+    }
+
+    /**
+     * Retrieves all configured profiles.
+     *
+     * @return profiles in order of the configuration file
+     */
+    public List<KubeCapabilityProfile> getProfiles() {
+        return List.copyOf(profiles.values());
+    }
+
+    /**
+     * Resolves names of requested profiles. 'all', as well as no requested name, selects every configured profile.
+     *
+     * @param profileNames names of requested profiles
+     * @return distinct profiles in requested order
+     */
+    public List<KubeCapabilityProfile> resolveProfiles(List<String> profileNames) {
+        if (profileNames == null || profileNames.isEmpty()) {
+            return resolveProfiles(List.of(ALL_PROFILES));
+        }
+        Set<KubeCapabilityProfile> resolvedProfiles = new LinkedHashSet<>();
+        for (String profileName : profileNames) {
+            String name = profileName.trim();
+            if (ALL_PROFILES.equals(name) && !profiles.isEmpty()) {
+                resolvedProfiles.addAll(profiles.values());
+            } else {
+                resolvedProfiles.add(Optional.ofNullable(profiles.get(name))
+                    .orElseThrow(() -> new NotSupportedKubeProfileException(name)));
+            }
+        }
+        return List.copyOf(resolvedProfiles);
+    }
+
+    private static Map<String, KubeCapabilityProfile> readProfiles(Path profilesPath) {
+        JsonNode root;
+        try {
+            root = new ObjectMapper().readTree(Files.readAllBytes(profilesPath));
+        } catch (IOException e) {
+            LOGGER.warn("Cannot read Kubernetes capability profiles from: {}, error: {}", profilesPath,
+                e.getMessage());
+            return Map.of();
+        }
+        Map<String, KubeCapabilityProfile> readProfiles = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            parseProfile(field.getKey(), field.getValue())
+                .ifPresent(profile -> readProfiles.put(profile.getName(), profile));
+        }
+        return Collections.unmodifiableMap(readProfiles);
+    }
+
+    private static Optional<KubeCapabilityProfile> parseProfile(String name, JsonNode definition) {
+        String kubeVersion = definition.path(KUBE_VERSION_FIELD).asText("");
+        List<String> apiVersions = new ArrayList<>();
+        definition.path(API_VERSIONS_FIELD).forEach(apiVersion -> apiVersions.add(apiVersion.asText("")));
+        if (!PROFILE_NAME.matcher(name).matches() || ALL_PROFILES.equals(name)
+            || !KUBE_VERSION.matcher(kubeVersion).matches()
+            || !apiVersions.stream().allMatch(apiVersion -> API_VERSION.matcher(apiVersion).matches())) {
+            LOGGER.warn("Ignoring Kubernetes capability profile: {}, it is not valid: {}", name, definition);
+            return Optional.empty();
+        }
+        return Optional.of(new KubeCapabilityProfile(name, kubeVersion, apiVersions));
+    }
+}
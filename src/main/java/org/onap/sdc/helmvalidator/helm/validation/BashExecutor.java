@@ -20,15 +20,27 @@
 
 package org.onap.sdc.helmvalidator.helm.validation;
 
-import java.io.BufferedReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmOutputLimitExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
 import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.jfr.HelmOutputReadEvent;
+import org.onap.sdc.helmvalidator.jfr.HelmProcessEvent;
+import org.onap.sdc.helmvalidator.jfr.HelmSlotWaitEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -37,16 +49,153 @@ public class BashExecutor {
     private static final Logger LOGGER = LoggerFactory.getLogger(
         BashExecutor.class);
 
-    BashOutput execute(String helmCommand) {
+    private final HelmProcessLimiter processLimiter;
 
+    private final Counter timeoutCounter;
+
+    private final Counter truncationCounter;
+
+    private final long maxOutputBytes;
+
+    private final int maxOutputLines;
+
+    private final boolean killOnOutputLimit;
+
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "helm-process-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructor for BashExecutor.
+     *
+     * @param processLimiter    object limiting number of concurrently running Helm processes
+     * @param meterRegistry     registry of application metrics
+     * @param maxOutputBytes    maximum number of captured bytes of process output
+     * @param maxOutputLines    maximum number of captured lines of process output
+     * @param killOnOutputLimit flag deciding if process is killed once its output exceeds the limits
+     */
+    public BashExecutor(HelmProcessLimiter processLimiter, MeterRegistry meterRegistry,
+        @Value("${app.config.helm-output.max-bytes}") long maxOutputBytes,
+        @Value("${app.config.helm-output.max-lines}") int maxOutputLines,
+        @Value("${app.config.helm-output.kill-on-limit}") boolean killOnOutputLimit) {
+        this.processLimiter = processLimiter;
+        this.timeoutCounter = Counter.builder("helm.process.timeouts")
+            .description("Number of Helm processes killed after exceeding their timeout")
+            .register(meterRegistry);
+        this.truncationCounter = Counter.builder("helm.output.truncations")
+            .description("Number of Helm processes whose output exceeded capture limits")
+            .register(meterRegistry);
+        this.maxOutputBytes = maxOutputBytes;
+        this.maxOutputLines = maxOutputLines;
+        this.killOnOutputLimit = killOnOutputLimit;
+    }
+
+    BashOutput execute(List<String> command, long timeoutMs) {
+
+        long queueTimeNanos = acquireProcessSlot();
+        try {
+            return run(command, timeoutMs, queueTimeNanos, false);
+        } finally {
+            processLimiter.release();
+        }
+    }
+
+    /**
+     * Runs command in a process slot reserved earlier with {@link #reserveSlots(int)}. The slot is not released.
+     *
+     * @param command   command to be run
+     * @param timeoutMs maximum time in milliseconds of command execution
+     * @return exit value and output of the command
+     */
+    BashOutput executeInReservedSlot(List<String> command, long timeoutMs) {
+        return executeInReservedSlot(command, timeoutMs, false);
+    }
+
+    /**
+     * Runs command in a process slot reserved earlier with {@link #reserveSlots(int)}. The slot is not released.
+     * Discarded standard output is drained by the operating system without being read, so only error output is
+     * captured and checked against output limits.
+     *
+     * @param command           command to be run
+     * @param timeoutMs         maximum time in milliseconds of command execution
+     * @param isOutputDiscarded flag deciding if standard output of the command is discarded
+     * @return exit value and output of the command
+     */
+    BashOutput executeInReservedSlot(List<String> command, long timeoutMs, boolean isOutputDiscarded) {
+        return run(command, timeoutMs, 0, isOutputDiscarded);
+    }
+
+    /**
+     * Reserves slots for given number of Helm processes at once, so either all of them are admitted or none.
+     *
+     * @param processes number of Helm processes
+     * @return number of reserved slots, to be released with {@link #releaseSlots(int)}
+     */
+    int reserveSlots(int processes) {
+        var slotWaitEvent = new HelmSlotWaitEvent();
+        slotWaitEvent.begin();
+        var acquired = false;
+        try {
+            int slots = processLimiter.acquire(processes);
+            acquired = true;
+            return slots;
+        } finally {
+            slotWaitEvent.complete(acquired);
+        }
+    }
+
+    void releaseSlots(int slots) {
+        processLimiter.release(slots);
+    }
+
+    private BashOutput run(List<String> command, long timeoutMs, long queueTimeNanos, boolean isOutputDiscarded) {
         try {
-            var processBuilder = new ProcessBuilder("/bin/bash", "-c", helmCommand);
-            processBuilder.redirectErrorStream(true);
+            var processBuilder = new ProcessBuilder(command);
+            if (isOutputDiscarded) {
+                processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            } else {
+                processBuilder.redirectErrorStream(true);
+            }
             LOGGER.debug("Start process");
+            var processEvent = new HelmProcessEvent();
+            processEvent.begin();
+            long spawnStart = System.nanoTime();
             var process = processBuilder.start();
+            long spawnDuration = System.nanoTime() - spawnStart;
+
+            var timedOut = new AtomicBoolean(false);
+            ScheduledFuture<?> timeout = watchdog.schedule(() -> {
+                timedOut.set(true);
+                LOGGER.warn("Helm process {} exceeded timeout, killing process tree", process.pid());
+                killProcessTree(process);
+            }, timeoutMs, TimeUnit.MILLISECONDS);
 
-            List<String> processOutput = readOutputAndCloseProcess(process);
-            return new BashOutput(process.exitValue(), processOutput);
+            HelmOutputCapture processOutput;
+            try {
+                processOutput = readOutputAndCloseProcess(process,
+                    isOutputDiscarded ? process.getErrorStream() : process.getInputStream());
+            } finally {
+                timeout.cancel(false);
+            }
+            processEvent.complete(String.join(" ", command), process.pid(), spawnDuration, process.exitValue(),
+                timedOut.get());
+
+            if (timedOut.get()) {
+                timeoutCounter.increment();
+                throw new HelmTimeoutException(
+                    "Helm execution exceeded timeout of " + timeoutMs + " ms and was terminated");
+            }
+            if (processOutput.isTruncated()) {
+                truncationCounter.increment();
+            }
+            if (processOutput.isStoppedOnLimit()) {
+                // Exit value of a process killed here does not tell if the chart is valid
+                throw new HelmOutputLimitExceededException("Helm output exceeded limits of " + maxOutputBytes
+                    + " bytes or " + maxOutputLines + " lines and Helm execution was terminated");
+            }
+            return processOutput.toBashOutput(process.exitValue(), queueTimeNanos);
         } catch (IOException e) {
             throw new BashExecutionException("Error during bash execution: ", e);
         } catch (InterruptedException e) {
@@ -55,17 +204,40 @@ public class BashExecutor {
         }
     }
 
-    private List<String> readOutputAndCloseProcess(Process process) throws IOException, InterruptedException {
+    private long acquireProcessSlot() {
+        long waitStart = System.nanoTime();
+        reserveSlots(1);
+        return System.nanoTime() - waitStart;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private void killProcessTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private HelmOutputCapture readOutputAndCloseProcess(Process process, InputStream inputStream)
+        throws IOException, InterruptedException {
 
-        final var inputStream = process.getInputStream();
-        final List<String> lines = new BufferedReader(new InputStreamReader(inputStream))
-            .lines().collect(Collectors.toList());
+        final var output = new HelmOutputCapture(maxOutputBytes, maxOutputLines);
+        var outputReadEvent = new HelmOutputReadEvent();
+        outputReadEvent.begin();
+        output.readFrom(inputStream, killOnOutputLimit);
+        outputReadEvent.complete(output.getCapturedBytes(), output.getCapturedLines(), output.isTruncated());
+        if (output.isStoppedOnLimit()) {
+            LOGGER.warn("Helm process {} exceeded output limits, killing process tree", process.pid());
+            killProcessTree(process);
+        }
 
         // For compatibility with Helm2 and Helm3
         process.waitFor();
         inputStream.close();
         process.destroy();
 
-        return lines;
+        return output;
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.onap.sdc.helmvalidator.config.HelmExecutorConfig;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ChartTooLargeException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidBatchRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class BatchValidationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchValidationService.class);
+    private static final List<String> CHART_EXTENSIONS = List.of(".tgz", ".tar.gz");
+
+    private final ValidationService validationService;
+    private final FileManager fileManager;
+    private final ChartIngestor chartIngestor;
+    private final Executor batchExecutor;
+    private final int maxCharts;
+
+    /**
+     * Constructor for BatchValidationService.
+     *
+     * @param validationService object responsible for validation of saved charts
+     * @param fileManager       object responsible for file managing
+     * @param chartIngestor     object saving uploaded charts in a single pass
+     * @param batchExecutor     bounded executor validating charts of a batch in parallel
+     * @param maxCharts         maximum number of charts in a single batch
+     */
+    public BatchValidationService(
+        ValidationService validationService, FileManager fileManager, ChartIngestor chartIngestor,
+        @Qualifier(HelmExecutorConfig.BATCH_VALIDATION_EXECUTOR) Executor batchExecutor,
+        @Value("${app.config.batch.max-charts}") int maxCharts) {
+        this.validationService = validationService;
+        this.fileManager = fileManager;
+        this.chartIngestor = chartIngestor;
+        this.batchExecutor = batchExecutor;
+        this.maxCharts = maxCharts;
+    }
+
+    /**
+     * Validates many Helm charts in parallel. Charts are provided either as separate files or as a single
+     * archive of packaged charts. Identical charts are validated only once. A chart which cannot be saved, because it
+     * is not a readable chart archive or exceeds archive limits, is reported in its entry and does not affect
+     * validation of other charts.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param files          packaged Helm chart files
+     * @param archive        archive (.tar.gz) of packaged Helm chart files
+     * @param isLinted       flag deciding if charts should be linted
+     * @param isStrictLinted flag deciding if charts should be linted with strict option turned on
+     * @return Results of validation keyed by chart file name
+     */
+    public Map<String, BatchValidationEntry> process(String desiredVersion, List<MultipartFile> files,
+        MultipartFile archive, boolean isLinted, boolean isStrictLinted) {
+        Map<String, ChartDescriptor> savedCharts = new LinkedHashMap<>();
+        Map<String, RuntimeException> rejectedCharts = new HashMap<>();
+        try {
+            if (archive != null && (files == null || files.isEmpty())) {
+                saveArchivedCharts(archive, savedCharts, rejectedCharts);
+            } else if (archive == null && files != null && !files.isEmpty()) {
+                saveFiles(files, savedCharts, rejectedCharts);
+            } else {
+                throw new InvalidBatchRequestException("Either chart files or a single archive of charts is required");
+            }
+            if (savedCharts.isEmpty()) {
+                throw new InvalidBatchRequestException("No Helm charts found in the batch");
+            }
+            return validateSavedCharts(desiredVersion, savedCharts, rejectedCharts, isLinted, isStrictLinted);
+        } finally {
+            savedCharts.values().stream()
+                .filter(Objects::nonNull)
+                .forEach(chart -> fileManager.removeFile(chart.getPath()));
+        }
+    }
+
+    private void saveFiles(List<MultipartFile> files, Map<String, ChartDescriptor> savedCharts,
+        Map<String, RuntimeException> rejectedCharts) {
+        checkBatchSize(files.size());
+        for (MultipartFile file : files) {
+            saveChart(uniqueName(savedCharts, file.getOriginalFilename()), () -> chartIngestor.ingest(file),
+                savedCharts, rejectedCharts);
+        }
+    }
+
+    private void saveArchivedCharts(MultipartFile archive, Map<String, ChartDescriptor> savedCharts,
+        Map<String, RuntimeException> rejectedCharts) {
+        try (InputStream inputStream = archive.getInputStream();
+            var tarStream = new TarArchiveInputStream(new GzipCompressorInputStream(inputStream))) {
+            TarArchiveEntry entry;
+            while ((entry = tarStream.getNextTarEntry()) != null) {
+                if (entry.isFile() && isChart(entry.getName())) {
+                    checkBatchSize(savedCharts.size() + 1);
+                    String chartName = Paths.get(entry.getName()).getFileName().toString();
+                    saveChart(uniqueName(savedCharts, chartName), () -> chartIngestor.ingest(tarStream, chartName),
+                        savedCharts, rejectedCharts);
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidBatchRequestException("Cannot read archive: " + archive.getOriginalFilename(), e);
+        }
+    }
+
+    private static void saveChart(String name, Supplier<ChartDescriptor> ingestion,
+        Map<String, ChartDescriptor> savedCharts, Map<String, RuntimeException> rejectedCharts) {
+        try {
+            savedCharts.put(name, ingestion.get());
+        } catch (InvalidChartArchiveException | ChartTooLargeException | ArchiveLimitExceededException e) {
+            LOGGER.warn("Chart: {} rejected, error: {}", name, e.getMessage());
+            savedCharts.put(name, null);
+            rejectedCharts.put(name, e);
+        }
+    }
+
+    private Map<String, BatchValidationEntry> validateSavedCharts(String desiredVersion,
+        Map<String, ChartDescriptor> savedCharts, Map<String, RuntimeException> rejectedCharts, boolean isLinted,
+        boolean isStrictLinted) {
+        var validations = new ParallelValidations(batchExecutor);
+        Map<String, CompletableFuture<ValidationResult>> validationsByDigest = new HashMap<>();
+        savedCharts.forEach((name, chart) -> {
+            if (chart == null) {
+                validations.add(name, CompletableFuture.failedFuture(rejectedCharts.get(name)));
+                return;
+            }
+            CompletableFuture<ValidationResult> validation = validationsByDigest.get(chart.getResultDigest());
+            if (validation != null) {
+                validations.add(name, validation);
+            } else {
+                validationsByDigest.put(chart.getResultDigest(), validations.submit(name,
+                    () -> validationService.processSavedChart(desiredVersion, chart, name, isLinted, isStrictLinted)));
+            }
+        });
+        LOGGER.info("Validating batch of {} charts, {} unique, {} rejected", savedCharts.size(),
+            validationsByDigest.size(), rejectedCharts.size());
+        return validations.awaitEntries();
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxCharts) {
+            throw new InvalidBatchRequestException("Batch exceeds maximum number of charts: " + maxCharts);
+        }
+    }
+
+    private static boolean isChart(String name) {
+        return CHART_EXTENSIONS.stream().anyMatch(name::endsWith);
+    }
+
+    private static String uniqueName(Map<String, ChartDescriptor> savedCharts, String name) {
+        String baseName = name != null ? name : "chart";
+        String uniqueName = baseName;
+        for (int i = 1; savedCharts.containsKey(uniqueName); i++) {
+            uniqueName = baseName + "[" + i + "]";
+        }
+        return uniqueName;
+    }
+}
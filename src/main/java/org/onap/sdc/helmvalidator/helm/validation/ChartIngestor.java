@@ -0,0 +1,306 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.function.Function;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ChartTooLargeException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.versions.ApiVersionsReader;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimit;
+import org.onap.sdc.helmvalidator.helm.versions.ChartMetadata;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
+import org.onap.sdc.helmvalidator.jfr.ChartFileEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Saves uploaded Helm chart reading it only once: while bytes are stored, their digest and size are
+ * calculated and the same bytes are scanned for main Chart.yaml and checked against archive limits.
+ */
+@Service
+public class ChartIngestor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChartIngestor.class);
+    private static final int DRAIN_BUFFER_SIZE = 8192;
+    private static final String INGESTED_BYTES_METRIC = "chart.ingest.bytes";
+    private static final String LIMIT_BREACHES_METRIC = "chart.archive.limit.breaches";
+    private static final String MOVED = "moved";
+    private static final String COPIED = "copied";
+
+    private final FileManager fileManager;
+    private final ApiVersionsReader apiVersionsReader;
+    private final long maxChartBytes;
+    private final Counter movedBytes;
+    private final Counter copiedBytes;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for ChartIngestor.
+     *
+     * @param fileManager       object responsible for file managing
+     * @param apiVersionsReader object reading metadata of Helm chart
+     * @param maxChartBytes     maximum size of packaged Helm chart in bytes
+     * @param meterRegistry     registry of bytes stored in charts directory and of archive limit breaches
+     */
+    public ChartIngestor(FileManager fileManager, ApiVersionsReader apiVersionsReader,
+        @Value("${app.config.ingest.max-chart-bytes}") long maxChartBytes, MeterRegistry meterRegistry) {
+        this.fileManager = fileManager;
+        this.apiVersionsReader = apiVersionsReader;
+        this.maxChartBytes = maxChartBytes;
+        this.movedBytes = ingestedBytesCounter(meterRegistry, MOVED);
+        this.copiedBytes = ingestedBytesCounter(meterRegistry, COPIED);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Saves uploaded Helm chart. When the upload is spooled on the same file store as charts, it is moved
+     * into place and read once to describe it, otherwise it is copied and described in the same pass.
+     *
+     * @param file packaged Helm chart file
+     * @return Descriptor of saved Helm chart
+     */
+    public ChartDescriptor ingest(MultipartFile file) {
+        if (fileManager.isMoveAvailable()) {
+            return ingestMoved(file);
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            return ingest(inputStream, file.getOriginalFilename());
+        } catch (IOException e) {
+            throw new SaveFileException("Cannot save file: " + file.getOriginalFilename(), e);
+        }
+    }
+
+    /**
+     * Saves uploaded Helm chart for the time of its processing and removes it afterwards.
+     *
+     * @param file       packaged Helm chart file
+     * @param processing processing of saved Helm chart
+     * @param <T>        type of processing result
+     * @return Result of processing
+     */
+    public <T> T processSaved(MultipartFile file, Function<ChartDescriptor, T> processing) {
+        ChartDescriptor chart = ingest(file);
+        try {
+            return processing.apply(chart);
+        } finally {
+            fileManager.removeFile(chart.getPath());
+        }
+    }
+
+    /**
+     * Saves Helm chart read from given stream. The stream is not closed.
+     *
+     * @param inputStream  stream of packaged Helm chart
+     * @param originalName original name of Helm chart package
+     * @return Descriptor of saved Helm chart
+     */
+    public ChartDescriptor ingest(InputStream inputStream, String originalName) {
+        Path chartPath = fileManager.createChartFile();
+        try (OutputStream chartOutput = Files.newOutputStream(chartPath)) {
+            var fileEvent = new ChartFileEvent();
+            fileEvent.begin();
+            ChartDescriptor chart = describe(inputStream, chartOutput, chartPath, originalName);
+            fileEvent.complete(ChartFileEvent.SAVE, chart.getPath(), chart.getSize());
+            fileManager.recordStoredChart(chartPath, chart.getSize());
+            copiedBytes.increment(chart.getSize());
+            return chart;
+        } catch (IOException e) {
+            fileManager.removeFile(chartPath.toString());
+            throw new SaveFileException("Cannot save file: " + originalName, e);
+        } catch (RuntimeException e) {
+            fileManager.removeFile(chartPath.toString());
+            countLimitBreach(e);
+            throw e;
+        }
+    }
+
+    private ChartDescriptor ingestMoved(MultipartFile file) {
+        String originalName = file.getOriginalFilename();
+        if (file.getSize() > maxChartBytes) {
+            limitBreachCounter(ArchiveLimit.COMPRESSED_SIZE).increment();
+            throw chartTooLarge(originalName, maxChartBytes);
+        }
+        Path chartPath = fileManager.moveFile(file);
+        try (InputStream chartInput = Files.newInputStream(chartPath)) {
+            ChartDescriptor chart = describe(chartInput, OutputStream.nullOutputStream(), chartPath, originalName);
+            movedBytes.increment(chart.getSize());
+            return chart;
+        } catch (IOException e) {
+            fileManager.removeFile(chartPath.toString());
+            throw new SaveFileException("Cannot save file: " + originalName, e);
+        } catch (RuntimeException e) {
+            fileManager.removeFile(chartPath.toString());
+            countLimitBreach(e);
+            throw e;
+        }
+    }
+
+    private ChartDescriptor describe(InputStream source, OutputStream output, Path chartPath, String originalName)
+        throws IOException {
+        var ingestStream = new IngestInputStream(source, output, maxChartBytes, originalName);
+        ChartMetadata metadata = readMetadata(ingestStream, originalName);
+        ingestStream.drain();
+        LOGGER.info("Saved file: {} as: {}, size: {}", originalName, chartPath, ingestStream.getSize());
+        return new ChartDescriptor(chartPath.toString(), ingestStream.getDigest(), ingestStream.getSize(), metadata);
+    }
+
+    private ChartMetadata readMetadata(IngestInputStream ingestStream, String originalName) throws IOException {
+        try {
+            return apiVersionsReader.readChartMetadata(ingestStream);
+        } catch (IOException e) {
+            if (ingestStream.isSourceFailed()) {
+                throw e;
+            }
+            throw new InvalidChartArchiveException("Cannot read chart archive: " + originalName, e);
+        }
+    }
+
+    private void countLimitBreach(RuntimeException exception) {
+        if (exception instanceof ChartTooLargeException) {
+            limitBreachCounter(ArchiveLimit.COMPRESSED_SIZE).increment();
+        } else if (exception instanceof ArchiveLimitExceededException) {
+            LOGGER.warn("Chart archive rejected: {}", exception.getMessage());
+            limitBreachCounter(((ArchiveLimitExceededException) exception).getLimit()).increment();
+        }
+    }
+
+    private Counter limitBreachCounter(ArchiveLimit limit) {
+        return Counter.builder(LIMIT_BREACHES_METRIC)
+            .description("Number of uploaded charts rejected for exceeding archive limits, by limit")
+            .tag("limit", limit.getName())
+            .register(meterRegistry);
+    }
+
+    private static Counter ingestedBytesCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder(INGESTED_BYTES_METRIC)
+            .description("Bytes of uploaded charts stored in charts directory, by storage mode")
+            .baseUnit("bytes")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+
+    private static ChartTooLargeException chartTooLarge(String originalName, long maxBytes) {
+        return new ChartTooLargeException(
+            "File: " + originalName + " exceeds maximum chart size of " + maxBytes + " bytes");
+    }
+
+    private static class IngestInputStream extends FilterInputStream {
+
+        private final OutputStream output;
+        private final MessageDigest digest = DigestUtils.getSha256Digest();
+        private final long maxBytes;
+        private final String originalName;
+        private long size;
+        private boolean sourceFailed;
+
+        IngestInputStream(InputStream source, OutputStream output, long maxBytes, String originalName) {
+            super(source);
+            this.output = output;
+            this.maxBytes = maxBytes;
+            this.originalName = originalName;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var singleByte = new byte[1];
+            return read(singleByte, 0, 1) == -1 ? -1 : Byte.toUnsignedInt(singleByte[0]);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = readSource(buffer, offset, length);
+            if (read > 0) {
+                size += read;
+                if (size > maxBytes) {
+                    throw chartTooLarge(originalName, maxBytes);
+                }
+                digest.update(buffer, offset, read);
+                output.write(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var buffer = new byte[DRAIN_BUFFER_SIZE];
+            long skipped = 0;
+            int read;
+            while (skipped < n && (read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped))) != -1) {
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // source is owned by the caller, output by the ingestor
+        }
+
+        void drain() throws IOException {
+            var buffer = new byte[DRAIN_BUFFER_SIZE];
+            while (read(buffer, 0, buffer.length) != -1) {
+                // remaining bytes are written by read
+            }
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        String getDigest() {
+            return Hex.encodeHexString(digest.digest());
+        }
+
+        boolean isSourceFailed() {
+            return sourceFailed;
+        }
+
+        private int readSource(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException e) {
+                sourceFailed = true;
+                throw e;
+            }
+        }
+    }
+}
@@ -22,11 +22,16 @@ package org.onap.sdc.helmvalidator.helm.validation;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.jfr.ChartFileEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,29 +41,129 @@ public class FileManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileManager.class);
     private final String basePath;
+    private final boolean moveAvailable;
+    private final Map<String, Long> storedChartSizes = new ConcurrentHashMap<>();
+    private final AtomicLong storedBytes = new AtomicLong();
 
-    FileManager(@Value("${app.config.charts-base-path}") String basePath) {
+    FileManager(String basePath) {
+        this(basePath, "");
+    }
+
+    /**
+     * Constructor for FileManager.
+     *
+     * @param basePath          directory where charts are stored
+     * @param multipartLocation directory where uploaded multipart files are spooled
+     */
+    @Autowired
+    FileManager(
+        @Value("${app.config.charts-base-path}") String basePath,
+        @Value("${spring.servlet.multipart.location:}") String multipartLocation) {
         this.basePath = basePath;
+        this.moveAvailable = isOnTheSameFileStore(basePath, multipartLocation);
+        LOGGER.info("Moving of uploaded charts into: {} available: {}", basePath, moveAvailable);
     }
 
-    String saveFile(MultipartFile file) {
+    Path createChartFile() {
         LOGGER.debug("Base PATH: {}", basePath);
         try {
-            final var tmpFilePath = Files.createTempFile(Paths.get(basePath), "chart-", ".tgz");
-            LOGGER.info("Attempt to save file : {}", tmpFilePath);
-            Files.copy(file.getInputStream(), tmpFilePath, StandardCopyOption.REPLACE_EXISTING);
-            return tmpFilePath.toString();
+            return Files.createTempFile(Paths.get(basePath), "chart-", ".tgz");
         } catch (IOException e) {
+            throw new SaveFileException("Cannot create file in: " + basePath, e);
+        }
+    }
+
+    /**
+     * Checks if uploaded multipart files are spooled on the same file store as charts,
+     * so they can be moved into place instead of being copied.
+     *
+     * @return true when uploaded files can be moved into charts directory
+     */
+    boolean isMoveAvailable() {
+        return moveAvailable;
+    }
+
+    /**
+     * Moves uploaded file, already spooled to disk, into new chart file.
+     *
+     * @param file uploaded Helm chart file
+     * @return Path of the chart file
+     */
+    Path moveFile(MultipartFile file) {
+        Path chartPath = createChartFile();
+        var fileEvent = new ChartFileEvent();
+        fileEvent.begin();
+        try {
+            LOGGER.debug("Attempt to move file: {} to: {}", file.getOriginalFilename(), chartPath);
+            file.transferTo(chartPath.toFile());
+            fileEvent.complete(ChartFileEvent.MOVE, chartPath.toString(), file.getSize());
+            recordStoredChart(chartPath, file.getSize());
+            return chartPath;
+        } catch (IOException e) {
+            removeFile(chartPath.toString());
             throw new SaveFileException("Cannot save file: " + file.getOriginalFilename(), e);
         }
     }
 
+    /**
+     * Records size of chart file written into charts directory, so it is counted in stored bytes until it is removed.
+     *
+     * @param chartPath path of the chart file created with {@link #createChartFile()}
+     * @param size      number of bytes written into the chart file
+     */
+    void recordStoredChart(Path chartPath, long size) {
+        if (storedChartSizes.putIfAbsent(chartPath.toString(), size) == null) {
+            storedBytes.addAndGet(size);
+        }
+    }
+
     void removeFile(String path) {
+        var fileEvent = new ChartFileEvent();
+        fileEvent.begin();
         try {
             LOGGER.debug("Attempt to delete file : {}", path);
-            Files.deleteIfExists(Paths.get(path));
+            Path filePath = Paths.get(path);
+            long size = fileEvent.isEnabled() ? sizeOfFile(filePath) : 0;
+            Files.deleteIfExists(filePath);
+            fileEvent.complete(ChartFileEvent.DELETE, path, size);
         } catch (IOException e) {
             LOGGER.warn("Cannot delete file: {}, Exception: {}", path, e.getStackTrace());
+        } finally {
+            Long storedSize = storedChartSizes.remove(path);
+            if (storedSize != null) {
+                storedBytes.addAndGet(-storedSize);
+            }
+        }
+    }
+
+    /**
+     * Returns running total of sizes of chart files saved in charts directory and not removed yet. The directory is
+     * not listed, so uploads spooled into the same directory and subdirectories are not included.
+     *
+     * @return Number of bytes of stored chart files
+     */
+    long getStoredBytes() {
+        return storedBytes.get();
+    }
+
+    private static long sizeOfFile(Path path) {
+        try {
+            return Files.isRegularFile(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isOnTheSameFileStore(String basePath, String multipartLocation) {
+        if (multipartLocation == null || multipartLocation.isBlank()) {
+            return false;
+        }
+        try {
+            return Files.getFileStore(Paths.get(basePath)).equals(Files.getFileStore(Paths.get(multipartLocation)));
+        } catch (IOException e) {
+            LOGGER.warn("Cannot compare file stores of: {} and: {}, Exception: {}", basePath, multipartLocation,
+                e.getMessage());
+            return false;
         }
     }
 }
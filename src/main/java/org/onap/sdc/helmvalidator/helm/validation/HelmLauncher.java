@@ -0,0 +1,103 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmCommand;
+import org.onap.sdc.helmvalidator.jfr.HelmCommandEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class HelmLauncher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HelmLauncher.class);
+    private static final String HELM_BINARY_PREFIX = "helm-v";
+    private static final String PATH_ENV = "PATH";
+
+    private final BashExecutor executor;
+
+    private final Map<String, String> helmBinaries = new ConcurrentHashMap<>();
+
+    public HelmLauncher(BashExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs Helm command directly, without spawning a shell, in a process slot reserved earlier with
+     * {@link #reserveSlots(int)}. Standard output of a subcommand which does not return it is discarded.
+     *
+     * @param command   Helm command to be run
+     * @param timeoutMs maximum time in milliseconds of command execution
+     * @return exit value and output of the command
+     */
+    BashOutput launch(HelmCommand command, long timeoutMs) {
+        var commandEvent = new HelmCommandEvent();
+        commandEvent.begin();
+        BashOutput output = executor.executeInReservedSlot(
+            command.toArguments(resolveBinary(command.getVersion())), timeoutMs,
+            !command.getSubcommand().isOutputReturned());
+        commandEvent.complete(command.getVersion(), command.getSubcommand().getName(), command.getChartPath(),
+            output.getExitValue(), output.isTruncated());
+        return output;
+    }
+
+    /**
+     * Reserves process slots for given number of Helm commands at once, so either all of them are admitted or none.
+     *
+     * @param commands number of Helm commands
+     * @return number of reserved slots, to be released with {@link #releaseSlots(int)}
+     */
+    int reserveSlots(int commands) {
+        return executor.reserveSlots(commands);
+    }
+
+    void releaseSlots(int slots) {
+        executor.releaseSlots(slots);
+    }
+
+    String resolveBinary(String version) {
+        return helmBinaries.computeIfAbsent(version, this::findBinaryOnPath);
+    }
+
+    private String findBinaryOnPath(String version) {
+        var binaryName = HELM_BINARY_PREFIX + version;
+        String binary = Optional.ofNullable(System.getenv(PATH_ENV)).stream()
+            .flatMap(path -> Arrays.stream(path.split(File.pathSeparator)))
+            .filter(Predicate.not(String::isBlank))
+            .map(directory -> Path.of(directory, binaryName))
+            .filter(Files::isExecutable)
+            .findFirst()
+            .map(Path::toString)
+            .orElse(binaryName);
+        LOGGER.debug("Helm {} resolved to binary: {}", version, binary);
+        return binary;
+    }
+}
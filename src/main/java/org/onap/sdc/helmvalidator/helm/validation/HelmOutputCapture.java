@@ -0,0 +1,180 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnostic;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticParser;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmOutputLineType;
+
+/**
+ * Captures output of Helm process while it is streamed, classifying every line as soon as it is complete
+ * and parsing error and warning lines into diagnostics in the same pass.
+ * Number of captured lines and bytes is limited, output over the limits is discarded and marks the capture
+ * as truncated. Lines over the limits are still classified, so errors and warnings printed at the end of long
+ * output are kept, within their own limits of the same size.
+ */
+class HelmOutputCapture {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final long maxBytes;
+    private final int maxLines;
+    private final List<String> outputLines = new ArrayList<>();
+    private final List<String> errorLines = new ArrayList<>();
+    private final List<String> warningLines = new ArrayList<>();
+    private final List<HelmDiagnostic> diagnostics = new ArrayList<>();
+    private final ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+    private long capturedBytes;
+    private long classifiedBytes;
+    private boolean truncated;
+    private boolean stoppedOnLimit;
+
+    HelmOutputCapture(long maxBytes, int maxLines) {
+        this.maxBytes = maxBytes;
+        this.maxLines = maxLines;
+    }
+
+    /**
+     * Reads output until its end. When stopWhenTruncated is set, reading stops as soon as output is truncated.
+     *
+     * @param inputStream       output of Helm process
+     * @param stopWhenTruncated flag deciding if reading stops once limits are exceeded
+     * @return true when reading stopped before end of the output
+     * @throws IOException when output cannot be read
+     */
+    boolean readFrom(InputStream inputStream, boolean stopWhenTruncated) throws IOException {
+        var buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            var lineStart = 0;
+            for (var i = 0; i < read; i++) {
+                if (buffer[i] == NEW_LINE) {
+                    append(buffer, lineStart, i - lineStart);
+                    endLine();
+                    lineStart = i + 1;
+                }
+            }
+            append(buffer, lineStart, read - lineStart);
+            if (stopWhenTruncated && truncated) {
+                stoppedOnLimit = true;
+                return true;
+            }
+        }
+        if (currentLine.size() > 0) {
+            endLine();
+        }
+        return false;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    boolean isStoppedOnLimit() {
+        return stoppedOnLimit;
+    }
+
+    long getCapturedBytes() {
+        return capturedBytes;
+    }
+
+    int getCapturedLines() {
+        return outputLines.size();
+    }
+
+    BashOutput toBashOutput(int exitValue, long queueTimeNanos) {
+        return new BashOutput(exitValue, outputLines, errorLines, warningLines, diagnostics, truncated,
+            queueTimeNanos);
+    }
+
+    private boolean isFull() {
+        return outputLines.size() >= maxLines || capturedBytes >= maxBytes;
+    }
+
+    private void append(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return;
+        }
+        long remainingBytes = maxBytes - currentLine.size();
+        int capturedLength = (int) Math.min(length, remainingBytes);
+        currentLine.write(buffer, offset, capturedLength);
+        if (capturedLength < length) {
+            truncated = true;
+        }
+    }
+
+    private void endLine() {
+        byte[] lineBytes = currentLine.toByteArray();
+        currentLine.reset();
+        int lineLength = lineBytes.length;
+        if (lineLength > 0 && lineBytes[lineLength - 1] == CARRIAGE_RETURN) {
+            lineLength--;
+        }
+        var line = new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8);
+        captureLine(line, lineBytes.length);
+        classifyLine(line, lineBytes.length);
+    }
+
+    private void captureLine(String line, int lineBytes) {
+        if (isFull()) {
+            truncated = true;
+            return;
+        }
+        long remainingBytes = maxBytes - capturedBytes;
+        if (lineBytes > remainingBytes) {
+            truncated = true;
+            byte[] capturedLine = line.getBytes(StandardCharsets.UTF_8);
+            outputLines.add(new String(capturedLine, 0, (int) Math.min(capturedLine.length, remainingBytes),
+                StandardCharsets.UTF_8));
+            capturedBytes = maxBytes;
+            return;
+        }
+        outputLines.add(line);
+        capturedBytes += lineBytes;
+    }
+
+    private void classifyLine(String line, int lineBytes) {
+        HelmOutputLineType lineType = HelmOutputLineType.of(line);
+        if (lineType != HelmOutputLineType.ERROR && lineType != HelmOutputLineType.WARNING) {
+            return;
+        }
+        if (diagnostics.size() >= maxLines || classifiedBytes + lineBytes > maxBytes) {
+            truncated = true;
+            return;
+        }
+        classifiedBytes += lineBytes;
+        if (lineType == HelmOutputLineType.ERROR) {
+            errorLines.add(line);
+        } else {
+            warningLines.add(line);
+        }
+        diagnostics.add(HelmDiagnosticParser.parse(line, lineType));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmQueueTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class HelmProcessLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HelmProcessLimiter.class);
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitMs;
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor for HelmProcessLimiter.
+     *
+     * @param maxConcurrent     maximum number of Helm processes running at the same time
+     * @param maxQueued         maximum number of Helm processes waiting for a free slot
+     * @param maxWaitMs         maximum time in milliseconds a Helm process waits for a free slot
+     * @param retryAfterSeconds time after which a rejected client is advised to retry
+     */
+    public HelmProcessLimiter(
+        @Value("${app.config.helm-processes.max-concurrent}") int maxConcurrent,
+        @Value("${app.config.helm-processes.max-queued}") int maxQueued,
+        @Value("${app.config.helm-processes.max-wait-ms}") long maxWaitMs,
+        @Value("${app.config.helm-processes.retry-after-seconds}") long retryAfterSeconds) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitMs = maxWaitMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Reserves a slot for a Helm process, waiting in a bounded queue when all slots are taken.
+     *
+     * @throws HelmCapacityExceededException when the wait queue is full
+     * @throws HelmQueueTimeoutException     when no slot becomes free within the maximum wait time
+     */
+    void acquire() {
+        acquire(1);
+    }
+
+    /**
+     * Reserves slots for given number of Helm processes at once, so either all of them are admitted or none.
+     * Number of reserved slots is capped at maximum number of concurrently running Helm processes, so when fewer
+     * slots than processes are reserved, the caller has to run the processes one after another.
+     *
+     * @param processes number of Helm processes
+     * @return number of reserved slots, to be released with {@link #release(int)}
+     * @throws HelmCapacityExceededException when the wait queue is full
+     * @throws HelmQueueTimeoutException     when slots do not become free within the maximum wait time
+     */
+    int acquire(int processes) {
+        int slots = Math.min(processes, maxConcurrent);
+        if (permits.tryAcquire(slots)) {
+            return slots;
+        }
+        if (waiting.incrementAndGet() > maxQueued) {
+            waiting.decrementAndGet();
+            LOGGER.warn("Helm process rejected, {} processes running and {} waiting", maxConcurrent, maxQueued);
+            throw new HelmCapacityExceededException(
+                "Too many validations in progress, please retry later", retryAfterSeconds);
+        }
+        try {
+            if (!permits.tryAcquire(slots, maxWaitMs, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Helm process rejected after waiting {} ms for a free slot", maxWaitMs);
+                throw new HelmQueueTimeoutException(
+                    "No free slot for Helm execution within " + maxWaitMs + " ms, please retry later",
+                    retryAfterSeconds);
+            }
+            return slots;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BashExecutionException("Waiting for Helm execution slot interrupted, error: ", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    void release() {
+        release(1);
+    }
+
+    void release(int slots) {
+        permits.release(slots);
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.onap.sdc.helmvalidator.config.HelmExecutorConfig;
+import org.onap.sdc.helmvalidator.helm.capabilities.KubeCapabilityProfile;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class KubeProfileValidationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KubeProfileValidationService.class);
+
+    private final ValidationService validationService;
+    private final ChartIngestor chartIngestor;
+    private final Executor profileExecutor;
+
+    /**
+     * Constructor for KubeProfileValidationService.
+     *
+     * @param validationService object responsible for validation of saved charts
+     * @param chartIngestor     object saving uploaded charts in a single pass
+     * @param profileExecutor   bounded executor rendering the chart with many profiles in parallel
+     */
+    public KubeProfileValidationService(ValidationService validationService, ChartIngestor chartIngestor,
+        @Qualifier(HelmExecutorConfig.MATRIX_VALIDATION_EXECUTOR) Executor profileExecutor) {
+        this.validationService = validationService;
+        this.chartIngestor = chartIngestor;
+        this.profileExecutor = profileExecutor;
+    }
+
+    /**
+     * Validates Helm chart rendered with each of given Kubernetes capability profiles. The chart is saved once,
+     * Helm template runs for each profile in parallel, while Helm lint, whose result does not depend on the profile,
+     * runs once. Failure of validation with any profile is reported in its entry and does not affect validations with
+     * other profiles.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param file           packaged Helm chart file
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @param profiles       Kubernetes capability profiles passed to Helm template
+     * @return Results or errors of validation keyed by profile name, in order of given profiles
+     * @throws NotSupportedKubeProfileVersionException when Helm template of the version does not accept profiles
+     */
+    public Map<String, BatchValidationEntry> process(String desiredVersion, MultipartFile file, boolean isLinted,
+        boolean isStrictLinted, List<KubeCapabilityProfile> profiles) {
+        return chartIngestor.processSaved(file, chart -> {
+            String helmVersion = validationService.getSupportedHelmVersion(desiredVersion, chart);
+            if (!KubeCapabilityProfile.isSupportedBy(helmVersion)) {
+                throw new NotSupportedKubeProfileVersionException(helmVersion,
+                    KubeCapabilityProfile.MINIMAL_HELM_VERSION);
+            }
+            LOGGER.info("Validating file: {} with helm version: {} and {} kube profiles: {}",
+                file.getOriginalFilename(), helmVersion, profiles.size(), profiles);
+            return isLinted
+                ? validateAndLintSavedChart(helmVersion, chart, file.getOriginalFilename(), isStrictLinted, profiles)
+                : validateSavedChart(helmVersion, chart, file.getOriginalFilename(), profiles);
+        });
+    }
+
+    private Map<String, BatchValidationEntry> validateSavedChart(String helmVersion, ChartDescriptor chart,
+        String name, List<KubeCapabilityProfile> profiles) {
+        var validations = new ParallelValidations(profileExecutor);
+        profiles.forEach(profile -> validations.submit(profile.getName(),
+            () -> validationService.processSavedChart(helmVersion, chart, name, false, false, profile)));
+        return validations.awaitEntries();
+    }
+
+    private Map<String, BatchValidationEntry> validateAndLintSavedChart(String helmVersion, ChartDescriptor chart,
+        String name, boolean isStrictLinted, List<KubeCapabilityProfile> profiles) {
+        var validations = new ParallelValidations(profileExecutor);
+        CompletableFuture<LintValidationResult> lintValidation = null;
+        for (KubeCapabilityProfile profile : profiles) {
+            Optional<ValidationResult> cachedResult = validationService.findResult(helmVersion, chart, true,
+                isStrictLinted, profile);
+            if (cachedResult.isPresent()) {
+                validations.add(profile.getName(), CompletableFuture.completedFuture(cachedResult.get()));
+                continue;
+            }
+            if (lintValidation == null) {
+                lintValidation = CompletableFuture.supplyAsync(
+                    () -> validationService.lintSavedChart(helmVersion, chart, isStrictLinted), profileExecutor);
+            }
+            // Results of template without lint are shared with other requests through the single-flight path
+            validations.add(profile.getName(), CompletableFuture.supplyAsync(
+                () -> validationService.processSavedChart(helmVersion, chart, name, false, false, profile),
+                profileExecutor)
+                .thenCombine(lintValidation, (templateResult, lintResult) -> validationService.completeWithLint(
+                    helmVersion, chart, isStrictLinted, profile, templateResult, lintResult)));
+        }
+        return validations.awaitEntries();
+    }
+}
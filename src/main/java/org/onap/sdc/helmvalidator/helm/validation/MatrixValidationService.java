@@ -0,0 +1,90 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.onap.sdc.helmvalidator.config.HelmExecutorConfig;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.versions.SupportedVersionsProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class MatrixValidationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatrixValidationService.class);
+
+    private final ValidationService validationService;
+    private final SupportedVersionsProvider supportedVersionsProvider;
+    private final ChartIngestor chartIngestor;
+    private final Executor matrixExecutor;
+
+    /**
+     * Constructor for MatrixValidationService.
+     *
+     * @param validationService         object responsible for validation of saved charts
+     * @param supportedVersionsProvider object providing supported versions of Helm
+     * @param chartIngestor             object saving uploaded charts in a single pass
+     * @param matrixExecutor            bounded executor validating the chart with many Helm versions in parallel
+     */
+    public MatrixValidationService(
+        ValidationService validationService, SupportedVersionsProvider supportedVersionsProvider,
+        ChartIngestor chartIngestor,
+        @Qualifier(HelmExecutorConfig.MATRIX_VALIDATION_EXECUTOR) Executor matrixExecutor) {
+        this.validationService = validationService;
+        this.supportedVersionsProvider = supportedVersionsProvider;
+        this.chartIngestor = chartIngestor;
+        this.matrixExecutor = matrixExecutor;
+    }
+
+    /**
+     * Validates Helm chart with each of requested Helm versions in parallel. The chart is saved once and shared
+     * by validations with all versions. Failure of validation with any version is reported in its entry and does not
+     * affect validations with other versions.
+     *
+     * @param desiredVersions requested versions of Helm client, each resolved to all matching available versions
+     * @param file            packaged Helm chart file
+     * @param isLinted        flag deciding if chart should be linted
+     * @param isStrictLinted  flag deciding if chart should be linted with strict option turned on
+     * @return Results or errors of validation keyed by Helm version, from the newest one
+     */
+    public Map<String, BatchValidationEntry> process(List<String> desiredVersions, MultipartFile file,
+        boolean isLinted, boolean isStrictLinted) {
+        List<String> helmVersions = supportedVersionsProvider.resolveVersions(desiredVersions);
+        return chartIngestor.processSaved(file, chart -> validateSavedChart(helmVersions, chart,
+            file.getOriginalFilename(), isLinted, isStrictLinted));
+    }
+
+    private Map<String, BatchValidationEntry> validateSavedChart(List<String> helmVersions, ChartDescriptor chart,
+        String name, boolean isLinted, boolean isStrictLinted) {
+        LOGGER.info("Validating file: {} with {} helm versions: {}", name, helmVersions.size(), helmVersions);
+        var validations = new ParallelValidations(matrixExecutor);
+        helmVersions.forEach(helmVersion -> validations.submit(helmVersion,
+            () -> validationService.processSavedChart(helmVersion, chart, name, isLinted, isStrictLinted)));
+        return validations.awaitEntries();
+    }
+}
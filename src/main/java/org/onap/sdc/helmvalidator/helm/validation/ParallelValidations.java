@@ -0,0 +1,91 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Validations of a single request running in parallel, keyed by name, e.g. Helm version, Kubernetes capability
+ * profile or chart file name. Failure of a validation is reported in its entry and does not affect other validations.
+ */
+class ParallelValidations {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelValidations.class);
+
+    private final Executor executor;
+    private final Map<String, CompletableFuture<ValidationResult>> validations = new LinkedHashMap<>();
+
+    ParallelValidations(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts validation on the executor.
+     *
+     * @param name       name of the validation entry
+     * @param validation validation to be run
+     * @return Started validation
+     */
+    CompletableFuture<ValidationResult> submit(String name, Supplier<ValidationResult> validation) {
+        return add(name, CompletableFuture.supplyAsync(validation, executor));
+    }
+
+    /**
+     * Adds validation which is already started, completed or failed, e.g. shared by entries with identical charts.
+     *
+     * @param name       name of the validation entry
+     * @param validation started validation
+     * @return Given validation
+     */
+    CompletableFuture<ValidationResult> add(String name, CompletableFuture<ValidationResult> validation) {
+        validations.put(name, validation);
+        return validation;
+    }
+
+    /**
+     * Waits for all validations.
+     *
+     * @return Results or errors of validations in order in which they were added
+     */
+    Map<String, BatchValidationEntry> awaitEntries() {
+        Map<String, BatchValidationEntry> entries = new LinkedHashMap<>();
+        validations.forEach((name, validation) -> entries.put(name, toEntry(name, validation)));
+        return entries;
+    }
+
+    private static BatchValidationEntry toEntry(String name, CompletableFuture<ValidationResult> validation) {
+        try {
+            return BatchValidationEntry.succeeded(validation.join());
+        } catch (CompletionException e) {
+            LOGGER.warn("Validation: {} failed, error: {}", name, e.getCause().getMessage());
+            return BatchValidationEntry.failed(e.getCause().getMessage());
+        }
+    }
+}
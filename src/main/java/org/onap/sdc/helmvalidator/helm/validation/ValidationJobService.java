@@ -0,0 +1,180 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.onap.sdc.helmvalidator.config.HelmExecutorConfig;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationJobNotFoundException;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationJob;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class ValidationJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationJobService.class);
+
+    private final ValidationService validationService;
+    private final FileManager fileManager;
+    private final ChartIngestor chartIngestor;
+    private final Executor jobExecutor;
+    private final Duration jobTtl;
+    private final long retryAfterSeconds;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, ValidationJob> jobs = new ConcurrentHashMap<>();
+
+    private final Semaphore jobSlots;
+
+    /**
+     * Constructor for ValidationJobService.
+     *
+     * @param validationService object responsible for validation of saved charts
+     * @param fileManager       object responsible for file managing
+     * @param chartIngestor     object saving uploaded charts in a single pass
+     * @param jobExecutor       bounded executor running validation jobs
+     * @param maxJobs           maximum number of jobs kept in the job table
+     * @param jobTtlMs          time in milliseconds after which finished job is removed from the job table
+     * @param retryAfterSeconds time after which a rejected client is advised to retry
+     */
+    @Autowired
+    public ValidationJobService(
+        ValidationService validationService, FileManager fileManager, ChartIngestor chartIngestor,
+        @Qualifier(HelmExecutorConfig.VALIDATION_JOB_EXECUTOR) Executor jobExecutor,
+        @Value("${app.config.jobs.max-jobs}") int maxJobs,
+        @Value("${app.config.jobs.ttl-ms}") long jobTtlMs,
+        @Value("${app.config.helm-processes.retry-after-seconds}") long retryAfterSeconds) {
+        this(validationService, fileManager, chartIngestor, jobExecutor, maxJobs, jobTtlMs, retryAfterSeconds,
+            Clock.systemUTC());
+    }
+
+    ValidationJobService(ValidationService validationService, FileManager fileManager, ChartIngestor chartIngestor,
+        Executor jobExecutor, int maxJobs, long jobTtlMs, long retryAfterSeconds, Clock clock) {
+        this.validationService = validationService;
+        this.fileManager = fileManager;
+        this.chartIngestor = chartIngestor;
+        this.jobExecutor = jobExecutor;
+        this.jobSlots = new Semaphore(maxJobs);
+        this.jobTtl = Duration.ofMillis(jobTtlMs);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * Saves Helm chart package and queues its validation.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param file           packaged Helm chart file
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @return Queued validation job
+     */
+    public ValidationJob submit(String desiredVersion, MultipartFile file, boolean isLinted,
+        boolean isStrictLinted) {
+        removeExpiredJobs();
+        if (!jobSlots.tryAcquire()) {
+            throw new HelmCapacityExceededException("Too many validation jobs in progress, please retry later",
+                retryAfterSeconds);
+        }
+        ChartDescriptor chart;
+        try {
+            chart = chartIngestor.ingest(file);
+        } catch (RuntimeException e) {
+            jobSlots.release();
+            throw e;
+        }
+        String originalName = file.getOriginalFilename();
+        var job = new ValidationJob(UUID.randomUUID().toString(), clock.instant());
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> runJob(job, desiredVersion, chart, originalName, isLinted, isStrictLinted));
+        } catch (RejectedExecutionException e) {
+            removeJob(job);
+            fileManager.removeFile(chart.getPath());
+            throw new HelmCapacityExceededException("Too many validation jobs queued, please retry later",
+                retryAfterSeconds);
+        }
+        LOGGER.info("Validation job: {} queued", job.getId());
+        return job;
+    }
+
+    /**
+     * Retrieves validation job.
+     *
+     * @param jobId identifier of the job
+     * @return Validation job with its current status and result when finished
+     */
+    public ValidationJob getJob(String jobId) {
+        removeExpiredJobs();
+        return Optional.ofNullable(jobs.get(jobId))
+            .orElseThrow(() -> new ValidationJobNotFoundException(jobId));
+    }
+
+    private void runJob(ValidationJob job, String desiredVersion, ChartDescriptor chart, String originalName,
+        boolean isLinted, boolean isStrictLinted) {
+        job.markRunning();
+        try {
+            ValidationResult result = validationService.processSavedChart(desiredVersion, chart, originalName,
+                isLinted, isStrictLinted);
+            job.markSucceeded(result, clock.instant());
+            LOGGER.info("Validation job: {} succeeded", job.getId());
+        } catch (RuntimeException e) {
+            job.markFailed(e.getMessage(), clock.instant());
+            LOGGER.warn("Validation job: {} failed, error: {}", job.getId(), e.getMessage());
+        } catch (Error e) {
+            job.markFailed(e.toString(), clock.instant());
+            LOGGER.error("Validation job: {} failed, error: {}", job.getId(), e.toString());
+            throw e;
+        } finally {
+            fileManager.removeFile(chart.getPath());
+        }
+    }
+
+    private void removeExpiredJobs() {
+        Instant expirationThreshold = clock.instant().minus(jobTtl);
+        jobs.values().stream()
+            .filter(job -> job.getStatus().isFinished() && job.getFinishedAt().isBefore(expirationThreshold))
+            .forEach(this::removeJob);
+    }
+
+    private void removeJob(ValidationJob job) {
+        if (jobs.remove(job.getId(), job)) {
+            jobSlots.release();
+        }
+    }
+}
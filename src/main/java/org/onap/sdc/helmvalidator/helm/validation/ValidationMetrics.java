@@ -0,0 +1,178 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationPhase;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationTimings;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records duration of every phase of chart validation, tagged by Helm version, lint mode and outcome,
+ * both globally and in timings of the validation request, together with gauges of running Helm processes
+ * and of bytes stored in charts directory.
+ */
+@Service
+public class ValidationMetrics {
+
+    static final String PHASE_METRIC = "validation.phase";
+    static final String NO_HELM_VERSION = "none";
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_FAILURE = "failure";
+    static final String OUTCOME_ERROR = "error";
+    static final String LINT_DISABLED = "disabled";
+    static final String LINT_DEFAULT = "default";
+    static final String LINT_STRICT = "strict";
+
+    private static final Duration MIN_EXPECTED_DURATION = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofMinutes(5);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor for ValidationMetrics.
+     *
+     * @param meterRegistry  registry of validation metrics
+     * @param processLimiter limiter of Helm processes, source of running and waiting processes gauges
+     * @param fileManager    object responsible for file managing, source of charts directory size gauge
+     */
+    public ValidationMetrics(MeterRegistry meterRegistry, HelmProcessLimiter processLimiter,
+        FileManager fileManager) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("helm.processes.running", processLimiter, HelmProcessLimiter::getInFlight)
+            .description("Number of Helm processes running")
+            .register(meterRegistry);
+        Gauge.builder("helm.processes.waiting", processLimiter, HelmProcessLimiter::getWaiting)
+            .description("Number of Helm processes waiting for a free slot")
+            .register(meterRegistry);
+        Gauge.builder("charts.directory.size", fileManager, FileManager::getStoredBytes)
+            .description("Bytes of charts stored in charts directory")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    static String lintMode(boolean isLinted, boolean isStrictLinted) {
+        if (!isLinted) {
+            return LINT_DISABLED;
+        }
+        return isStrictLinted ? LINT_STRICT : LINT_DEFAULT;
+    }
+
+    /**
+     * Runs a validation phase and records its duration. The phase fails when it throws an exception.
+     *
+     * @param timings     timings of the validation request
+     * @param phase       validation phase
+     * @param helmVersion version of Helm client used in the phase
+     * @param lintMode    lint mode of the validation
+     * @param action      action of the phase
+     * @return Result of the action
+     */
+    <T> T record(ValidationTimings timings, ValidationPhase phase, String helmVersion, String lintMode,
+        Supplier<T> action) {
+        return record(timings, phase, helmVersion, lintMode, action, result -> true);
+    }
+
+    void record(ValidationTimings timings, ValidationPhase phase, String helmVersion, String lintMode,
+        Runnable action) {
+        record(timings, phase, helmVersion, lintMode, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a validation phase and records its duration. Outcome of the phase is error when it throws an exception,
+     * otherwise success or failure according to given predicate.
+     *
+     * @param timings      timings of the validation request
+     * @param phase        validation phase
+     * @param helmVersion  version of Helm client used in the phase
+     * @param lintMode     lint mode of the validation
+     * @param action       action of the phase
+     * @param isSuccessful predicate deciding if result of the action is successful
+     * @return Result of the action
+     */
+    <T> T record(ValidationTimings timings, ValidationPhase phase, String helmVersion, String lintMode,
+        Supplier<T> action, Predicate<T> isSuccessful) {
+        long start = System.nanoTime();
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = action.get();
+            outcome = isSuccessful.test(result) ? OUTCOME_SUCCESS : OUTCOME_FAILURE;
+            return result;
+        } finally {
+            record(timings, phase, helmVersion, lintMode, outcome, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs Helm and records its duration separately from time the command spent queued, first waiting for a thread
+     * of Helm task executor since it was submitted and then for a free slot of Helm process limiter.
+     *
+     * @param timings        timings of the validation request
+     * @param phase          validation phase run by Helm
+     * @param helmVersion    version of Helm client
+     * @param lintMode       lint mode of the validation
+     * @param submittedNanos value of {@link System#nanoTime()} when the command was submitted
+     * @param launch         action launching Helm
+     * @return Output of Helm
+     */
+    BashOutput recordHelm(ValidationTimings timings, ValidationPhase phase, String helmVersion, String lintMode,
+        long submittedNanos, Supplier<BashOutput> launch) {
+        long start = System.nanoTime();
+        BashOutput output = null;
+        try {
+            output = launch.get();
+            return output;
+        } finally {
+            long slotWaitNanos = output == null ? 0 : output.getQueueTimeNanos();
+            String outcome = output == null ? OUTCOME_ERROR
+                : output.getExitValue() == 0 ? OUTCOME_SUCCESS : OUTCOME_FAILURE;
+            record(timings, ValidationPhase.QUEUE, helmVersion, lintMode, OUTCOME_SUCCESS,
+                start - submittedNanos + slotWaitNanos);
+            record(timings, phase, helmVersion, lintMode, outcome, System.nanoTime() - start - slotWaitNanos);
+        }
+    }
+
+    private void record(ValidationTimings timings, ValidationPhase phase, String helmVersion, String lintMode,
+        String outcome, long durationNanos) {
+        phaseTimer(phase, helmVersion, lintMode, outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+        timings.add(phase, durationNanos);
+    }
+
+    private Timer phaseTimer(ValidationPhase phase, String helmVersion, String lintMode, String outcome) {
+        return Timer.builder(PHASE_METRIC)
+            .description("Duration of chart validation phases")
+            .tags("phase", phase.getName(), "helm.version", helmVersion, "lint", lintMode, "outcome", outcome)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED_DURATION)
+            .maximumExpectedValue(MAX_EXPECTED_DURATION)
+            .register(meterRegistry);
+    }
+}
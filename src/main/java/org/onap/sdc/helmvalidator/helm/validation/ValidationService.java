@@ -23,18 +23,39 @@ package org.onap.sdc.helmvalidator.helm.validation;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.onap.sdc.helmvalidator.config.HelmExecutorConfig;
+import org.onap.sdc.helmvalidator.helm.capabilities.KubeCapabilityProfile;
+import org.onap.sdc.helmvalidator.helm.validation.cache.InFlightValidations;
+import org.onap.sdc.helmvalidator.helm.validation.cache.ValidationCacheKey;
+import org.onap.sdc.helmvalidator.helm.validation.cache.ValidationResultCache;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
-import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartDigestException;
 import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmCommand;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnostic;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticSeverity;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmSubcommand;
 import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
 import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationPhase;
 import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationTimings;
+import org.onap.sdc.helmvalidator.helm.validation.workspace.ChartWorkspace;
+import org.onap.sdc.helmvalidator.helm.validation.workspace.ChartWorkspaceCache;
 import org.onap.sdc.helmvalidator.helm.versions.ChartBasedVersionProvider;
 import org.onap.sdc.helmvalidator.helm.versions.SupportedVersionsProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,38 +63,75 @@ import org.springframework.web.multipart.MultipartFile;
 public class ValidationService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ValidationService.class);
-    private static final String TEMPLATE_OPTION = "template";
-    private static final String LINT_OPTION = "lint";
-    private static final String HELM_SUMMARY_MESSAGE_PATTERN =
-        "Error: \\d* chart\\(s\\) linted, \\d* chart\\(s\\) failed";
+    private static final String STRICT_FLAG = "--strict";
+    private static final String TEMPLATE_ERROR_PREFIX = "Error:";
     private static final String WHITESPACE_CHARACTER = "[\\s]";
     private static final boolean INVALID_RESULT = false;
+    private static final Pattern SHA_256_HEX_PATTERN = Pattern.compile("[0-9a-fA-F]{64}");
 
     private final FileManager fileManager;
 
-    private final BashExecutor executor;
+    private final ChartIngestor chartIngestor;
+
+    private final HelmLauncher helmLauncher;
 
     private final SupportedVersionsProvider supportedVersionsProvider;
 
     private final ChartBasedVersionProvider chartBasedVersionProvider;
 
+    private final ValidationResultCache resultCache;
+
+    private final InFlightValidations inFlightValidations;
+
+    private final ChartWorkspaceCache workspaceCache;
+
+    private final ValidationMetrics validationMetrics;
+
+    private final Executor helmTaskExecutor;
+
+    private final long templateTimeoutMs;
+
+    private final long lintTimeoutMs;
 
     /**
      * Constructor for ValidationService.
      *
      * @param fileManager               object responsible for file manging
-     * @param executor                  object responsible for running shell commands
+     * @param chartIngestor             object saving uploaded charts in a single pass
+     * @param helmLauncher              object responsible for running Helm commands
      * @param supportedVersionsProvider object providing supported versions of Helm
      * @param chartBasedVersionProvider object allowing to derive Helm version from a chart
+     * @param resultCache               cache of validation results
+     * @param inFlightValidations       registry sharing one execution between identical concurrent validations
+     * @param workspaceCache            cache of extracted charts on which Helm commands are run
+     * @param validationMetrics         recorder of durations of validation phases
+     * @param helmTaskExecutor          bounded executor running Helm template and lint concurrently
+     * @param templateTimeoutMs         maximum time in milliseconds of Helm template execution
+     * @param lintTimeoutMs             maximum time in milliseconds of Helm lint execution
      */
     public ValidationService(
-        FileManager fileManager, BashExecutor executor,
+        FileManager fileManager, ChartIngestor chartIngestor, HelmLauncher helmLauncher,
         SupportedVersionsProvider supportedVersionsProvider,
-        ChartBasedVersionProvider chartBasedVersionProvider) {
+        ChartBasedVersionProvider chartBasedVersionProvider,
+        ValidationResultCache resultCache,
+        InFlightValidations inFlightValidations,
+        ChartWorkspaceCache workspaceCache,
+        ValidationMetrics validationMetrics,
+        @Qualifier(HelmExecutorConfig.HELM_TASK_EXECUTOR) Executor helmTaskExecutor,
+        @Value("${app.config.helm-processes.template-timeout-ms}") long templateTimeoutMs,
+        @Value("${app.config.helm-processes.lint-timeout-ms}") long lintTimeoutMs) {
         this.fileManager = fileManager;
-        this.executor = executor;
+        this.chartIngestor = chartIngestor;
+        this.helmLauncher = helmLauncher;
         this.supportedVersionsProvider = supportedVersionsProvider;
         this.chartBasedVersionProvider = chartBasedVersionProvider;
+        this.resultCache = resultCache;
+        this.inFlightValidations = inFlightValidations;
+        this.workspaceCache = workspaceCache;
+        this.validationMetrics = validationMetrics;
+        this.helmTaskExecutor = helmTaskExecutor;
+        this.templateTimeoutMs = templateTimeoutMs;
+        this.lintTimeoutMs = lintTimeoutMs;
     }
 
     /**
@@ -87,34 +145,202 @@ public class ValidationService {
      */
     public ValidationResult process(String desiredVersion, MultipartFile file, boolean isLinted,
         boolean isStrictLinted) {
-        String chartPath = fileManager.saveFile(file);
+        return process(desiredVersion, file, isLinted, isStrictLinted, new ValidationTimings());
+    }
+
+    /**
+     * Process Helm chart package with given options, collecting time spent in each validation phase.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param file           packaged Helm chart file
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @param timings        timings of the validation request
+     * @return Result of Helm chart validation
+     */
+    public ValidationResult process(String desiredVersion, MultipartFile file, boolean isLinted,
+        boolean isStrictLinted, ValidationTimings timings) {
+        String lintMode = ValidationMetrics.lintMode(isLinted, isStrictLinted);
+        ChartDescriptor chart = validationMetrics.record(timings, ValidationPhase.UPLOAD,
+            ValidationMetrics.NO_HELM_VERSION, lintMode, () -> chartIngestor.ingest(file));
         try {
-            String helmVersion = getSupportedHelmVersion(desiredVersion, chartPath);
-            String fileName = replaceBlankCharacters(file.getOriginalFilename());
-            LOGGER.info("Start validation of file: {}, with helm version: {}",
-                fileName, helmVersion);
-            return validateChart(helmVersion, isLinted, isStrictLinted, chartPath);
+            return processSavedChart(desiredVersion, chart, file.getOriginalFilename(), isLinted, isStrictLinted,
+                null, timings);
         } finally {
             LOGGER.info("File process finished");
-            fileManager.removeFile(chartPath);
+            validationMetrics.record(timings, ValidationPhase.CLEANUP, ValidationMetrics.NO_HELM_VERSION, lintMode,
+                () -> fileManager.removeFile(chart.getPath()));
+        }
+    }
+
+    /**
+     * Looks up result of earlier validation of Helm chart package with given digest, so the chart does not have to
+     * be uploaded again. Helm version is required, because version derived from the chart cannot be known without
+     * the chart.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param chartDigest    SHA-256 digest of packaged Helm chart file or content digest of the chart in hex
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @return Result of Helm chart validation or empty when the result is not known
+     * @throws InvalidChartDigestException when digest is not SHA-256 digest in hex
+     */
+    public Optional<ValidationResult> findResult(String desiredVersion, String chartDigest, boolean isLinted,
+        boolean isStrictLinted) {
+        if (!SHA_256_HEX_PATTERN.matcher(chartDigest).matches()) {
+            throw new InvalidChartDigestException(chartDigest);
+        }
+        String helmVersion = supportedVersionsProvider.resolveVersion(desiredVersion);
+        return resultCache.get(new ValidationCacheKey(chartDigest.toLowerCase(Locale.ROOT), helmVersion, isLinted,
+            isStrictLinted));
+    }
+
+    /**
+     * Process already saved Helm chart package with given options. The chart file is not removed.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param chart          descriptor of saved Helm chart package
+     * @param originalName   original name of Helm chart package used for logging
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @return Result of Helm chart validation
+     */
+    ValidationResult processSavedChart(String desiredVersion, ChartDescriptor chart, String originalName,
+        boolean isLinted, boolean isStrictLinted) {
+        return processSavedChart(desiredVersion, chart, originalName, isLinted, isStrictLinted, null,
+            new ValidationTimings());
+    }
+
+    /**
+     * Process already saved Helm chart package rendering it with given Kubernetes capability profile. The chart file
+     * is not removed.
+     *
+     * @param desiredVersion requested version of Helm client to be used
+     * @param chart          descriptor of saved Helm chart package
+     * @param originalName   original name of Helm chart package used for logging
+     * @param isLinted       flag deciding if chart should be linted
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @param kubeProfile    Kubernetes capability profile passed to Helm template
+     * @return Result of Helm chart validation
+     */
+    ValidationResult processSavedChart(String desiredVersion, ChartDescriptor chart, String originalName,
+        boolean isLinted, boolean isStrictLinted, KubeCapabilityProfile kubeProfile) {
+        return processSavedChart(desiredVersion, chart, originalName, isLinted, isStrictLinted, kubeProfile,
+            new ValidationTimings());
+    }
+
+    /**
+     * Looks up result of earlier validation of saved Helm chart package rendered with given Kubernetes capability
+     * profile.
+     *
+     * @param helmVersion    supported version of Helm client
+     * @param chart          descriptor of saved Helm chart package
+     * @param isLinted       flag deciding if chart is linted
+     * @param isStrictLinted flag deciding if chart is linted with strict option turned on
+     * @param kubeProfile    Kubernetes capability profile passed to Helm template
+     * @return Result of Helm chart validation or empty when the result is not known
+     */
+    Optional<ValidationResult> findResult(String helmVersion, ChartDescriptor chart, boolean isLinted,
+        boolean isStrictLinted, KubeCapabilityProfile kubeProfile) {
+        return resultCache.get(new ValidationCacheKey(chart.getResultDigest(), helmVersion, isLinted, isStrictLinted,
+            kubeProfile.getFingerprint()));
+    }
+
+    /**
+     * Lints already saved Helm chart package. The chart file is not removed.
+     *
+     * @param helmVersion    supported version of Helm client
+     * @param chart          descriptor of saved Helm chart package
+     * @param isStrictLinted flag deciding if chart should be linted with strict option turned on
+     * @return Result of Helm chart linting
+     */
+    LintValidationResult lintSavedChart(String helmVersion, ChartDescriptor chart, boolean isStrictLinted) {
+        var timings = new ValidationTimings();
+        String lintMode = ValidationMetrics.lintMode(true, isStrictLinted);
+        try (ChartWorkspace workspace = validationMetrics.record(timings, ValidationPhase.EXTRACTION, helmVersion,
+            lintMode, () -> workspaceCache.acquire(chart))) {
+            long submittedNanos = System.nanoTime();
+            int slots = helmLauncher.reserveSlots(1);
+            try {
+                return runHelmLint(buildHelmLintCommand(helmVersion, workspace.getChartPath(), isStrictLinted),
+                    lintMode, timings, submittedNanos);
+            } finally {
+                helmLauncher.releaseSlots(slots);
+            }
         }
     }
 
-    private String getSupportedHelmVersion(String desiredVersion, String chartPath) {
+    /**
+     * Completes result of validation without linting of saved Helm chart package rendered with given Kubernetes
+     * capability profile with result of linting the chart, which does not depend on the profile, and caches it.
+     *
+     * @param helmVersion    supported version of Helm client
+     * @param chart          descriptor of saved Helm chart package
+     * @param isStrictLinted flag deciding if chart was linted with strict option turned on
+     * @param kubeProfile    Kubernetes capability profile passed to Helm template
+     * @param templateResult result of validation of the chart without linting
+     * @param lintResult     result of linting the chart
+     * @return Result of Helm chart validation
+     */
+    ValidationResult completeWithLint(String helmVersion, ChartDescriptor chart, boolean isStrictLinted,
+        KubeCapabilityProfile kubeProfile, ValidationResult templateResult, LintValidationResult lintResult) {
+        ValidationResult validationResult = templateResult.withLint(lintResult);
+        cacheResult(chart, helmVersion, true, isStrictLinted, kubeProfile.getFingerprint(), validationResult);
+        return validationResult;
+    }
+
+    /**
+     * Resolves Helm version used to validate saved Helm chart package.
+     *
+     * @param desiredVersion requested version of Helm client, version is derived from the chart when not given
+     * @param chart          descriptor of saved Helm chart package
+     * @return Supported version of Helm client
+     */
+    String getSupportedHelmVersion(String desiredVersion, ChartDescriptor chart) {
         if (desiredVersion == null) {
-            return chartBasedVersionProvider.getVersion(chartPath);
+            return chartBasedVersionProvider.getVersion(chart.getMetadata());
         }
+        return supportedVersionsProvider.resolveVersion(desiredVersion);
+    }
 
-        if (desiredVersion.startsWith("v")) {
-            var helmMajorVersion = desiredVersion.substring(1);
-            return supportedVersionsProvider.getLatestVersion(helmMajorVersion);
+    private ValidationResult processSavedChart(String desiredVersion, ChartDescriptor chart, String originalName,
+        boolean isLinted, boolean isStrictLinted, KubeCapabilityProfile kubeProfile, ValidationTimings timings) {
+        String lintMode = ValidationMetrics.lintMode(isLinted, isStrictLinted);
+        String helmVersion = validationMetrics.record(timings, ValidationPhase.VERSION_RESOLUTION,
+            ValidationMetrics.NO_HELM_VERSION, lintMode, () -> getSupportedHelmVersion(desiredVersion, chart));
+        String fileName = replaceBlankCharacters(originalName);
+        String kubeProfileFingerprint = kubeProfile == null ? null : kubeProfile.getFingerprint();
+        List<String> templateFlags = kubeProfile == null ? Collections.emptyList() : kubeProfile.toTemplateFlags();
+        var cacheKey = new ValidationCacheKey(chart.getResultDigest(), helmVersion, isLinted, isStrictLinted,
+            kubeProfileFingerprint);
+        Optional<ValidationResult> cachedResult = resultCache.get(cacheKey);
+        if (cachedResult.isPresent()) {
+            LOGGER.info("Validation result of file: {} with helm version: {} taken from cache",
+                fileName, helmVersion);
+            return cachedResult.get();
         }
+        return inFlightValidations.execute(cacheKey, () -> {
+            LOGGER.info("Start validation of file: {}, with helm version: {}",
+                fileName, helmVersion);
+            ValidationResult validationResult;
+            try (ChartWorkspace workspace = validationMetrics.record(timings, ValidationPhase.EXTRACTION,
+                helmVersion, lintMode, () -> workspaceCache.acquire(chart))) {
+                validationResult = validateChart(helmVersion, isLinted, isStrictLinted, lintMode,
+                    workspace.getChartPath(), templateFlags, timings).withContentDigest(chart.getContentDigest());
+            }
+            cacheResult(chart, helmVersion, isLinted, isStrictLinted, kubeProfileFingerprint, validationResult);
+            return validationResult;
+        });
+    }
 
-        return supportedVersionsProvider.getVersions()
-            .stream()
-            .filter(s -> s.equals(desiredVersion))
-            .findFirst()
-            .orElseThrow(() -> new NotSupportedVersionException(desiredVersion));
+    private void cacheResult(ChartDescriptor chart, String helmVersion, boolean isLinted, boolean isStrictLinted,
+        String kubeProfile, ValidationResult validationResult) {
+        resultCache.put(new ValidationCacheKey(chart.getResultDigest(), helmVersion, isLinted, isStrictLinted,
+            kubeProfile), validationResult);
+        if (!chart.getDigest().equals(chart.getResultDigest())) {
+            resultCache.put(new ValidationCacheKey(chart.getDigest(), helmVersion, isLinted, isStrictLinted,
+                kubeProfile), validationResult);
+        }
     }
 
     private String replaceBlankCharacters(String string) {
@@ -125,61 +351,113 @@ public class ValidationService {
     }
 
     private ValidationResult validateChart(String version, boolean isLinted, boolean isStrictLinted,
-        String chartPath) {
-        TemplateValidationResult templateValidationResult = runHelmTemplate(
-            buildHelmTemplateCommand(version, chartPath));
-        LOGGER.info("Helm template finished");
-
-        if (isLinted) {
-            LOGGER.info("Start helm lint, strict: {}", isStrictLinted);
-            LintValidationResult lintValidationResult = runHelmLint(
-                buildHelmLintCommand(version, chartPath, isStrictLinted));
-            LOGGER.info("Helm lint finished");
-            return new ValidationResult(templateValidationResult, lintValidationResult, version);
+        String lintMode, String chartPath, List<String> templateFlags, ValidationTimings timings) {
+        if (!isLinted) {
+            long submittedNanos = System.nanoTime();
+            int slots = helmLauncher.reserveSlots(1);
+            try {
+                TemplateValidationResult templateValidationResult = runHelmTemplate(
+                    buildHelmTemplateCommand(version, chartPath, templateFlags), lintMode, timings, submittedNanos);
+                LOGGER.info("Helm template finished");
+                return new ValidationResult(templateValidationResult, version);
+            } finally {
+                helmLauncher.releaseSlots(slots);
+            }
         }
 
-        return new ValidationResult(templateValidationResult, version);
+        LOGGER.info("Start helm template and helm lint, strict: {}", isStrictLinted);
+        long submittedNanos = System.nanoTime();
+        // Slots of both commands are reserved together, so lint is never rejected after template already ran
+        int slots = helmLauncher.reserveSlots(2);
+        try {
+            if (slots < 2) {
+                // Limit allows fewer processes than commands, so they run one after another in the reserved slot
+                TemplateValidationResult templateResult = runHelmTemplate(buildHelmTemplateCommand(version,
+                    chartPath, templateFlags), lintMode, timings, submittedNanos);
+                LintValidationResult lintResult = runHelmLint(buildHelmLintCommand(version, chartPath,
+                    isStrictLinted), lintMode, timings, submittedNanos);
+                LOGGER.info("Helm template and helm lint finished one after another");
+                return new ValidationResult(templateResult, lintResult, version);
+            }
+            CompletableFuture<TemplateValidationResult> templateValidation = CompletableFuture.supplyAsync(
+                () -> runHelmTemplate(buildHelmTemplateCommand(version, chartPath, templateFlags), lintMode,
+                    timings, submittedNanos), helmTaskExecutor);
+            CompletableFuture<LintValidationResult> lintValidation = CompletableFuture.supplyAsync(
+                () -> runHelmLint(buildHelmLintCommand(version, chartPath, isStrictLinted), lintMode, timings,
+                    submittedNanos), helmTaskExecutor);
+            CompletableFuture.allOf(templateValidation, lintValidation)
+                .exceptionally(e -> null)
+                .join();
+
+            ValidationResult validationResult = joinValidation(templateValidation.thenCombine(lintValidation,
+                (templateResult, lintResult) -> new ValidationResult(templateResult, lintResult, version)));
+            LOGGER.info("Helm template and helm lint finished");
+            return validationResult;
+        } finally {
+            helmLauncher.releaseSlots(slots);
+        }
     }
 
+    private ValidationResult joinValidation(CompletableFuture<ValidationResult> validation) {
+        try {
+            return validation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BashExecutionException("Helm execution failed, error: ", e.getCause());
+        }
+    }
 
-    private String buildHelmTemplateCommand(String version, String chartPath) {
-        return "helm-v" + version + " " + TEMPLATE_OPTION + " " + chartPath;
+    private HelmCommand buildHelmTemplateCommand(String version, String chartPath, List<String> flags) {
+        return new HelmCommand(version, HelmSubcommand.TEMPLATE, flags, chartPath);
     }
 
-    private TemplateValidationResult runHelmTemplate(String helmCommand)
-        throws BashExecutionException {
+    private TemplateValidationResult runHelmTemplate(HelmCommand helmCommand, String lintMode,
+        ValidationTimings timings, long submittedNanos) throws BashExecutionException {
 
         LOGGER.debug("Command executions: {} ", helmCommand);
-        BashOutput chartTemplateResult = executor.execute(helmCommand);
+        BashOutput chartTemplateResult = launchHelm(ValidationPhase.TEMPLATE, helmCommand, lintMode,
+            templateTimeoutMs, timings, submittedNanos);
         LOGGER.debug("Status code: {}", chartTemplateResult.getExitValue());
         if (chartTemplateResult.getExitValue() != 0) {
-            List<String> renderingErrors = parseTemplateError(chartTemplateResult.getOutputLines());
-            return new TemplateValidationResult(false, renderingErrors);
+            List<String> renderingErrors = parseTemplateError(chartTemplateResult.getErrorLines());
+            List<HelmDiagnostic> renderingDiagnostics = parseTemplateDiagnostics(chartTemplateResult.getDiagnostics());
+            return new TemplateValidationResult(false, renderingErrors, renderingDiagnostics,
+                chartTemplateResult.isTruncated());
         }
-        return new TemplateValidationResult(true, Collections.emptyList());
+        return new TemplateValidationResult(true, Collections.emptyList(), chartTemplateResult.isTruncated());
     }
 
-    private String buildHelmLintCommand(String version, String chartPath, boolean isStrictLint) {
-        String command = "helm-v" + version + " " + LINT_OPTION + " " + chartPath;
-        if (isStrictLint) {
-            return command + " --strict";
-        }
-        return command;
+    private HelmCommand buildHelmLintCommand(String version, String chartPath, boolean isStrictLint) {
+        List<String> flags = isStrictLint ? List.of(STRICT_FLAG) : Collections.emptyList();
+        return new HelmCommand(version, HelmSubcommand.LINT, flags, chartPath);
     }
 
-    private LintValidationResult runHelmLint(String helmCommand) {
-        BashOutput chartLintResult = executor.execute(helmCommand);
+    private LintValidationResult runHelmLint(HelmCommand helmCommand, String lintMode, ValidationTimings timings,
+        long submittedNanos) {
+        LOGGER.debug("Command executions: {} ", helmCommand);
+        BashOutput chartLintResult = launchHelm(ValidationPhase.LINT, helmCommand, lintMode, lintTimeoutMs,
+            timings, submittedNanos);
 
-        List<String> lintErrors = parseLintError(chartLintResult.getOutputLines());
-        List<String> lintWarnings = parseWarningError(chartLintResult.getOutputLines());
+        List<String> lintErrors = chartLintResult.getErrorLines();
+        List<String> lintWarnings = chartLintResult.getWarningLines();
 
         boolean isSuccessExitStatus = isSuccessExitStatus(chartLintResult.getExitValue());
 
         if (isInvalidWithoutStandardError(isSuccessExitStatus, lintErrors, lintWarnings)) {
-            return new LintValidationResult(INVALID_RESULT, chartLintResult.getOutputLines(), new ArrayList<>());
+            return new LintValidationResult(INVALID_RESULT, chartLintResult.getOutputLines(), new ArrayList<>(),
+                chartLintResult.isTruncated());
         }
 
-        return new LintValidationResult(isSuccessExitStatus, lintErrors, lintWarnings);
+        return new LintValidationResult(isSuccessExitStatus, lintErrors, lintWarnings,
+            chartLintResult.getDiagnostics(), chartLintResult.isTruncated());
+    }
+
+    private BashOutput launchHelm(ValidationPhase phase, HelmCommand helmCommand, String lintMode, long timeoutMs,
+        ValidationTimings timings, long submittedNanos) {
+        return validationMetrics.recordHelm(timings, phase, helmCommand.getVersion(), lintMode, submittedNanos,
+            () -> helmLauncher.launch(helmCommand, timeoutMs));
     }
 
     private boolean isInvalidWithoutStandardError(boolean isValid, List<String> lintErrors, List<String> lintWarnings) {
@@ -190,28 +468,16 @@ public class ValidationService {
         return exitValue == 0;
     }
 
-    private List<String> parseTemplateError(List<String> outputLines) {
+    private List<String> parseTemplateError(List<String> errorLines) {
 
-        return outputLines.stream()
-            .filter(s -> s.startsWith("Error:"))
+        return errorLines.stream()
+            .filter(s -> s.startsWith(TEMPLATE_ERROR_PREFIX))
             .collect(Collectors.toList());
     }
 
-    private List<String> parseWarningError(List<String> outputLines) {
-        return outputLines.stream()
-            .filter(s -> s.startsWith("[WARNING]"))
+    private List<HelmDiagnostic> parseTemplateDiagnostics(List<HelmDiagnostic> diagnostics) {
+        return diagnostics.stream()
+            .filter(diagnostic -> diagnostic.getSeverity() == HelmDiagnosticSeverity.ERROR)
             .collect(Collectors.toList());
     }
-
-    private List<String> parseLintError(List<String> outputLines) {
-        return outputLines.stream()
-            .filter(s -> s.startsWith("[ERROR]") || s.startsWith("Error"))
-            .filter(this::isNotHelmSummaryMessage)
-            .collect(Collectors.toList());
-    }
-
-    private boolean isNotHelmSummaryMessage(String line) {
-        var pattern = Pattern.compile(HELM_SUMMARY_MESSAGE_PATTERN);
-        return !pattern.matcher(line).matches();
-    }
 }
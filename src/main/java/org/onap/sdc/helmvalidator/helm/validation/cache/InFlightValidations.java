@@ -0,0 +1,99 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class InFlightValidations {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InFlightValidations.class);
+
+    private final ConcurrentMap<ValidationCacheKey, CompletableFuture<ValidationResult>> inFlight =
+        new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+
+    public InFlightValidations(MeterRegistry meterRegistry) {
+        this.coalescedCounter = Counter.builder("validation.inflight.coalesced")
+            .description("Number of validations which joined identical validation already in progress")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs validation unless identical validation is already in progress, in which case waits for its result.
+     * Failure of the shared validation, including an error, is propagated to every waiting caller. Interrupting
+     * a waiting caller stops only its wait, the shared validation keeps running.
+     *
+     * @param key        key identifying validation
+     * @param validation validation to be run when no identical validation is in progress
+     * @return Result of validation shared by all concurrent callers with the same key
+     */
+    public ValidationResult execute(ValidationCacheKey key, Supplier<ValidationResult> validation) {
+        var ownValidation = new CompletableFuture<ValidationResult>();
+        var sharedValidation = inFlight.putIfAbsent(key, ownValidation);
+        if (sharedValidation != null) {
+            coalescedCounter.increment();
+            LOGGER.debug("Joining validation in progress: {}", key);
+            return await(sharedValidation.copy());
+        }
+        try {
+            ValidationResult validationResult = validation.get();
+            ownValidation.complete(validationResult);
+            return validationResult;
+        } catch (RuntimeException | Error e) {
+            ownValidation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ownValidation);
+        }
+    }
+
+    int size() {
+        return inFlight.size();
+    }
+
+    private ValidationResult await(CompletableFuture<ValidationResult> validation) {
+        try {
+            return validation.get();
+        } catch (InterruptedException e) {
+            validation.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BashExecutionException("Waiting for validation in progress interrupted, error: ", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BashExecutionException("Validation in progress failed, error: ", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,620 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Validation result store kept in a directory on disk. Results are appended to a log file and located through an
+ * open-addressing hash index mapped into memory, so lookups do not keep results on heap. When the log exceeds its
+ * size or entry cap, expired results are dropped and the oldest results are compacted away.
+ *
+ * <p>Log file: 16 bytes header (magic, format, generation) followed by records of 16 bytes header
+ * (payload length, CRC32 of timestamp and payload, storing timestamp) and {@link ValidationResultCodec} payload.
+ * Index file: 32 bytes header (magic, slots, generation, indexed log length, entries) followed by slots of
+ * 16 bytes (key hash, record offset). Index not matching the log is rebuilt by scanning the log on start.
+ */
+public class MappedValidationResultStore implements ValidationResultStore {
+
+    static final String LOG_FILE_NAME = "results.log";
+    static final String INDEX_FILE_NAME = "results.idx";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedValidationResultStore.class);
+    private static final String STORE_METRIC_PREFIX = "validation.store.";
+
+    private static final int LOG_MAGIC = 0x48565231;
+    private static final int INDEX_MAGIC = 0x48564931;
+    private static final int FORMAT_VERSION = 3;
+    private static final int LOG_HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 16;
+    private static final int INDEX_HEADER_BYTES = 32;
+    private static final int INDEX_SLOTS_POSITION = 4;
+    private static final int INDEX_GENERATION_POSITION = 8;
+    private static final int INDEX_LOG_LENGTH_POSITION = 16;
+    private static final int INDEX_ENTRIES_POSITION = 24;
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_ENTRIES_LIMIT = 1 << 24;
+    private static final long EMPTY_SLOT = 0L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final double COMPACTION_TARGET_RATIO = 0.75;
+
+    private final Path logPath;
+    private final Path indexPath;
+    private final long maxBytes;
+    private final int maxEntries;
+    private final long ttlMs;
+    private final LongSupplier millisClock;
+    private final int slots;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter compactionCounter;
+
+    private FileChannel log;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private long generation;
+    private volatile long logLength;
+    private volatile int entries;
+    private boolean isClosed;
+
+    /**
+     * Constructor for MappedValidationResultStore, opens or creates the store in given directory.
+     *
+     * @param directory     directory of store files
+     * @param maxBytes      maximum size of the log file in bytes
+     * @param maxEntries    maximum number of stored results
+     * @param ttlMs         time in milliseconds after which stored result expires
+     * @param meterRegistry registry of application metrics
+     * @throws IOException when store files cannot be opened
+     */
+    public MappedValidationResultStore(Path directory, long maxBytes, int maxEntries, long ttlMs,
+        MeterRegistry meterRegistry) throws IOException {
+        this(directory, maxBytes, maxEntries, ttlMs, meterRegistry, System::currentTimeMillis);
+    }
+
+    MappedValidationResultStore(Path directory, long maxBytes, int maxEntries, long ttlMs,
+        MeterRegistry meterRegistry, LongSupplier millisClock) throws IOException {
+        if (maxEntries <= 0 || maxEntries > MAX_ENTRIES_LIMIT) {
+            throw new IllegalArgumentException("Maximum number of stored results must be between 1 and "
+                + MAX_ENTRIES_LIMIT);
+        }
+        if (maxBytes <= LOG_HEADER_BYTES + RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Maximum size of the store is too small: " + maxBytes);
+        }
+        this.logPath = directory.resolve(LOG_FILE_NAME);
+        this.indexPath = directory.resolve(INDEX_FILE_NAME);
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.millisClock = millisClock;
+        this.slots = Integer.highestOneBit(maxEntries * 2 - 1) << 1;
+        this.hitCounter = Counter.builder(STORE_METRIC_PREFIX + "hits")
+            .description("Number of validation results found in persistent store")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(STORE_METRIC_PREFIX + "misses")
+            .description("Number of validation results not found in persistent store")
+            .register(meterRegistry);
+        this.compactionCounter = Counter.builder(STORE_METRIC_PREFIX + "compactions")
+            .description("Number of compactions of persistent store")
+            .register(meterRegistry);
+        Gauge.builder(STORE_METRIC_PREFIX + "size", this, store -> store.entries)
+            .description("Number of validation results in persistent store")
+            .register(meterRegistry);
+        Gauge.builder(STORE_METRIC_PREFIX + "bytes", this, store -> store.logLength)
+            .description("Size of persistent store log in bytes")
+            .register(meterRegistry);
+        Files.createDirectories(directory);
+        open();
+    }
+
+    @Override
+    public synchronized Optional<ValidationResult> get(ValidationCacheKey key) {
+        if (isClosed) {
+            return Optional.empty();
+        }
+        try {
+            var probe = probe(key, hash(key));
+            if (probe == null || probe.record == null || isExpired(probe.record.storedAtMillis)) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            hitCounter.increment();
+            LOGGER.debug("Validation result found in persistent store: {}", key);
+            return Optional.of(ValidationResultCodec.decodeResult(probe.record.payload));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot read validation result from persistent store: {}", key, e);
+            recover();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void put(ValidationCacheKey key, ValidationResult result) {
+        if (isClosed) {
+            return;
+        }
+        try {
+            byte[] payload = ValidationResultCodec.encode(key, result);
+            long recordBytes = RECORD_HEADER_BYTES + (long) payload.length;
+            if (LOG_HEADER_BYTES + recordBytes > maxBytes) {
+                LOGGER.debug("Validation result too large for persistent store: {}", key);
+                return;
+            }
+            long hash = hash(key);
+            var probe = probe(key, hash);
+            if (probe == null || logLength + recordBytes > maxBytes
+                || (probe.record == null && entries >= maxEntries)) {
+                compact();
+                probe = probe(key, hash);
+            }
+            if (probe == null || logLength + recordBytes > maxBytes) {
+                LOGGER.warn("No space left in persistent store for validation result: {}", key);
+                return;
+            }
+            long offset = logLength;
+            append(offset, payload);
+            index.putLong(probe.position + Long.BYTES, offset);
+            if (probe.record == null) {
+                index.putLong(probe.position, hash);
+                entries++;
+            }
+            logLength = offset + recordBytes;
+            index.putInt(INDEX_ENTRIES_POSITION, entries);
+            index.putLong(INDEX_LOG_LENGTH_POSITION, logLength);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot write validation result to persistent store: {}", key, e);
+            recover();
+        }
+    }
+
+    public int size() {
+        return entries;
+    }
+
+    public long sizeInBytes() {
+        return logLength;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            index.force();
+            log.force(true);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot flush persistent store", e);
+        } finally {
+            closeQuietly(indexChannel);
+            closeQuietly(log);
+        }
+    }
+
+    /**
+     * Drops expired results and, when needed, the oldest results to bring the store below 3/4 of its caps.
+     * Retained records are copied to a new log file, which atomically replaces the current one.
+     */
+    synchronized void compact() throws IOException {
+        long now = millisClock.getAsLong();
+        List<LiveRecord> liveRecords = new ArrayList<>(entries);
+        for (var slot = 0; slot < slots; slot++) {
+            int position = slotPosition(slot);
+            long hash = index.getLong(position);
+            if (hash != EMPTY_SLOT) {
+                long offset = index.getLong(position + Long.BYTES);
+                ByteBuffer header = readRecordHeader(offset);
+                if (header != null && !isExpired(header.getLong(Integer.BYTES * 2), now)) {
+                    liveRecords.add(new LiveRecord(hash, offset, header.getInt(0), header.getLong(Integer.BYTES * 2)));
+                }
+            }
+        }
+        liveRecords.sort(Comparator.comparingLong((LiveRecord liveRecord) -> liveRecord.storedAtMillis).reversed());
+        long bytesBudget = (long) ((maxBytes - LOG_HEADER_BYTES) * COMPACTION_TARGET_RATIO);
+        long entriesBudget = Math.max(1, (long) (maxEntries * COMPACTION_TARGET_RATIO));
+        List<LiveRecord> retainedRecords = new ArrayList<>();
+        long retainedBytes = 0;
+        for (LiveRecord liveRecord : liveRecords) {
+            if (retainedRecords.size() >= entriesBudget || retainedBytes + liveRecord.size() > bytesBudget) {
+                break;
+            }
+            retainedRecords.add(liveRecord);
+            retainedBytes += liveRecord.size();
+        }
+        retainedRecords.sort(Comparator.comparingLong(liveRecord -> liveRecord.offset));
+
+        long newGeneration = generation + 1;
+        Path compactingPath = logPath.resolveSibling(LOG_FILE_NAME + COMPACTING_SUFFIX);
+        long[] newOffsets = new long[retainedRecords.size()];
+        try (var compacting = FileChannel.open(compactingPath, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeLogHeader(compacting, newGeneration);
+            long position = LOG_HEADER_BYTES;
+            compacting.position(position);
+            for (var i = 0; i < retainedRecords.size(); i++) {
+                LiveRecord liveRecord = retainedRecords.get(i);
+                newOffsets[i] = position;
+                transferFully(liveRecord.offset, liveRecord.size(), compacting);
+                position += liveRecord.size();
+            }
+            compacting.force(true);
+        }
+
+        index.putInt(0, 0);
+        index.force();
+        closeQuietly(log);
+        try {
+            Files.move(compactingPath, logPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            log = openLog();
+        }
+        generation = newGeneration;
+        logLength = log.size();
+        clearIndex();
+        for (var i = 0; i < retainedRecords.size(); i++) {
+            int position = emptySlotPosition(retainedRecords.get(i).hash);
+            index.putLong(position, retainedRecords.get(i).hash);
+            index.putLong(position + Long.BYTES, newOffsets[i]);
+        }
+        entries = retainedRecords.size();
+        writeIndexHeader();
+        compactionCounter.increment();
+        LOGGER.info("Persistent store compacted, retained {} of {} results in {} bytes", entries,
+            liveRecords.size(), logLength);
+    }
+
+    private void open() throws IOException {
+        log = openLog();
+        if (!hasValidLogHeader()) {
+            resetLog(ThreadLocalRandom.current().nextLong());
+        }
+        long indexBytes = INDEX_HEADER_BYTES + (long) slots * SLOT_BYTES;
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        if (indexChannel.size() > indexBytes) {
+            indexChannel.truncate(indexBytes);
+        }
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexBytes);
+        logLength = log.size();
+        if (hasValidIndex()) {
+            entries = index.getInt(INDEX_ENTRIES_POSITION);
+        } else {
+            rebuildIndex();
+        }
+        if (entries > maxEntries || logLength > maxBytes) {
+            compact();
+        }
+        LOGGER.info("Persistent store opened with {} results in {} bytes", entries, logLength);
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    }
+
+    private boolean hasValidLogHeader() throws IOException {
+        if (log.size() < LOG_HEADER_BYTES) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+        readFully(header, 0);
+        if (header.getInt(0) != LOG_MAGIC || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            LOGGER.warn("Persistent store log {} has unknown format, the store is cleared", logPath);
+            return false;
+        }
+        generation = header.getLong(Long.BYTES);
+        return true;
+    }
+
+    private boolean hasValidIndex() {
+        return index.getInt(0) == INDEX_MAGIC
+            && index.getInt(INDEX_SLOTS_POSITION) == slots
+            && index.getLong(INDEX_GENERATION_POSITION) == generation
+            && index.getLong(INDEX_LOG_LENGTH_POSITION) == logLength
+            && index.getInt(INDEX_ENTRIES_POSITION) >= 0;
+    }
+
+    private void resetLog(long newGeneration) throws IOException {
+        log.truncate(0);
+        writeLogHeader(log, newGeneration);
+        log.force(true);
+        generation = newGeneration;
+        logLength = LOG_HEADER_BYTES;
+    }
+
+    private void rebuildIndex() throws IOException {
+        LOGGER.info("Rebuilding index of persistent store {}", logPath);
+        clearIndex();
+        entries = 0;
+        long position = LOG_HEADER_BYTES;
+        while (position < logLength) {
+            StoredRecord record = readRecord(position);
+            ValidationCacheKey key = record == null ? null : decodeKeyQuietly(record.payload);
+            if (key == null) {
+                LOGGER.warn("Persistent store log {} is corrupted at offset {}, it is truncated", logPath, position);
+                log.truncate(position);
+                logLength = position;
+                break;
+            }
+            long hash = hash(key);
+            var probe = probe(key, hash);
+            if (probe == null || entries >= slots / 2) {
+                LOGGER.warn("Persistent store log {} has too many results to index, the store is cleared", logPath);
+                resetLog(generation + 1);
+                clearIndex();
+                entries = 0;
+                break;
+            }
+            index.putLong(probe.position + Long.BYTES, position);
+            if (probe.record == null) {
+                index.putLong(probe.position, hash);
+                entries++;
+            }
+            position += RECORD_HEADER_BYTES + (long) record.payload.length;
+        }
+        writeIndexHeader();
+    }
+
+    private void recover() {
+        try {
+            closeQuietly(log);
+            log = openLog();
+            if (!hasValidLogHeader()) {
+                resetLog(generation + 1);
+            }
+            logLength = log.size();
+            rebuildIndex();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot recover persistent store, it is disabled", e);
+            close();
+        }
+    }
+
+    private Probe probe(ValidationCacheKey key, long hash) throws IOException {
+        int mask = slots - 1;
+        var slot = (int) (hash & mask);
+        for (var probes = 0; probes < slots; probes++) {
+            int position = slotPosition(slot);
+            long slotHash = index.getLong(position);
+            if (slotHash == EMPTY_SLOT) {
+                return new Probe(position, null);
+            }
+            if (slotHash == hash) {
+                StoredRecord record = readRecord(index.getLong(position + Long.BYTES));
+                if (record != null && key.equals(decodeKeyQuietly(record.payload))) {
+                    return new Probe(position, record);
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private int emptySlotPosition(long hash) {
+        int mask = slots - 1;
+        var slot = (int) (hash & mask);
+        while (index.getLong(slotPosition(slot)) != EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        return slotPosition(slot);
+    }
+
+    private static int slotPosition(int slot) {
+        return INDEX_HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private void clearIndex() {
+        index.putInt(0, 0);
+        for (var slot = 0; slot < slots; slot++) {
+            index.putLong(slotPosition(slot), EMPTY_SLOT);
+            index.putLong(slotPosition(slot) + Long.BYTES, 0L);
+        }
+    }
+
+    private void writeIndexHeader() {
+        index.putInt(INDEX_SLOTS_POSITION, slots);
+        index.putLong(INDEX_GENERATION_POSITION, generation);
+        index.putLong(INDEX_LOG_LENGTH_POSITION, logLength);
+        index.putInt(INDEX_ENTRIES_POSITION, entries);
+        index.putInt(0, INDEX_MAGIC);
+    }
+
+    private void append(long offset, byte[] payload) throws IOException {
+        long storedAtMillis = millisClock.getAsLong();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length);
+        record.putInt(payload.length);
+        record.putInt(checksum(storedAtMillis, payload));
+        record.putLong(storedAtMillis);
+        record.put(payload);
+        record.flip();
+        while (record.hasRemaining()) {
+            log.write(record, offset + record.position());
+        }
+    }
+
+    private ByteBuffer readRecordHeader(long offset) throws IOException {
+        if (offset < LOG_HEADER_BYTES || offset + RECORD_HEADER_BYTES > logLength) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        readFully(header, offset);
+        int payloadLength = header.getInt(0);
+        if (payloadLength <= 0 || offset + RECORD_HEADER_BYTES + payloadLength > logLength) {
+            return null;
+        }
+        return header;
+    }
+
+    private StoredRecord readRecord(long offset) throws IOException {
+        ByteBuffer header = readRecordHeader(offset);
+        if (header == null) {
+            return null;
+        }
+        var payload = new byte[header.getInt(0)];
+        long storedAtMillis = header.getLong(Integer.BYTES * 2);
+        readFully(ByteBuffer.wrap(payload), offset + RECORD_HEADER_BYTES);
+        if (checksum(storedAtMillis, payload) != header.getInt(Integer.BYTES)) {
+            return null;
+        }
+        return new StoredRecord(storedAtMillis, payload);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (log.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of persistent store log at offset " + position);
+            }
+        }
+    }
+
+    private void transferFully(long position, long count, FileChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long bytes = log.transferTo(position + transferred, count - transferred, target);
+            if (bytes <= 0) {
+                throw new EOFException("Unexpected end of persistent store log at offset " + position);
+            }
+            transferred += bytes;
+        }
+    }
+
+    private static void writeLogHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+        header.putInt(LOG_MAGIC);
+        header.putInt(FORMAT_VERSION);
+        header.putLong(generation);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    private boolean isExpired(long storedAtMillis) {
+        return isExpired(storedAtMillis, millisClock.getAsLong());
+    }
+
+    private boolean isExpired(long storedAtMillis, long nowMillis) {
+        return nowMillis - storedAtMillis >= ttlMs;
+    }
+
+    private static ValidationCacheKey decodeKeyQuietly(byte[] payload) {
+        try {
+            return ValidationResultCodec.decodeKey(payload);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int checksum(long storedAtMillis, byte[] payload) {
+        var crc = new CRC32();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, storedAtMillis));
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    static long hash(ValidationCacheKey key) {
+        String value = key.getChartDigest() + '\n' + key.getHelmVersion() + '\n' + key.isLinted() + '\n'
+            + key.isStrictLinted() + '\n' + key.getKubeProfile();
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash == EMPTY_SLOT ? 1L : hash;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot close persistent store file", e);
+        }
+    }
+
+    private static class Probe {
+
+        private final int position;
+        private final StoredRecord record;
+
+        Probe(int position, StoredRecord record) {
+            this.position = position;
+            this.record = record;
+        }
+    }
+
+    private static class StoredRecord {
+
+        private final long storedAtMillis;
+        private final byte[] payload;
+
+        StoredRecord(long storedAtMillis, byte[] payload) {
+            this.storedAtMillis = storedAtMillis;
+            this.payload = payload;
+        }
+    }
+
+    private static class LiveRecord {
+
+        private final long hash;
+        private final long offset;
+        private final int payloadLength;
+        private final long storedAtMillis;
+
+        LiveRecord(long hash, long offset, int payloadLength, long storedAtMillis) {
+            this.hash = hash;
+            this.offset = offset;
+            this.payloadLength = payloadLength;
+            this.storedAtMillis = storedAtMillis;
+        }
+
+        long size() {
+            return RECORD_HEADER_BYTES + (long) payloadLength;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import java.util.Objects;
+
+public class ValidationCacheKey {
+
+    private final String chartDigest;
+    private final String helmVersion;
+    private final boolean isLinted;
+    private final boolean isStrictLinted;
+    private final String kubeProfile;
+
+    /**
+     * Key identifying result of validation of a chart.
+     * @param chartDigest SHA-256 digest of the chart archive
+     * @param helmVersion version of Helm client used for validation
+     * @param isLinted flag indicating if chart is linted
+     * @param isStrictLinted flag indicating if chart is linted with strict option turned on
+     */
+    public ValidationCacheKey(String chartDigest, String helmVersion, boolean isLinted, boolean isStrictLinted) {
+        this(chartDigest, helmVersion, isLinted, isStrictLinted, null);
+    }
+
+    /**
+     * Key identifying result of validation of a chart rendered with Kubernetes capability profile.
+     * @param chartDigest SHA-256 digest of the chart archive
+     * @param helmVersion version of Helm client used for validation
+     * @param isLinted flag indicating if chart is linted
+     * @param isStrictLinted flag indicating if chart is linted with strict option turned on
+     * @param kubeProfile fingerprint of Kubernetes capability profile, null when Helm defaults are used
+     */
+    public ValidationCacheKey(String chartDigest, String helmVersion, boolean isLinted, boolean isStrictLinted,
+        String kubeProfile) {
+        this.chartDigest = chartDigest;
+        this.helmVersion = helmVersion;
+        this.isLinted = isLinted;
+        this.isStrictLinted = isLinted && isStrictLinted;
+        this.kubeProfile = kubeProfile;
+    }
+
+    public String getChartDigest() {
+        return chartDigest;
+    }
+
+    public String getHelmVersion() {
+        return helmVersion;
+    }
+
+    public boolean isLinted() {
+        return isLinted;
+    }
+
+    public boolean isStrictLinted() {
+        return isStrictLinted;
+    }
+
+    public String getKubeProfile() {
+        return kubeProfile;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        ValidationCacheKey that = (ValidationCacheKey) other;
+        return isLinted == that.isLinted
+            && isStrictLinted == that.isStrictLinted
+            && chartDigest.equals(that.chartDigest)
+            && helmVersion.equals(that.helmVersion)
+            && Objects.equals(kubeProfile, that.kubeProfile);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(chartDigest, helmVersion, isLinted, isStrictLinted, kubeProfile);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationCacheKey{" +
+            " chartDigest=" + chartDigest +
+            ", helmVersion=" + helmVersion +
+            ", isLinted=" + isLinted +
+            ", isStrictLinted=" + isStrictLinted +
+            ", kubeProfile=" + kubeProfile +
+            " }";
+    }
+}
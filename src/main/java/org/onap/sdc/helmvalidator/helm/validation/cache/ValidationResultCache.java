@@ -0,0 +1,202 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ValidationResultCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationResultCache.class);
+    private static final String CACHE_METRIC_PREFIX = "validation.cache.";
+    private static final String REASON_TAG = "reason";
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<ValidationCacheKey, CachedResult> entries;
+    private final ValidationResultStore store;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter expiryEvictionCounter;
+
+    /**
+     * Constructor for ValidationResultCache.
+     *
+     * @param maxEntries    maximum number of cached results, the least recently used result is evicted first
+     * @param ttlMs         time in milliseconds after which cached result expires
+     * @param meterRegistry registry of application metrics
+     */
+    public ValidationResultCache(int maxEntries, long ttlMs, MeterRegistry meterRegistry) {
+        this(maxEntries, ttlMs, meterRegistry, ValidationResultStore.DISABLED);
+    }
+
+    /**
+     * Constructor for ValidationResultCache backed by persistent store, consulted when result is not cached in memory.
+     *
+     * @param maxEntries    maximum number of cached results, the least recently used result is evicted first
+     * @param ttlMs         time in milliseconds after which cached result expires
+     * @param meterRegistry registry of application metrics
+     * @param store         persistent store of validation results
+     */
+    @Autowired
+    public ValidationResultCache(
+        @Value("${app.config.cache.max-entries}") int maxEntries,
+        @Value("${app.config.cache.ttl-ms}") long ttlMs,
+        MeterRegistry meterRegistry,
+        ValidationResultStore store) {
+        this(maxEntries, ttlMs, meterRegistry, store, System::nanoTime);
+    }
+
+    ValidationResultCache(int maxEntries, long ttlMs, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this(maxEntries, ttlMs, meterRegistry, ValidationResultStore.DISABLED, nanoClock);
+    }
+
+    ValidationResultCache(int maxEntries, long ttlMs, MeterRegistry meterRegistry, ValidationResultStore store,
+        LongSupplier nanoClock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.nanoClock = nanoClock;
+        this.store = store;
+        this.hitCounter = Counter.builder(CACHE_METRIC_PREFIX + "hits")
+            .description("Number of validations served from cache")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_METRIC_PREFIX + "misses")
+            .description("Number of validations not found in cache")
+            .register(meterRegistry);
+        this.sizeEvictionCounter = Counter.builder(CACHE_METRIC_PREFIX + "evictions")
+            .description("Number of validation results evicted from cache")
+            .tag(REASON_TAG, "size")
+            .register(meterRegistry);
+        this.expiryEvictionCounter = Counter.builder(CACHE_METRIC_PREFIX + "evictions")
+            .description("Number of validation results evicted from cache")
+            .tag(REASON_TAG, "expired")
+            .register(meterRegistry);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ValidationCacheKey, CachedResult> eldest) {
+                boolean isOverCapacity = size() > ValidationResultCache.this.maxEntries;
+                if (isOverCapacity) {
+                    sizeEvictionCounter.increment();
+                }
+                return isOverCapacity;
+            }
+        };
+        Gauge.builder(CACHE_METRIC_PREFIX + "size", this, ValidationResultCache::size)
+            .description("Number of cached validation results")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves cached result of validation. Result not cached in memory is looked up in persistent store
+     * and cached in memory when found there.
+     *
+     * @param key key identifying validation
+     * @return cached result or empty when result is not cached or expired
+     */
+    public Optional<ValidationResult> get(ValidationCacheKey key) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<ValidationResult> cachedResult = getFromMemory(key);
+        if (cachedResult.isPresent()) {
+            return cachedResult;
+        }
+        Optional<ValidationResult> storedResult = store.get(key);
+        synchronized (this) {
+            if (storedResult.isEmpty()) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            hitCounter.increment();
+            entries.put(key, new CachedResult(storedResult.get(), nanoClock.getAsLong() + ttlNanos));
+        }
+        return storedResult;
+    }
+
+    /**
+     * Stores result of validation in memory and in persistent store.
+     *
+     * @param key    key identifying validation
+     * @param result result of validation
+     */
+    public void put(ValidationCacheKey key, ValidationResult result) {
+        if (isEnabled()) {
+            synchronized (this) {
+                entries.put(key, new CachedResult(result, nanoClock.getAsLong() + ttlNanos));
+            }
+            store.put(key, result);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Optional<ValidationResult> getFromMemory(ValidationCacheKey key) {
+        var cachedResult = entries.get(key);
+        if (cachedResult != null && cachedResult.isExpired(nanoClock.getAsLong())) {
+            entries.remove(key);
+            expiryEvictionCounter.increment();
+            cachedResult = null;
+        }
+        if (cachedResult == null) {
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        LOGGER.debug("Validation result found in cache: {}", key);
+        return Optional.of(cachedResult.result);
+    }
+
+    private boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    private static class CachedResult {
+
+        private final ValidationResult result;
+        private final long expiresAtNanos;
+
+        CachedResult(ValidationResult result, long expiresAtNanos) {
+            this.result = result;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnostic;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticSeverity;
+import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+
+/**
+ * Compact binary form of validation results stored on disk, together with the key identifying them.
+ */
+final class ValidationResultCodec {
+
+    private static final int NULL_LENGTH = -1;
+    private static final byte NULL_BOOLEAN = -1;
+    private static final int NULL_INTEGER = Integer.MIN_VALUE;
+    private static final byte LINTED_FLAG = 1;
+    private static final byte STRICT_LINTED_FLAG = 2;
+
+    private ValidationResultCodec() {
+    }
+
+    static byte[] encode(ValidationCacheKey key, ValidationResult result) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            writeKey(output, key);
+            writeBoolean(output, result.isDeployable());
+            writeStrings(output, result.getRenderErrors());
+            writeBoolean(output, result.isValid());
+            writeStrings(output, result.getLintWarning());
+            writeStrings(output, result.getLintError());
+            writeString(output, result.getVersionUsed());
+            writeBoolean(output, result.isOutputTruncated());
+            List<HelmDiagnostic> diagnostics = result.withDiagnostics().getDiagnostics();
+            output.writeInt(diagnostics.size());
+            for (HelmDiagnostic diagnostic : diagnostics) {
+                output.writeByte(diagnostic.getSeverity().ordinal());
+                writeString(output, diagnostic.getFile());
+                writeInteger(output, diagnostic.getLine());
+                writeInteger(output, diagnostic.getColumn());
+                writeString(output, diagnostic.getRule());
+                writeString(output, diagnostic.getMessage());
+            }
+            writeString(output, result.getContentDigest());
+        }
+        return bytes.toByteArray();
+    }
+
+    static ValidationCacheKey decodeKey(byte[] record) throws IOException {
+        try (var input = new DataInputStream(new ByteArrayInputStream(record))) {
+            return readKey(input);
+        }
+    }
+
+    static ValidationResult decodeResult(byte[] record) throws IOException {
+        try (var input = new DataInputStream(new ByteArrayInputStream(record))) {
+            readKey(input);
+            Boolean isDeployable = readBoolean(input);
+            List<String> renderErrors = readStrings(input);
+            Boolean isValid = readBoolean(input);
+            List<String> lintWarning = readStrings(input);
+            List<String> lintError = readStrings(input);
+            String versionUsed = readString(input);
+            boolean isOutputTruncated = Boolean.TRUE.equals(readBoolean(input));
+            int diagnosticsCount = input.readInt();
+            List<HelmDiagnostic> diagnostics = new ArrayList<>(diagnosticsCount);
+            for (var i = 0; i < diagnosticsCount; i++) {
+                diagnostics.add(new HelmDiagnostic(HelmDiagnosticSeverity.values()[input.readByte()],
+                    readString(input), readInteger(input), readInteger(input), readString(input),
+                    readString(input)));
+            }
+            String contentDigest = readString(input);
+            var templateResult = new TemplateValidationResult(Boolean.TRUE.equals(isDeployable), renderErrors,
+                diagnostics, isOutputTruncated);
+            ValidationResult result = isValid == null
+                ? new ValidationResult(templateResult, versionUsed)
+                : new ValidationResult(templateResult,
+                    new LintValidationResult(isValid, lintError, lintWarning, List.of(), false), versionUsed);
+            return contentDigest == null ? result : result.withContentDigest(contentDigest);
+        }
+    }
+
+    private static void writeKey(DataOutputStream output, ValidationCacheKey key) throws IOException {
+        writeString(output, key.getChartDigest());
+        writeString(output, key.getHelmVersion());
+        output.writeByte((key.isLinted() ? LINTED_FLAG : 0) | (key.isStrictLinted() ? STRICT_LINTED_FLAG : 0));
+        writeString(output, key.getKubeProfile());
+    }
+
+    private static ValidationCacheKey readKey(DataInputStream input) throws IOException {
+        String chartDigest = readString(input);
+        String helmVersion = readString(input);
+        byte flags = input.readByte();
+        String kubeProfile = readString(input);
+        return new ValidationCacheKey(chartDigest, helmVersion, (flags & LINTED_FLAG) != 0,
+            (flags & STRICT_LINTED_FLAG) != 0, kubeProfile);
+    }
+
+    private static void writeBoolean(DataOutputStream output, Boolean value) throws IOException {
+        output.writeByte(value == null ? NULL_BOOLEAN : (value ? 1 : 0));
+    }
+
+    private static Boolean readBoolean(DataInputStream input) throws IOException {
+        byte value = input.readByte();
+        return value == NULL_BOOLEAN ? null : value == 1;
+    }
+
+    private static void writeInteger(DataOutputStream output, Integer value) throws IOException {
+        output.writeInt(value == null ? NULL_INTEGER : value);
+    }
+
+    private static Integer readInteger(DataInputStream input) throws IOException {
+        int value = input.readInt();
+        return value == NULL_INTEGER ? null : value;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > input.available()) {
+            throw new IOException("Invalid length of stored string: " + length);
+        }
+        return new String(input.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream output, List<String> values) throws IOException {
+        if (values == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        output.writeInt(values.size());
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream input) throws IOException {
+        int size = input.readInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        if (size < 0 || size > input.available()) {
+            throw new IOException("Invalid size of stored list: " + size);
+        }
+        List<String> values = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            values.add(readString(input));
+        }
+        return values;
+    }
+}
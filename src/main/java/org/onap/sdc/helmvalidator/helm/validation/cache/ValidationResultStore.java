@@ -0,0 +1,67 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import java.io.Closeable;
+import java.util.Optional;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+
+/**
+ * Persistent store of validation results, backing in-memory cache so results survive restarts of the application.
+ */
+public interface ValidationResultStore extends Closeable {
+
+    ValidationResultStore DISABLED = new ValidationResultStore() {
+        @Override
+        public Optional<ValidationResult> get(ValidationCacheKey key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(ValidationCacheKey key, ValidationResult result) {
+            // nothing is stored
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    };
+
+    /**
+     * Retrieves stored result of validation.
+     *
+     * @param key key identifying validation
+     * @return stored result or empty when result is not stored or expired
+     */
+    Optional<ValidationResult> get(ValidationCacheKey key);
+
+    /**
+     * Stores result of validation. Failures of the store are not propagated.
+     *
+     * @param key    key identifying validation
+     * @param result result of validation
+     */
+    void put(ValidationCacheKey key, ValidationResult result);
+
+    @Override
+    void close();
+}
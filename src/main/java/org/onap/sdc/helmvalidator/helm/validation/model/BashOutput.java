@@ -2,7 +2,7 @@
  * ============LICENSE_START=======================================================
  * SDC-HELM-VALIDATOR
  * ================================================================================
- * Copyright (C) 2021 Nokia. All rights reserved.
+ * Copyright (C) 2026 Nokia. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@
 
 package org.onap.sdc.helmvalidator.helm.validation.model;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class BashOutput {
 
@@ -28,9 +30,70 @@ public class BashOutput {
 
     private final List<String> outputLines;
 
+    private final List<String> errorLines;
+
+    private final List<String> warningLines;
+
+    private final List<HelmDiagnostic> diagnostics;
+
+    private final boolean truncated;
+
+    private final long queueTimeNanos;
+
     public BashOutput(int exitValue, List<String> outputLines) {
+        this(exitValue, outputLines, linesOfType(outputLines, HelmOutputLineType.ERROR),
+            linesOfType(outputLines, HelmOutputLineType.WARNING), false);
+    }
+
+    /**
+     * Output of bash command with lines already classified by their type.
+     *
+     * @param exitValue    exit value of the command
+     * @param outputLines  captured lines of the command output
+     * @param errorLines   captured lines reporting errors
+     * @param warningLines captured lines reporting warnings
+     * @param truncated    flag indicating if part of the output was not captured
+     */
+    public BashOutput(int exitValue, List<String> outputLines, List<String> errorLines, List<String> warningLines,
+        boolean truncated) {
+        this(exitValue, outputLines, errorLines, warningLines, diagnosticsOf(errorLines, warningLines), truncated);
+    }
+
+    /**
+     * Output of bash command with lines already classified by their type and parsed into diagnostics.
+     *
+     * @param exitValue    exit value of the command
+     * @param outputLines  captured lines of the command output
+     * @param errorLines   captured lines reporting errors
+     * @param warningLines captured lines reporting warnings
+     * @param diagnostics  diagnostics parsed from error and warning lines in order of their occurrence
+     * @param truncated    flag indicating if part of the output was not captured
+     */
+    public BashOutput(int exitValue, List<String> outputLines, List<String> errorLines, List<String> warningLines,
+        List<HelmDiagnostic> diagnostics, boolean truncated) {
+        this(exitValue, outputLines, errorLines, warningLines, diagnostics, truncated, 0);
+    }
+
+    /**
+     * Output of bash command together with time the command waited for a free slot before it was started.
+     *
+     * @param exitValue      exit value of the command
+     * @param outputLines    captured lines of the command output
+     * @param errorLines     captured lines reporting errors
+     * @param warningLines   captured lines reporting warnings
+     * @param diagnostics    diagnostics parsed from error and warning lines in order of their occurrence
+     * @param truncated      flag indicating if part of the output was not captured
+     * @param queueTimeNanos time in nanoseconds the command waited for a free slot
+     */
+    public BashOutput(int exitValue, List<String> outputLines, List<String> errorLines, List<String> warningLines,
+        List<HelmDiagnostic> diagnostics, boolean truncated, long queueTimeNanos) {
         this.exitValue = exitValue;
         this.outputLines = outputLines;
+        this.errorLines = errorLines;
+        this.warningLines = warningLines;
+        this.diagnostics = diagnostics;
+        this.truncated = truncated;
+        this.queueTimeNanos = queueTimeNanos;
     }
 
     public int getExitValue() {
@@ -40,4 +103,37 @@ public class BashOutput {
     public List<String> getOutputLines() {
         return outputLines;
     }
+
+    public List<String> getErrorLines() {
+        return errorLines;
+    }
+
+    public List<String> getWarningLines() {
+        return warningLines;
+    }
+
+    public List<HelmDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public long getQueueTimeNanos() {
+        return queueTimeNanos;
+    }
+
+    private static List<String> linesOfType(List<String> lines, HelmOutputLineType lineType) {
+        return lines.stream()
+            .filter(line -> HelmOutputLineType.of(line) == lineType)
+            .collect(Collectors.toList());
+    }
+
+    private static List<HelmDiagnostic> diagnosticsOf(List<String> errorLines, List<String> warningLines) {
+        List<HelmDiagnostic> diagnostics = new ArrayList<>(errorLines.size() + warningLines.size());
+        errorLines.forEach(line -> diagnostics.add(HelmDiagnosticParser.parse(line, HelmOutputLineType.ERROR)));
+        warningLines.forEach(line -> diagnostics.add(HelmDiagnosticParser.parse(line, HelmOutputLineType.WARNING)));
+        return diagnostics;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+public class BatchValidationEntry {
+
+    private final ValidationResult result;
+    private final String error;
+
+    private BatchValidationEntry(ValidationResult result, String error) {
+        this.result = result;
+        this.error = error;
+    }
+
+    public static BatchValidationEntry succeeded(ValidationResult result) {
+        return new BatchValidationEntry(result, null);
+    }
+
+    public static BatchValidationEntry failed(String error) {
+        return new BatchValidationEntry(null, error);
+    }
+
+    public BatchValidationEntry withDiagnostics() {
+        return result == null ? this : succeeded(result.withDiagnostics());
+    }
+
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchValidationEntry{" +
+            " result=" + result +
+            ", error=" + error +
+            " }";
+    }
+}
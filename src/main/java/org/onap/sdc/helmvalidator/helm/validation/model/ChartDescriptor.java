@@ -0,0 +1,101 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.util.Optional;
+import org.onap.sdc.helmvalidator.helm.versions.ChartMetadata;
+
+public class ChartDescriptor {
+
+    private final String path;
+    private final String digest;
+    private final long size;
+    private final ChartMetadata metadata;
+
+    /**
+     * Descriptor of Helm chart saved during ingestion.
+     * @param path path of saved Helm chart package
+     * @param digest SHA-256 digest of Helm chart package
+     * @param size size of Helm chart package in bytes
+     * @param metadata metadata read from Helm chart package
+     */
+    public ChartDescriptor(String path, String digest, long size, ChartMetadata metadata) {
+        this.path = path;
+        this.digest = digest;
+        this.size = size;
+        this.metadata = metadata;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public ChartMetadata getMetadata() {
+        return metadata;
+    }
+
+    public String getApiVersion() {
+        return metadata.getApiVersion();
+    }
+
+    public String getName() {
+        return metadata.getName();
+    }
+
+    public String getVersion() {
+        return metadata.getVersion();
+    }
+
+    public int getEntryCount() {
+        return metadata.getEntryCount();
+    }
+
+    public String getContentDigest() {
+        return metadata.getContentDigest();
+    }
+
+    /**
+     * Digest identifying results of validation of the chart: content digest, so that re-packed charts share
+     * results, or digest of the package when its content could not be read.
+     * @return Digest of the chart used as key of validation results
+     */
+    public String getResultDigest() {
+        return Optional.ofNullable(metadata.getContentDigest()).orElse(digest);
+    }
+
+    @Override
+    public String toString() {
+        return "ChartDescriptor{" +
+            " path=" + path +
+            ", digest=" + digest +
+            ", size=" + size +
+            ", metadata=" + metadata +
+            " }";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class HelmCommand {
+
+    private final String version;
+    private final HelmSubcommand subcommand;
+    private final List<String> flags;
+    private final String chartPath;
+
+    /**
+     * Structured Helm command executed without a shell.
+     * @param version version of Helm client used to run the command
+     * @param subcommand Helm subcommand
+     * @param flags flags passed after the chart path
+     * @param chartPath path of the chart the command is run against
+     */
+    public HelmCommand(String version, HelmSubcommand subcommand, List<String> flags, String chartPath) {
+        this.version = version;
+        this.subcommand = subcommand;
+        this.flags = List.copyOf(flags);
+        this.chartPath = chartPath;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public HelmSubcommand getSubcommand() {
+        return subcommand;
+    }
+
+    public List<String> getFlags() {
+        return flags;
+    }
+
+    public String getChartPath() {
+        return chartPath;
+    }
+
+    /**
+     * Builds argument list of the command for given Helm binary.
+     * @param helmBinary path of the Helm binary matching the command version
+     * @return argument list ready to be passed to a process builder
+     */
+    public List<String> toArguments(String helmBinary) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add(helmBinary);
+        arguments.add(subcommand.getName());
+        arguments.add(chartPath);
+        arguments.addAll(flags);
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        HelmCommand that = (HelmCommand) other;
+        return version.equals(that.version)
+            && subcommand == that.subcommand
+            && flags.equals(that.flags)
+            && chartPath.equals(that.chartPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, subcommand, flags, chartPath);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", toArguments("helm-v" + version));
+    }
+}
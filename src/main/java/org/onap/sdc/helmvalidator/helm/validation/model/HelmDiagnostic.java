@@ -0,0 +1,110 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.util.Objects;
+
+public class HelmDiagnostic {
+
+    private final HelmDiagnosticSeverity severity;
+    private final String file;
+    private final Integer line;
+    private final Integer column;
+    private final String rule;
+    private final String message;
+
+    /**
+     * Single finding reported by Helm.
+     * @param severity severity of the finding
+     * @param file file of the chart the finding refers to, null when not reported
+     * @param line line of the template, null when not reported
+     * @param column column of the template, null when not reported
+     * @param rule kind of the check which reported the finding, null when not recognized
+     * @param message description of the finding
+     */
+    public HelmDiagnostic(HelmDiagnosticSeverity severity, String file, Integer line, Integer column, String rule,
+        String message) {
+        this.severity = severity;
+        this.file = file;
+        this.line = line;
+        this.column = column;
+        this.rule = rule;
+        this.message = message;
+    }
+
+    public HelmDiagnosticSeverity getSeverity() {
+        return severity;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public Integer getLine() {
+        return line;
+    }
+
+    public Integer getColumn() {
+        return column;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        HelmDiagnostic that = (HelmDiagnostic) other;
+        return severity == that.severity
+            && Objects.equals(file, that.file)
+            && Objects.equals(line, that.line)
+            && Objects.equals(column, that.column)
+            && Objects.equals(rule, that.rule)
+            && message.equals(that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(severity, file, line, column, rule, message);
+    }
+
+    @Override
+    public String toString() {
+        return "HelmDiagnostic{" +
+            " severity=" + severity +
+            ", file=" + file +
+            ", line=" + line +
+            ", column=" + column +
+            ", rule=" + rule +
+            ", message=" + message +
+            " }";
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns error and warning lines printed by Helm into structured diagnostics. Patterns are compiled once and
+ * repeated files and messages are shared between results instead of being kept as separate copies.
+ */
+public final class HelmDiagnosticParser {
+
+    public static final String LINT_RULE = "lint";
+    public static final String TEMPLATE_EXECUTION_RULE = "template-execution";
+    public static final String TEMPLATE_PARSE_RULE = "template-parse";
+    public static final String YAML_PARSE_RULE = "yaml-parse";
+
+    private static final int MAX_INTERNED_STRINGS = 4096;
+    private static final String ERROR_PREFIX = "Error: ";
+    private static final Pattern LINT_LINE = Pattern.compile("\\[(?:ERROR|WARNING)] ([^:\\s]+): (.*)");
+    private static final Pattern TEMPLATE_EXECUTION = Pattern.compile(
+        "template: ([^:\\s]+):(\\d{1,9}):(\\d{1,9}): (.*)");
+    private static final Pattern TEMPLATE_PARSE = Pattern.compile(
+        "parse error at \\(([^:)\\s]+):(\\d{1,9})\\): (.*)");
+    private static final Pattern YAML_PARSE = Pattern.compile(
+        "YAML parse error on ([^:\\s]+): (?:.*?yaml: line (\\d{1,9}): )?(.*)");
+    private static final Pattern YAML_LINE = Pattern.compile("yaml: line (\\d{1,9}): (.*)");
+
+    private static final Map<String, String> INTERNED_STRINGS = new ConcurrentHashMap<>();
+
+    private HelmDiagnosticParser() {
+    }
+
+    /**
+     * Parses single line of Helm output already classified as error or warning.
+     *
+     * @param line     line printed by Helm
+     * @param lineType type of the line, either error or warning
+     * @return Diagnostic described by the line
+     */
+    public static HelmDiagnostic parse(String line, HelmOutputLineType lineType) {
+        HelmDiagnosticSeverity severity = lineType == HelmOutputLineType.WARNING
+            ? HelmDiagnosticSeverity.WARNING : HelmDiagnosticSeverity.ERROR;
+        String file = null;
+        String rule = null;
+        String details = line;
+        Matcher lintMatcher = LINT_LINE.matcher(line);
+        if (lintMatcher.matches()) {
+            file = lintMatcher.group(1);
+            details = lintMatcher.group(2);
+            rule = LINT_RULE;
+        } else if (line.startsWith(ERROR_PREFIX)) {
+            details = line.substring(ERROR_PREFIX.length());
+        }
+
+        Matcher matcher = TEMPLATE_EXECUTION.matcher(details);
+        if (matcher.find()) {
+            return diagnostic(severity, matcher.group(1), matcher.group(2), matcher.group(3),
+                TEMPLATE_EXECUTION_RULE, matcher.group(4));
+        }
+        matcher = TEMPLATE_PARSE.matcher(details);
+        if (matcher.find()) {
+            return diagnostic(severity, matcher.group(1), matcher.group(2), null, TEMPLATE_PARSE_RULE,
+                matcher.group(3));
+        }
+        matcher = YAML_PARSE.matcher(details);
+        if (matcher.find()) {
+            return diagnostic(severity, matcher.group(1), matcher.group(2), null, YAML_PARSE_RULE, matcher.group(3));
+        }
+        matcher = YAML_LINE.matcher(details);
+        if (matcher.find()) {
+            return diagnostic(severity, file, matcher.group(1), null, YAML_PARSE_RULE, matcher.group(2));
+        }
+        return diagnostic(severity, file, null, null, rule, details);
+    }
+
+    private static HelmDiagnostic diagnostic(HelmDiagnosticSeverity severity, String file, String line, String column,
+        String rule, String message) {
+        return new HelmDiagnostic(severity, intern(file), toNumber(line), toNumber(column), rule, intern(message));
+    }
+
+    private static Integer toNumber(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String interned = INTERNED_STRINGS.get(value);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED_STRINGS.size() >= MAX_INTERNED_STRINGS) {
+            return value;
+        }
+        interned = INTERNED_STRINGS.putIfAbsent(value, value);
+        return interned == null ? value : interned;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.util.regex.Pattern;
+
+/**
+ * Kind of line printed by Helm, recognized by matchers compiled once.
+ */
+public enum HelmOutputLineType {
+    ERROR,
+    WARNING,
+    SUMMARY,
+    OTHER;
+
+    private static final String LINT_ERROR_PREFIX = "[ERROR]";
+    private static final String ERROR_PREFIX = "Error";
+    private static final String WARNING_PREFIX = "[WARNING]";
+    private static final Pattern SUMMARY_PATTERN = Pattern.compile(
+        "Error: \\d* chart\\(s\\) linted, \\d* chart\\(s\\) failed");
+
+    /**
+     * Classifies single line of Helm output.
+     *
+     * @param line line printed by Helm
+     * @return Type of the line
+     */
+    public static HelmOutputLineType of(String line) {
+        if (line.startsWith(WARNING_PREFIX)) {
+            return WARNING;
+        }
+        if (line.startsWith(LINT_ERROR_PREFIX)) {
+            return ERROR;
+        }
+        if (line.startsWith(ERROR_PREFIX)) {
+            return SUMMARY_PATTERN.matcher(line).matches() ? SUMMARY : ERROR;
+        }
+        return OTHER;
+    }
+}
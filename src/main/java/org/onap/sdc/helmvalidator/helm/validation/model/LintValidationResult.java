@@ -20,6 +20,7 @@
 
 package org.onap.sdc.helmvalidator.helm.validation.model;
 
+import java.util.Collections;
 import java.util.List;
 
 public class LintValidationResult {
@@ -29,16 +30,41 @@ public class LintValidationResult {
     private final List<String> lintErrors;
     private final List<String> lintWarnings;
 
+    private final List<HelmDiagnostic> diagnostics;
+
+    private final boolean isOutputTruncated;
+
+    public LintValidationResult(boolean isValid, List<String> lintErrors, List<String> lintWarnings) {
+        this(isValid, lintErrors, lintWarnings, false);
+    }
+
     /**
      * Validation result of linting a Helm chart.
      * @param isValid flag indicating if chart is valid
      * @param lintErrors list of errors occurred during linting
      * @param lintWarnings list of warning occurred during linting
+     * @param isOutputTruncated flag indicating if Helm output exceeded capture limits
      */
-    public LintValidationResult(boolean isValid, List<String> lintErrors, List<String> lintWarnings) {
+    public LintValidationResult(boolean isValid, List<String> lintErrors, List<String> lintWarnings,
+        boolean isOutputTruncated) {
+        this(isValid, lintErrors, lintWarnings, Collections.emptyList(), isOutputTruncated);
+    }
+
+    /**
+     * Validation result of linting a Helm chart with structured diagnostics.
+     * @param isValid flag indicating if chart is valid
+     * @param lintErrors list of errors occurred during linting
+     * @param lintWarnings list of warning occurred during linting
+     * @param diagnostics structured diagnostics of errors and warnings occurred during linting
+     * @param isOutputTruncated flag indicating if Helm output exceeded capture limits
+     */
+    public LintValidationResult(boolean isValid, List<String> lintErrors, List<String> lintWarnings,
+        List<HelmDiagnostic> diagnostics, boolean isOutputTruncated) {
         this.isValid = isValid;
         this.lintErrors = lintErrors;
         this.lintWarnings = lintWarnings;
+        this.diagnostics = diagnostics;
+        this.isOutputTruncated = isOutputTruncated;
     }
 
     boolean isValid() {
@@ -52,4 +78,12 @@ public class LintValidationResult {
     List<String> getLintWarnings() {
         return lintWarnings;
     }
+
+    List<HelmDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    boolean isOutputTruncated() {
+        return isOutputTruncated;
+    }
 }
@@ -20,6 +20,7 @@
 
 package org.onap.sdc.helmvalidator.helm.validation.model;
 
+import java.util.Collections;
 import java.util.List;
 
 public class TemplateValidationResult {
@@ -28,14 +29,37 @@ public class TemplateValidationResult {
 
     private final List<String> renderErrors;
 
+    private final List<HelmDiagnostic> diagnostics;
+
+    private final boolean isOutputTruncated;
+
+    public TemplateValidationResult(boolean isDeployable, List<String> renderErrors) {
+        this(isDeployable, renderErrors, false);
+    }
+
     /**
      * Validation result of templating a Helm chart.
      * @param isDeployable flag indicating if chart can be templated
      * @param renderErrors list of errors occurred during templating
+     * @param isOutputTruncated flag indicating if Helm output exceeded capture limits
      */
-    public TemplateValidationResult(boolean isDeployable, List<String> renderErrors) {
+    public TemplateValidationResult(boolean isDeployable, List<String> renderErrors, boolean isOutputTruncated) {
+        this(isDeployable, renderErrors, Collections.emptyList(), isOutputTruncated);
+    }
+
+    /**
+     * Validation result of templating a Helm chart with structured diagnostics.
+     * @param isDeployable flag indicating if chart can be templated
+     * @param renderErrors list of errors occurred during templating
+     * @param diagnostics structured diagnostics of errors occurred during templating
+     * @param isOutputTruncated flag indicating if Helm output exceeded capture limits
+     */
+    public TemplateValidationResult(boolean isDeployable, List<String> renderErrors,
+        List<HelmDiagnostic> diagnostics, boolean isOutputTruncated) {
         this.isDeployable = isDeployable;
         this.renderErrors = renderErrors;
+        this.diagnostics = diagnostics;
+        this.isOutputTruncated = isOutputTruncated;
     }
 
     boolean isDeployable() {
@@ -45,4 +69,12 @@ public class TemplateValidationResult {
     List<String> getRenderErrors() {
         return renderErrors;
     }
+
+    List<HelmDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    boolean isOutputTruncated() {
+        return isOutputTruncated;
+    }
 }
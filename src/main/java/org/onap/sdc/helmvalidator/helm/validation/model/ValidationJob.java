@@ -0,0 +1,106 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.time.Instant;
+
+public class ValidationJob {
+
+    private final String id;
+    private final Instant createdAt;
+
+    private volatile ValidationJobStatus status = ValidationJobStatus.QUEUED;
+    private volatile Instant finishedAt;
+    private volatile ValidationResult result;
+    private volatile String error;
+
+    /**
+     * Asynchronous validation of a Helm chart.
+     * @param id identifier of the job
+     * @param createdAt time of job creation
+     */
+    public ValidationJob(String id, Instant createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ValidationJobStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void markRunning() {
+        this.status = ValidationJobStatus.RUNNING;
+    }
+
+    /**
+     * Marks job as successfully finished.
+     * @param result result of validation
+     * @param finishedAt time of job completion
+     */
+    public void markSucceeded(ValidationResult result, Instant finishedAt) {
+        this.result = result;
+        this.finishedAt = finishedAt;
+        this.status = ValidationJobStatus.SUCCEEDED;
+    }
+
+    /**
+     * Marks job as failed.
+     * @param error message describing the failure
+     * @param finishedAt time of job completion
+     */
+    public void markFailed(String error, Instant finishedAt) {
+        this.error = error;
+        this.finishedAt = finishedAt;
+        this.status = ValidationJobStatus.FAILED;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationJob{" +
+            " id=" + id +
+            ", status=" + status +
+            ", createdAt=" + createdAt +
+            ", finishedAt=" + finishedAt +
+            ", result=" + result +
+            ", error=" + error +
+            " }";
+    }
+}
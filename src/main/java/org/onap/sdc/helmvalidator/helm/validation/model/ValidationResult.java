@@ -20,8 +20,10 @@
 
 package org.onap.sdc.helmvalidator.helm.validation.model;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class ValidationResult {
@@ -32,7 +34,11 @@ public class ValidationResult {
     private final List<String> lintWarning;
     private final List<String> lintError;
     private final String versionUsed;
-
+    private final Boolean isOutputTruncated;
+    private final List<HelmDiagnostic> diagnostics;
+    private final boolean isDiagnosticsIncluded;
+    private final Map<String, Double> timings;
+    private final String contentDigest;
 
     /**
      * ValidationResult constructor when linting is enabled.
@@ -51,6 +57,13 @@ public class ValidationResult {
         this.lintWarning = lintValidationResult.getLintWarnings();
         this.lintError = lintValidationResult.getLintErrors();
         this.versionUsed = versionUsed;
+        this.isOutputTruncated = truncatedOrNull(
+            templateValidationResult.isOutputTruncated() || lintValidationResult.isOutputTruncated());
+        this.diagnostics = new ArrayList<>(templateValidationResult.getDiagnostics());
+        this.diagnostics.addAll(lintValidationResult.getDiagnostics());
+        this.isDiagnosticsIncluded = false;
+        this.timings = null;
+        this.contentDigest = null;
     }
 
     /**
@@ -67,6 +80,78 @@ public class ValidationResult {
         this.lintWarning = null;
         this.lintError = null;
         this.versionUsed = versionUsed;
+        this.isOutputTruncated = truncatedOrNull(templateValidationResult.isOutputTruncated());
+        this.diagnostics = templateValidationResult.getDiagnostics();
+        this.isDiagnosticsIncluded = false;
+        this.timings = null;
+        this.contentDigest = null;
+    }
+
+    private ValidationResult(ValidationResult templateResult, LintValidationResult lintValidationResult) {
+        this.isDeployable = templateResult.isDeployable;
+        this.renderErrors = templateResult.renderErrors;
+        this.isValid = lintValidationResult.isValid();
+        this.lintWarning = lintValidationResult.getLintWarnings();
+        this.lintError = lintValidationResult.getLintErrors();
+        this.versionUsed = templateResult.versionUsed;
+        this.isOutputTruncated = truncatedOrNull(
+            templateResult.isOutputTruncated != null || lintValidationResult.isOutputTruncated());
+        this.diagnostics = new ArrayList<>(templateResult.diagnostics);
+        this.diagnostics.addAll(lintValidationResult.getDiagnostics());
+        this.isDiagnosticsIncluded = templateResult.isDiagnosticsIncluded;
+        this.timings = templateResult.timings;
+        this.contentDigest = templateResult.contentDigest;
+    }
+
+    private ValidationResult(ValidationResult validationResult, boolean isDiagnosticsIncluded,
+        Map<String, Double> timings, String contentDigest) {
+        this.isDeployable = validationResult.isDeployable;
+        this.renderErrors = validationResult.renderErrors;
+        this.isValid = validationResult.isValid;
+        this.lintWarning = validationResult.lintWarning;
+        this.lintError = validationResult.lintError;
+        this.versionUsed = validationResult.versionUsed;
+        this.isOutputTruncated = validationResult.isOutputTruncated;
+        this.diagnostics = validationResult.diagnostics;
+        this.isDiagnosticsIncluded = isDiagnosticsIncluded;
+        this.timings = timings;
+        this.contentDigest = contentDigest;
+    }
+
+    /**
+     * Copy of the result which also exposes structured diagnostics next to the lists of messages.
+     * Diagnostics are collected for every result but returned only when requested.
+     * @return Validation result with diagnostics
+     */
+    public ValidationResult withDiagnostics() {
+        return isDiagnosticsIncluded ? this : new ValidationResult(this, true, timings, contentDigest);
+    }
+
+    /**
+     * Copy of the result which also exposes time spent by the request in each validation phase.
+     * @param validationTimings timings of the request which obtained the result
+     * @return Validation result with timings
+     */
+    public ValidationResult withTimings(ValidationTimings validationTimings) {
+        return new ValidationResult(this, isDiagnosticsIncluded, validationTimings.toMillis(), contentDigest);
+    }
+
+    /**
+     * Copy of the result which also identifies content of validated chart, regardless of its packaging.
+     * @param chartContentDigest content digest of validated chart
+     * @return Validation result with content digest
+     */
+    public ValidationResult withContentDigest(String chartContentDigest) {
+        return new ValidationResult(this, isDiagnosticsIncluded, timings, chartContentDigest);
+    }
+
+    /**
+     * Copy of the result of validation without linting, completed with result of linting the same chart.
+     * @param lintValidationResult result of helm chart linting
+     * @return Validation result with lint result
+     */
+    public ValidationResult withLint(LintValidationResult lintValidationResult) {
+        return new ValidationResult(this, lintValidationResult);
     }
 
     public Boolean isDeployable() {
@@ -96,6 +181,26 @@ public class ValidationResult {
         return versionUsed;
     }
 
+    public Boolean isOutputTruncated() {
+        return isOutputTruncated;
+    }
+
+    public List<HelmDiagnostic> getDiagnostics() {
+        return isDiagnosticsIncluded ? Collections.unmodifiableList(diagnostics) : null;
+    }
+
+    public Map<String, Double> getTimings() {
+        return timings;
+    }
+
+    public String getContentDigest() {
+        return contentDigest;
+    }
+
+    private static Boolean truncatedOrNull(boolean isOutputTruncated) {
+        return isOutputTruncated ? Boolean.TRUE : null;
+    }
+
     @Override
     public String toString() {
         return "ValidationResult{" +
@@ -105,6 +210,10 @@ public class ValidationResult {
             ", lintWarning=" + lintWarning +
             ", lintError=" + lintError +
             ", versionUsed=" + versionUsed +
+            ", isOutputTruncated=" + isOutputTruncated +
+            ", diagnostics=" + diagnostics +
+            ", timings=" + timings +
+            ", contentDigest=" + contentDigest +
             " }";
     }
 }
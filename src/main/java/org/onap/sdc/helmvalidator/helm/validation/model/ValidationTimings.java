@@ -0,0 +1,79 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Time spent by a single validation request in each validation phase. Helm template and lint run concurrently,
+ * so their durations may overlap, and queue time of both of them is summed up.
+ */
+public class ValidationTimings {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<ValidationPhase, Long> durations = new EnumMap<>(ValidationPhase.class);
+
+    /**
+     * Adds time spent in given phase.
+     *
+     * @param phase         validation phase
+     * @param durationNanos time spent in the phase in nanoseconds
+     */
+    public synchronized void add(ValidationPhase phase, long durationNanos) {
+        durations.merge(phase, Math.max(durationNanos, 0), Long::sum);
+    }
+
+    /**
+     * Durations of recorded phases in milliseconds, in order of validation phases.
+     *
+     * @return Durations keyed by phase name
+     */
+    public synchronized Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        durations.forEach((phase, nanos) -> millis.put(phase.getName(), nanos / NANOS_PER_MILLI));
+        return Collections.unmodifiableMap(millis);
+    }
+
+    /**
+     * Value of Server-Timing header listing durations of recorded phases.
+     *
+     * @return Header value, empty when no phase was recorded
+     */
+    public String toServerTiming() {
+        return toMillis().entrySet().stream()
+            .map(entry -> String.format(Locale.ROOT, "%s;dur=%.3f", entry.getKey(), entry.getValue()))
+            .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationTimings{" +
+            " durations=" + toMillis() +
+            " }";
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.workspace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.onap.sdc.helmvalidator.helm.validation.exception.UnsafeArchiveException;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveInspection;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extracts packaged Helm chart into a directory. Entries escaping the target directory are rejected, links and
+ * special files are skipped, and the archive is checked against archive limits while it is extracted.
+ */
+class ChartArchiveExtractor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChartArchiveExtractor.class);
+    private static final String CHART_FILE_NAME = "Chart.yaml";
+    private static final int MAIN_CHART_FILE_DEPTH = 2;
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    private final ArchiveLimits archiveLimits;
+
+    ChartArchiveExtractor(ArchiveLimits archiveLimits) {
+        this.archiveLimits = archiveLimits;
+    }
+
+    /**
+     * Extracts given archive into target directory, which is created when missing.
+     *
+     * @param archive   path to packaged Helm chart
+     * @param targetDir directory into which archive is extracted
+     * @return Extracted chart with its directory and number of extracted bytes
+     * @throws IOException when archive cannot be read or extracted files cannot be written
+     */
+    ExtractedChart extract(Path archive, Path targetDir) throws IOException {
+        Path target = targetDir.toAbsolutePath().normalize();
+        Files.createDirectories(target);
+        try (InputStream archiveStream = Files.newInputStream(archive)) {
+            ArchiveInspection inspection = archiveLimits.inspect(archiveStream);
+            var tarStream = new TarArchiveInputStream(inspection.getUncompressedStream());
+            var extraction = new Extraction(target);
+            TarArchiveEntry entry;
+            while ((entry = tarStream.getNextTarEntry()) != null) {
+                inspection.checkEntry(entry);
+                extraction.extractEntry(entry, tarStream);
+            }
+            return extraction.toExtractedChart();
+        }
+    }
+
+    static class ExtractedChart {
+
+        private final Path chartDir;
+        private final long bytes;
+
+        ExtractedChart(Path chartDir, long bytes) {
+            this.chartDir = chartDir;
+            this.bytes = bytes;
+        }
+
+        Path getChartDir() {
+            return chartDir;
+        }
+
+        long getBytes() {
+            return bytes;
+        }
+    }
+
+    private class Extraction {
+
+        private final Path target;
+        private final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        private Path chartDir;
+        private long bytes;
+
+        Extraction(Path target) {
+            this.target = target;
+        }
+
+        void extractEntry(TarArchiveEntry entry, InputStream content) throws IOException {
+            Path entryPath = resolveEntry(entry.getName());
+            if (entryPath.equals(target)) {
+                return;
+            }
+            if (entry.isDirectory()) {
+                Files.createDirectories(entryPath);
+            } else if (entry.isFile()) {
+                Files.createDirectories(entryPath.getParent());
+                writeFile(entryPath, content);
+                rememberChartDir(entryPath);
+            } else {
+                LOGGER.debug("Skipping archive entry: {} which is neither file nor directory", entry.getName());
+            }
+        }
+
+        ExtractedChart toExtractedChart() {
+            return new ExtractedChart(chartDir != null ? chartDir : target, bytes);
+        }
+
+        private Path resolveEntry(String entryName) {
+            if (Paths.get(entryName).isAbsolute()) {
+                throw unsafeEntry(entryName);
+            }
+            Path entryPath = target.resolve(entryName).normalize();
+            if (!entryPath.startsWith(target)) {
+                throw unsafeEntry(entryName);
+            }
+            return entryPath;
+        }
+
+        private void writeFile(Path entryPath, InputStream content) throws IOException {
+            try (OutputStream output = Files.newOutputStream(entryPath)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    bytes += read;
+                    output.write(buffer, 0, read);
+                }
+            }
+        }
+
+        private void rememberChartDir(Path entryPath) {
+            Path relativePath = target.relativize(entryPath);
+            if (chartDir == null && relativePath.getNameCount() == MAIN_CHART_FILE_DEPTH
+                && CHART_FILE_NAME.equals(relativePath.getFileName().toString())) {
+                chartDir = entryPath.getParent();
+            }
+        }
+
+        private UnsafeArchiveException unsafeEntry(String entryName) {
+            return new UnsafeArchiveException("Chart archive entry: " + entryName + " points outside of the chart");
+        }
+    }
+}
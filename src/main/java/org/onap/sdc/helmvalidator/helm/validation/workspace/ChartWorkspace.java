@@ -0,0 +1,62 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.workspace;
+
+/**
+ * Location of Helm chart on which Helm commands are run. Closing the workspace releases the extracted chart,
+ * so it may be evicted from the workspace cache.
+ */
+public class ChartWorkspace implements AutoCloseable {
+
+    private static final Runnable NO_RELEASE = () -> { };
+
+    private final String chartPath;
+    private final Runnable release;
+
+    ChartWorkspace(String chartPath, Runnable release) {
+        this.chartPath = chartPath;
+        this.release = release;
+    }
+
+    /**
+     * Creates workspace pointing directly at the given chart, not managed by the workspace cache.
+     *
+     * @param chartPath path to packaged or extracted Helm chart
+     * @return Workspace which releases nothing on close
+     */
+    public static ChartWorkspace unmanaged(String chartPath) {
+        return new ChartWorkspace(chartPath, NO_RELEASE);
+    }
+
+    public String getChartPath() {
+        return chartPath;
+    }
+
+    @Override
+    public void close() {
+        release.run();
+    }
+
+    @Override
+    public String toString() {
+        return "ChartWorkspace{" + " chartPath=" + chartPath + " }";
+    }
+}
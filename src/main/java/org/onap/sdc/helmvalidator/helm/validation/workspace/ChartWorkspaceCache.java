@@ -0,0 +1,286 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.workspace;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.workspace.ChartArchiveExtractor.ExtractedChart;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps Helm charts extracted into directories named after their digest, so Helm template and lint
+ * run on a directory and validations of the same chart do not decompress it again. Extracted charts not used
+ * by any validation are evicted, least recently used first, when their total size exceeds the disk budget.
+ */
+@Service
+public class ChartWorkspaceCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChartWorkspaceCache.class);
+    private static final String WORKSPACE_METRIC_PREFIX = "chart.workspace.";
+    private static final Pattern WORKSPACE_DIR_NAME = Pattern.compile("[0-9a-f]{64}-\\d+");
+
+    private final Path rootDir;
+    private final long maxBytes;
+    private final ChartArchiveExtractor extractor;
+    private final boolean enabled;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Workspace> workspaces = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    /**
+     * Constructor for ChartWorkspaceCache.
+     *
+     * @param rootPath          directory where charts are extracted, chart directories left in it are removed
+     * @param maxBytes          disk budget of extracted charts in bytes, 0 disables extraction
+     * @param archiveLimits     limits checked while chart is extracted
+     * @param meterRegistry     registry of application metrics
+     */
+    @Autowired
+    public ChartWorkspaceCache(
+        @Value("${app.config.workspace.path}") String rootPath,
+        @Value("${app.config.workspace.max-bytes}") long maxBytes,
+        ArchiveLimits archiveLimits,
+        MeterRegistry meterRegistry) {
+        this.rootDir = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.extractor = new ChartArchiveExtractor(archiveLimits);
+        this.enabled = maxBytes > 0 && prepareRootDir();
+        this.hitCounter = Counter.builder(WORKSPACE_METRIC_PREFIX + "hits")
+            .description("Number of validations run on already extracted chart")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(WORKSPACE_METRIC_PREFIX + "misses")
+            .description("Number of charts extracted for validation")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder(WORKSPACE_METRIC_PREFIX + "evictions")
+            .description("Number of extracted charts removed to stay within disk budget")
+            .register(meterRegistry);
+        Gauge.builder(WORKSPACE_METRIC_PREFIX + "size", this, ChartWorkspaceCache::getTotalBytes)
+            .description("Bytes of extracted charts")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Provides workspace of given chart, extracting the chart when it is not extracted yet. Concurrent
+     * requests for the same chart share one extraction. The workspace has to be closed after use.
+     * When the cache is disabled, or the package cannot be read as a chart, the workspace points at the package.
+     *
+     * @param chart descriptor of saved Helm chart package
+     * @return Workspace with path on which Helm commands are run
+     */
+    public ChartWorkspace acquire(ChartDescriptor chart) {
+        if (!enabled || chart.getName() == null) {
+            return ChartWorkspace.unmanaged(chart.getPath());
+        }
+        Workspace workspace = reserve(chart.getDigest());
+        if (workspace.claimExtraction()) {
+            extract(workspace, chart);
+        }
+        try {
+            Path chartDir = workspace.awaitChartDir();
+            return new ChartWorkspace(chartDir.toString(), releaseOnce(workspace));
+        } catch (IOException e) {
+            release(workspace);
+            LOGGER.warn("Cannot extract chart: {}, Helm is run on the package, error: {}",
+                chart.getPath(), e.getMessage());
+            return ChartWorkspace.unmanaged(chart.getPath());
+        } catch (RuntimeException e) {
+            release(workspace);
+            throw e;
+        }
+    }
+
+    public synchronized int size() {
+        return workspaces.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized Workspace reserve(String digest) {
+        Workspace workspace = workspaces.get(digest);
+        if (workspace == null) {
+            workspace = new Workspace(digest);
+            workspaces.put(digest, workspace);
+            missCounter.increment();
+        } else {
+            hitCounter.increment();
+        }
+        workspace.references++;
+        return workspace;
+    }
+
+    private void extract(Workspace workspace, ChartDescriptor chart) {
+        Path dir = rootDir.resolve(chart.getDigest() + "-" + sequence.incrementAndGet());
+        try {
+            ExtractedChart extractedChart = extractor.extract(Paths.get(chart.getPath()), dir);
+            LOGGER.debug("Extracted chart: {} into: {}, size: {}", chart.getPath(), dir, extractedChart.getBytes());
+            deleteDirectories(store(workspace, dir, extractedChart.getBytes()));
+            workspace.extraction.complete(extractedChart.getChartDir());
+        } catch (IOException | RuntimeException e) {
+            discard(workspace);
+            deleteDirectory(dir);
+            workspace.extraction.completeExceptionally(e);
+        }
+    }
+
+    private synchronized List<Path> store(Workspace workspace, Path dir, long bytes) {
+        workspace.dir = dir;
+        workspace.bytes = bytes;
+        totalBytes += bytes;
+        return evictOverBudget();
+    }
+
+    private synchronized void discard(Workspace workspace) {
+        workspaces.remove(workspace.digest, workspace);
+    }
+
+    private Runnable releaseOnce(Workspace workspace) {
+        var released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release(workspace);
+            }
+        };
+    }
+
+    private void release(Workspace workspace) {
+        List<Path> evictedDirs;
+        synchronized (this) {
+            workspace.references--;
+            evictedDirs = evictOverBudget();
+        }
+        deleteDirectories(evictedDirs);
+    }
+
+    private List<Path> evictOverBudget() {
+        List<Path> evictedDirs = new ArrayList<>();
+        Iterator<Workspace> iterator = workspaces.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Workspace candidate = iterator.next();
+            if (candidate.references == 0 && candidate.dir != null) {
+                iterator.remove();
+                totalBytes -= candidate.bytes;
+                evictedDirs.add(candidate.dir);
+                evictionCounter.increment();
+            }
+        }
+        return evictedDirs;
+    }
+
+    private boolean prepareRootDir() {
+        try {
+            Files.createDirectories(rootDir);
+            try (Stream<Path> staleDirs = Files.list(rootDir)) {
+                staleDirs.filter(ChartWorkspaceCache::isWorkspaceDir).forEach(ChartWorkspaceCache::deleteDirectory);
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Chart workspace directory: {} is not available, Helm is run on chart packages, error: {}",
+                rootDir, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isWorkspaceDir(Path path) {
+        return Files.isDirectory(path) && WORKSPACE_DIR_NAME.matcher(path.getFileName().toString()).matches();
+    }
+
+    private static void deleteDirectories(List<Path> dirs) {
+        dirs.forEach(ChartWorkspaceCache::deleteDirectory);
+    }
+
+    private static void deleteDirectory(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(ChartWorkspaceCache::deletePath);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete directory: {}, error: {}", dir, e.getMessage());
+        }
+    }
+
+    private static void deletePath(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete: {}, error: {}", path, e.getMessage());
+        }
+    }
+
+    private static class Workspace {
+
+        private final String digest;
+        private final AtomicBoolean extractionClaimed = new AtomicBoolean();
+        private final CompletableFuture<Path> extraction = new CompletableFuture<>();
+        private int references;
+        private Path dir;
+        private long bytes;
+
+        Workspace(String digest) {
+            this.digest = digest;
+        }
+
+        boolean claimExtraction() {
+            return extractionClaimed.compareAndSet(false, true);
+        }
+
+        Path awaitChartDir() throws IOException {
+            try {
+                return extraction.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -20,53 +20,96 @@
 
 package org.onap.sdc.helmvalidator.helm.versions;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
-import org.onap.sdc.helmvalidator.helm.versions.exception.ApiVersionNotFoundException;
-import org.onap.sdc.helmvalidator.helm.versions.exception.ReadFileException;
+import org.onap.sdc.helmvalidator.jfr.ArchiveScanEvent;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ApiVersionsReader {
 
     private static final int MAIN_CHART_DIR_DEPTH = 2;
-    private static final String API_VERSION_PREFIX = "apiVersion:";
+    private static final int MAX_CHART_YAML_BYTES = 1024 * 1024;
+    private static final String API_VERSION_KEY = "apiVersion";
+    private static final String NAME_KEY = "name";
+    private static final String VERSION_KEY = "version";
+    private static final String KEY_SEPARATOR = ":";
+    private static final String COMMENT_PREFIX = " #";
     private static final Path CHART_FILE_NAME = Path.of("Chart.yaml");
 
-    String readVersion(String chartPath) {
-        return tryReadVersionFromChart(chartPath)
-            .orElseThrow(ApiVersionNotFoundException::new);
+    private final ArchiveLimits archiveLimits;
+
+    public ApiVersionsReader(ArchiveLimits archiveLimits) {
+        this.archiveLimits = archiveLimits;
     }
 
-    private Optional<String> tryReadVersionFromChart(String chartPath) {
-        try (var tarInput = new TarArchiveInputStream(
-            new GzipCompressorInputStream(new FileInputStream(chartPath)))) {
-            return readVersionFromChart(tarInput);
-        } catch (IOException e) {
-            throw new ReadFileException("Cannot read tar from path: " + chartPath, e);
+    /**
+     * Reads metadata of packaged Helm chart from its stream. All entries of the archive are scanned,
+     * fields are taken from top level keys of main Chart.yaml and content of all files is digested into
+     * content digest of the chart. Given stream is not closed.
+     * ArchiveLimitExceededException is thrown as soon as the archive exceeds any of archive limits.
+     *
+     * @param chartStream stream of packaged (.tgz) Helm chart
+     * @return Metadata of Helm chart
+     * @throws IOException when chart stream is not a valid gzipped tar archive
+     */
+    public ChartMetadata readChartMetadata(InputStream chartStream) throws IOException {
+        var scanEvent = new ArchiveScanEvent();
+        scanEvent.begin();
+        ArchiveInspection inspection = archiveLimits.inspect(new NonClosingInputStream(chartStream));
+        try (var tarInput = new TarArchiveInputStream(inspection.getUncompressedStream())) {
+            Map<String, String> chartFields = Map.of();
+            var contentDigest = new ChartContentDigest();
+            TarArchiveEntry currentEntry;
+            while ((currentEntry = tarInput.getNextTarEntry()) != null) {
+                inspection.checkEntry(currentEntry);
+                if (currentEntry.isSymbolicLink()) {
+                    contentDigest.digestLink(currentEntry.getName(), currentEntry.getLinkName());
+                } else if (currentEntry.isFile()) {
+                    InputStream entryContent = contentDigest.digestEntry(currentEntry.getName(), tarInput);
+                    if (chartFields.isEmpty() && isMainChartYaml(currentEntry)) {
+                        chartFields = readTopLevelFields(entryContent);
+                    }
+                    entryContent.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            scanEvent.complete(inspection.getCompressedBytes(), inspection.getUncompressedBytes(),
+                inspection.getEntryCount(), chartFields.get(API_VERSION_KEY));
+            return new ChartMetadata(chartFields.get(API_VERSION_KEY), chartFields.get(NAME_KEY),
+                chartFields.get(VERSION_KEY), inspection.getEntryCount(), contentDigest.toHex());
         }
     }
 
-    private Optional<String> readVersionFromChart(TarArchiveInputStream tarInput) throws IOException {
-        TarArchiveEntry currentEntry;
-        while ((currentEntry = tarInput.getNextTarEntry()) != null) {
-            if (isMainChartYaml(currentEntry)) {
-                var bufferedReader = new BufferedReader(new InputStreamReader(tarInput));
-                return bufferedReader.lines()
-                    .filter(chartLine -> chartLine.contains(API_VERSION_PREFIX))
-                    .map(apiVersionLine -> apiVersionLine.replace(API_VERSION_PREFIX, ""))
-                    .map(String::trim)
-                    .findFirst();
-            }
+    private Map<String, String> readTopLevelFields(InputStream chartYamlInput) throws IOException {
+        String chartYaml = new String(chartYamlInput.readNBytes(MAX_CHART_YAML_BYTES), StandardCharsets.UTF_8);
+        Map<String, String> fields = new HashMap<>();
+        chartYaml.lines()
+            .filter(chartLine -> !chartLine.isEmpty() && !Character.isWhitespace(chartLine.charAt(0)))
+            .filter(chartLine -> chartLine.contains(KEY_SEPARATOR))
+            .forEach(chartLine -> {
+                int separatorIndex = chartLine.indexOf(KEY_SEPARATOR);
+                fields.putIfAbsent(chartLine.substring(0, separatorIndex).trim(),
+                    toScalar(chartLine.substring(separatorIndex + 1)));
+            });
+        return fields;
+    }
+
+    private String toScalar(String value) {
+        int commentIndex = value.indexOf(COMMENT_PREFIX);
+        String scalar = (commentIndex >= 0 ? value.substring(0, commentIndex) : value).trim();
+        if (scalar.length() >= 2 && (scalar.startsWith("\"") && scalar.endsWith("\"")
+            || scalar.startsWith("'") && scalar.endsWith("'"))) {
+            return scalar.substring(1, scalar.length() - 1);
         }
-        return Optional.empty();
+        return scalar;
     }
 
     private boolean isMainChartYaml(TarArchiveEntry currentEntry) {
@@ -76,5 +119,15 @@ public class ApiVersionsReader {
             && (entryPath.getNameCount() == MAIN_CHART_DIR_DEPTH);
     }
 
+    private static class NonClosingInputStream extends FilterInputStream {
 
+        NonClosingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public void close() {
+            // stream is owned by the caller
+        }
+    }
 }
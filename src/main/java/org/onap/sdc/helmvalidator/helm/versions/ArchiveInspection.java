@@ -0,0 +1,164 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
+
+/**
+ * Single pass over packaged Helm chart checking {@link ArchiveLimits}. Sizes are checked on every read of
+ * the uncompressed stream, entries are checked by their headers before their content is read.
+ */
+public class ArchiveInspection {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+    private static final String PATH_SEPARATOR = "/";
+
+    private final ArchiveLimits limits;
+    private final CountingInputStream compressedStream;
+    private final CountingInputStream uncompressedStream;
+    private int entryCount;
+
+    ArchiveInspection(ArchiveLimits limits, InputStream compressedStream) throws IOException {
+        this.limits = limits;
+        this.compressedStream = new CountingInputStream(compressedStream, false);
+        this.uncompressedStream = new CountingInputStream(new GzipCompressorInputStream(this.compressedStream), true);
+    }
+
+    /**
+     * Provides uncompressed tar stream of the archive, reading it fails when size limits are exceeded.
+     *
+     * @return Uncompressed stream of the archive
+     */
+    public InputStream getUncompressedStream() {
+        return uncompressedStream;
+    }
+
+    /**
+     * Checks next entry of the archive against entry count, entry size and path depth limits.
+     *
+     * @param entry header of archive entry
+     */
+    public void checkEntry(TarArchiveEntry entry) {
+        if (++entryCount > limits.getMaxEntries()) {
+            throw new ArchiveLimitExceededException(ArchiveLimit.ENTRY_COUNT,
+                "Chart archive exceeds maximum number of entries: " + limits.getMaxEntries());
+        }
+        if (entry.getSize() > limits.getMaxEntryBytes()) {
+            throw new ArchiveLimitExceededException(ArchiveLimit.ENTRY_SIZE,
+                "Chart archive entry: " + entry.getName() + " exceeds maximum size of "
+                    + limits.getMaxEntryBytes() + " bytes");
+        }
+        if (pathDepth(entry.getName()) > limits.getMaxPathDepth()) {
+            throw new ArchiveLimitExceededException(ArchiveLimit.PATH_DEPTH,
+                "Chart archive entry: " + entry.getName() + " exceeds maximum path depth of "
+                    + limits.getMaxPathDepth());
+        }
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public long getCompressedBytes() {
+        return compressedStream.count;
+    }
+
+    public long getUncompressedBytes() {
+        return uncompressedStream.count;
+    }
+
+    private void checkSize() {
+        long uncompressedBytes = uncompressedStream.count;
+        if (uncompressedBytes > limits.getMaxUncompressedBytes()) {
+            throw new ArchiveLimitExceededException(ArchiveLimit.UNCOMPRESSED_SIZE,
+                "Chart archive exceeds maximum uncompressed size of " + limits.getMaxUncompressedBytes() + " bytes");
+        }
+        if (uncompressedBytes >= ArchiveLimits.RATIO_CHECK_MIN_BYTES
+            && uncompressedBytes > compressedStream.count * limits.getMaxCompressionRatio()) {
+            throw new ArchiveLimitExceededException(ArchiveLimit.COMPRESSION_RATIO,
+                "Chart archive exceeds maximum compression ratio of " + limits.getMaxCompressionRatio());
+        }
+    }
+
+    private static long pathDepth(String entryName) {
+        return Arrays.stream(entryName.split(PATH_SEPARATOR))
+            .filter(segment -> !segment.isEmpty() && !".".equals(segment))
+            .count();
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        private final boolean checked;
+        private long count;
+
+        CountingInputStream(InputStream inputStream, boolean checked) {
+            super(inputStream);
+            this.checked = checked;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) {
+                counted(1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                counted(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var buffer = new byte[SKIP_BUFFER_SIZE];
+            long skipped = 0;
+            int read;
+            while (skipped < n && (read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped))) != -1) {
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void counted(int bytes) {
+            count += bytes;
+            if (checked) {
+                checkSize();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+public enum ArchiveLimit {
+    COMPRESSED_SIZE("compressed-size"),
+    UNCOMPRESSED_SIZE("uncompressed-size"),
+    ENTRY_COUNT("entry-count"),
+    ENTRY_SIZE("entry-size"),
+    PATH_DEPTH("path-depth"),
+    COMPRESSION_RATIO("compression-ratio");
+
+    private final String name;
+
+    ArchiveLimit(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Safety and cost limits of packaged Helm charts, enforced while the archive is streamed,
+ * so oversized or malicious archives are rejected before any Helm process is started.
+ */
+@Service
+public class ArchiveLimits {
+
+    static final long RATIO_CHECK_MIN_BYTES = 1024L * 1024;
+
+    private final long maxUncompressedBytes;
+    private final int maxEntries;
+    private final long maxEntryBytes;
+    private final int maxPathDepth;
+    private final int maxCompressionRatio;
+
+    /**
+     * Constructor for ArchiveLimits.
+     *
+     * @param maxUncompressedBytes maximum size of uncompressed tar stream in bytes
+     * @param maxEntries           maximum number of entries in archive
+     * @param maxEntryBytes        maximum size of single file in archive in bytes
+     * @param maxPathDepth         maximum number of path segments of archive entry
+     * @param maxCompressionRatio  maximum ratio of uncompressed to compressed size, checked after 1 MiB
+     */
+    public ArchiveLimits(
+        @Value("${app.config.archive.max-uncompressed-bytes}") long maxUncompressedBytes,
+        @Value("${app.config.archive.max-entries}") int maxEntries,
+        @Value("${app.config.archive.max-entry-bytes}") long maxEntryBytes,
+        @Value("${app.config.archive.max-path-depth}") int maxPathDepth,
+        @Value("${app.config.archive.max-compression-ratio}") int maxCompressionRatio) {
+        this.maxUncompressedBytes = maxUncompressedBytes;
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxPathDepth = maxPathDepth;
+        this.maxCompressionRatio = maxCompressionRatio;
+    }
+
+    /**
+     * Starts inspection of packaged Helm chart. Given stream is closed together with the uncompressed stream
+     * of the inspection.
+     *
+     * @param compressedStream stream of packaged (.tgz) Helm chart
+     * @return Inspection enforcing limits on the archive
+     * @throws IOException when stream is not a valid gzip stream
+     */
+    public ArchiveInspection inspect(InputStream compressedStream) throws IOException {
+        return new ArchiveInspection(this, compressedStream);
+    }
+
+    public long getMaxUncompressedBytes() {
+        return maxUncompressedBytes;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public int getMaxPathDepth() {
+        return maxPathDepth;
+    }
+
+    public int getMaxCompressionRatio() {
+        return maxCompressionRatio;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveLimits{" +
+            " maxUncompressedBytes=" + maxUncompressedBytes +
+            ", maxEntries=" + maxEntries +
+            ", maxEntryBytes=" + maxEntryBytes +
+            ", maxPathDepth=" + maxPathDepth +
+            ", maxCompressionRatio=" + maxCompressionRatio +
+            " }";
+    }
+}
@@ -21,6 +21,8 @@
 package org.onap.sdc.helmvalidator.helm.versions;
 
 import java.util.List;
+import java.util.Optional;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ApiVersionNotFoundException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.NotSupportedApiVersionException;
 import org.springframework.stereotype.Service;
 
@@ -31,17 +33,20 @@ public class ChartBasedVersionProvider {
     private static final String HELM_3 = "3";
 
     private final SupportedVersionsProvider supportedVersionsProvider;
-    private final ApiVersionsReader apiVersionsReader;
 
-    public ChartBasedVersionProvider(
-        SupportedVersionsProvider supportedVersionsProvider,
-        ApiVersionsReader apiVersionsReader) {
+    public ChartBasedVersionProvider(SupportedVersionsProvider supportedVersionsProvider) {
         this.supportedVersionsProvider = supportedVersionsProvider;
-        this.apiVersionsReader = apiVersionsReader;
     }
 
-    public String getVersion(String chartPath) {
-        String apiVersion = apiVersionsReader.readVersion(chartPath);
+    /**
+     * Derives Helm version from metadata read during chart ingestion, without re-reading the chart.
+     *
+     * @param chartMetadata metadata of Helm chart
+     * @return latest available Helm client version supporting chart's apiVersion
+     */
+    public String getVersion(ChartMetadata chartMetadata) {
+        String apiVersion = Optional.ofNullable(chartMetadata.getApiVersion())
+            .orElseThrow(ApiVersionNotFoundException::new);
         return mapToHelmVersion(apiVersion);
     }
 
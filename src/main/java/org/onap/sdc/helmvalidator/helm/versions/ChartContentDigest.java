@@ -0,0 +1,100 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Digest of Helm chart content which does not depend on packaging: SHA-256 over entry paths sorted by name,
+ * each followed by SHA-256 of its content. Tar metadata such as modification times, owners, modes and order
+ * of entries is ignored, so the same chart packaged twice has the same content digest.
+ */
+class ChartContentDigest {
+
+    private static final String CURRENT_DIR_PREFIX = "./";
+    private static final byte PATH_TERMINATOR = 0;
+
+    private final List<EntryDigest> entryDigests = new ArrayList<>();
+
+    /**
+     * Wraps content of an archive entry, so that it is digested while being read.
+     *
+     * @param path    path of the entry in the archive
+     * @param content stream of entry content
+     * @return Stream of entry content, which has to be read to its end
+     */
+    InputStream digestEntry(String path, InputStream content) {
+        MessageDigest contentDigest = DigestUtils.getSha256Digest();
+        entryDigests.add(new EntryDigest(normalize(path), contentDigest));
+        return new DigestInputStream(content, contentDigest);
+    }
+
+    /**
+     * Digests symbolic link of the archive using its target as content.
+     *
+     * @param path       path of the link in the archive
+     * @param linkTarget target of the link
+     */
+    void digestLink(String path, String linkTarget) {
+        MessageDigest contentDigest = DigestUtils.getSha256Digest();
+        contentDigest.update(linkTarget.getBytes(StandardCharsets.UTF_8));
+        entryDigests.add(new EntryDigest(normalize(path), contentDigest));
+    }
+
+    String toHex() {
+        MessageDigest chartDigest = DigestUtils.getSha256Digest();
+        entryDigests.stream()
+            .sorted(Comparator.comparing(entryDigest -> entryDigest.path))
+            .forEach(entryDigest -> {
+                chartDigest.update(entryDigest.path.getBytes(StandardCharsets.UTF_8));
+                chartDigest.update(PATH_TERMINATOR);
+                chartDigest.update(entryDigest.contentDigest.digest());
+            });
+        return Hex.encodeHexString(chartDigest.digest());
+    }
+
+    private static String normalize(String path) {
+        String normalizedPath = path;
+        while (normalizedPath.startsWith(CURRENT_DIR_PREFIX)) {
+            normalizedPath = normalizedPath.substring(CURRENT_DIR_PREFIX.length());
+        }
+        return normalizedPath;
+    }
+
+    private static class EntryDigest {
+
+        private final String path;
+        private final MessageDigest contentDigest;
+
+        EntryDigest(String path, MessageDigest contentDigest) {
+            this.path = path;
+            this.contentDigest = contentDigest;
+        }
+    }
+}
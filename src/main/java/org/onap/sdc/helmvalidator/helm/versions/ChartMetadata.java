@@ -0,0 +1,88 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+public class ChartMetadata {
+
+    private final String apiVersion;
+    private final String name;
+    private final String version;
+    private final int entryCount;
+    private final String contentDigest;
+
+    /**
+     * Metadata of packaged Helm chart.
+     * @param apiVersion apiVersion from main Chart.yaml, null when not found
+     * @param name chart name from main Chart.yaml, null when not found
+     * @param version chart version from main Chart.yaml, null when not found
+     * @param entryCount number of entries in chart archive
+     */
+    public ChartMetadata(String apiVersion, String name, String version, int entryCount) {
+        this(apiVersion, name, version, entryCount, null);
+    }
+
+    /**
+     * Metadata of packaged Helm chart with digest of its content.
+     * @param apiVersion apiVersion from main Chart.yaml, null when not found
+     * @param name chart name from main Chart.yaml, null when not found
+     * @param version chart version from main Chart.yaml, null when not found
+     * @param entryCount number of entries in chart archive
+     * @param contentDigest SHA-256 digest of paths and contents of chart files, null when archive cannot be read
+     */
+    public ChartMetadata(String apiVersion, String name, String version, int entryCount, String contentDigest) {
+        this.apiVersion = apiVersion;
+        this.name = name;
+        this.version = version;
+        this.entryCount = entryCount;
+        this.contentDigest = contentDigest;
+    }
+
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public String getContentDigest() {
+        return contentDigest;
+    }
+
+    @Override
+    public String toString() {
+        return "ChartMetadata{" +
+            " apiVersion=" + apiVersion +
+            ", name=" + name +
+            ", version=" + version +
+            ", entryCount=" + entryCount +
+            ", contentDigest=" + contentDigest +
+            " }";
+    }
+}
@@ -21,31 +21,62 @@
 package org.onap.sdc.helmvalidator.helm.versions;
 
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SupportedVersionsProvider {
 
-    private final SystemEnvVersionsReader versionsReader;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SupportedVersionsProvider.class);
+    private static final String MAJOR_VERSION_PREFIX = "v";
+    private static final String ALL_VERSIONS = "all";
 
+    private final List<HelmVersion> sortedVersions;
+    private final List<String> versions;
+    private final Set<String> supportedVersions;
+    private final Map<String, String> latestVersionsByMajor;
+
+    /**
+     * Builds immutable registry of available Helm client versions, sorted from the newest one.
+     *
+     * @param versionsReader object reading available Helm client versions from environment
+     */
     public SupportedVersionsProvider(SystemEnvVersionsReader versionsReader) {
-        this.versionsReader = versionsReader;
+        this.sortedVersions = versionsReader.readVersions().stream()
+            .filter(Predicate.not(String::isBlank))
+            .map(SupportedVersionsProvider::parseVersion)
+            .flatMap(Optional::stream)
+            .distinct()
+            .sorted(Comparator.reverseOrder())
+            .collect(Collectors.toUnmodifiableList());
+        this.versions = sortedVersions.stream()
+            .map(HelmVersion::toString)
+            .collect(Collectors.toUnmodifiableList());
+        this.supportedVersions = Set.copyOf(versions);
+        Map<String, String> latestVersions = new LinkedHashMap<>();
+        sortedVersions.forEach(version ->
+            latestVersions.putIfAbsent(String.valueOf(version.getMajor()), version.toString()));
+        this.latestVersionsByMajor = Map.copyOf(latestVersions);
+        LOGGER.info("Supported Helm versions: {}", versions);
     }
 
     /**
      * Retrieves list of available Helm client versions.
      *
-     * @return list of available Helm client versions
+     * @return list of available Helm client versions, sorted from the newest one
      */
     public List<String> getVersions() {
-        return versionsReader.readVersions().stream()
-            .filter(Predicate.not(String::isBlank))
-            .sorted(Comparator.reverseOrder())
-            .collect(Collectors.toList());
+        return versions;
     }
 
     /**
@@ -55,9 +86,83 @@ public class SupportedVersionsProvider {
      * @return latest available Helm client with given major version
      */
     public String getLatestVersion(String helmMajorVersion) {
-        return getVersions().stream()
-            .filter(supportedVersion -> supportedVersion.startsWith(helmMajorVersion + "."))
+        return Optional.ofNullable(latestVersionsByMajor.get(helmMajorVersion))
+            .orElseGet(() -> resolveConstraint(helmMajorVersion));
+    }
+
+    /**
+     * Resolves requested Helm client version to available one.
+     * Accepted formats are exact semantic version (e.g. 3.5.2), major version (e.g. v3)
+     * and version constraint (e.g. ~3.12, ^3.5.0, >=3.10 &lt;3.14), which resolves to the newest matching version.
+     *
+     * @param desiredVersion requested version of Helm client
+     * @return available Helm client version
+     */
+    public String resolveVersion(String desiredVersion) {
+        if (supportedVersions.contains(desiredVersion)) {
+            return desiredVersion;
+        }
+        if (desiredVersion.startsWith(MAJOR_VERSION_PREFIX)) {
+            return getLatestVersion(desiredVersion.substring(MAJOR_VERSION_PREFIX.length()));
+        }
+        return resolveConstraint(desiredVersion);
+    }
+
+    /**
+     * Resolves requested Helm client versions to all matching available ones, e.g. to validate a chart with each
+     * of them. Besides exact semantic version, 'all' selects every available version, while major version
+     * (e.g. v3) and version constraint (e.g. ~3.12) select every matching version instead of the newest one.
+     * No requested version selects every available version.
+     *
+     * @param desiredVersions requested versions of Helm client
+     * @return distinct available Helm client versions, sorted from the newest one
+     */
+    public List<String> resolveVersions(List<String> desiredVersions) {
+        if (desiredVersions == null || desiredVersions.isEmpty()) {
+            return versions;
+        }
+        Set<HelmVersion> matchingVersions = new HashSet<>();
+        for (String desiredVersion : desiredVersions) {
+            matchingVersions.addAll(resolveMatchingVersions(desiredVersion.trim()));
+        }
+        return sortedVersions.stream()
+            .filter(matchingVersions::contains)
+            .map(HelmVersion::toString)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private List<HelmVersion> resolveMatchingVersions(String desiredVersion) {
+        if (ALL_VERSIONS.equals(desiredVersion)) {
+            return sortedVersions;
+        }
+        String constraint = desiredVersion.startsWith(MAJOR_VERSION_PREFIX)
+            ? desiredVersion.substring(MAJOR_VERSION_PREFIX.length()) : desiredVersion;
+        VersionConstraint versionConstraint = VersionConstraint.parse(constraint)
+            .orElseThrow(() -> new NotSupportedVersionException(desiredVersion));
+        List<HelmVersion> matchingVersions = sortedVersions.stream()
+            .filter(versionConstraint)
+            .collect(Collectors.toList());
+        if (matchingVersions.isEmpty()) {
+            throw new NotSupportedVersionException(desiredVersion);
+        }
+        return matchingVersions;
+    }
+
+    private String resolveConstraint(String constraint) {
+        VersionConstraint versionConstraint = VersionConstraint.parse(constraint)
+            .orElseThrow(() -> new NotSupportedVersionException(constraint));
+        return sortedVersions.stream()
+            .filter(versionConstraint)
             .findFirst()
-            .orElseThrow(() -> new NotSupportedVersionException(helmMajorVersion));
+            .map(HelmVersion::toString)
+            .orElseThrow(() -> new NotSupportedVersionException(constraint));
+    }
+
+    private static Optional<HelmVersion> parseVersion(String version) {
+        Optional<HelmVersion> helmVersion = HelmVersion.parse(version);
+        if (helmVersion.isEmpty()) {
+            LOGGER.warn("Ignoring Helm version: {}, it is not a semantic version", version);
+        }
+        return helmVersion;
     }
 }
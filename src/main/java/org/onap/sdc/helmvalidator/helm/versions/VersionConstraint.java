@@ -0,0 +1,124 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Version constraint matching semantic versions of Helm client, e.g. '~3.12', '^3.5.0' or '>=3.10 <3.14'.
+ * Comparators separated by whitespace or comma must all be satisfied. Partial version without an operator
+ * matches all versions starting with it, full version without an operator matches only itself.
+ */
+public final class VersionConstraint implements Predicate<HelmVersion> {
+
+    private static final Pattern COMPARATOR_PATTERN =
+        Pattern.compile("^(>=|<=|>|<|=|~|\\^)?(\\d{1,9})(?:\\.(\\d{1,9}))?(?:\\.(\\d{1,9}))?$");
+    private static final Pattern OPERATOR_WHITESPACE = Pattern.compile("(>=|<=|>|<|=|~|\\^)\\s+");
+    private static final String COMPARATORS_DELIMITER = "[\\s,]+";
+
+    private final String constraint;
+    private final List<Predicate<HelmVersion>> comparators;
+
+    private VersionConstraint(String constraint, List<Predicate<HelmVersion>> comparators) {
+        this.constraint = constraint;
+        this.comparators = List.copyOf(comparators);
+    }
+
+    /**
+     * Parses version constraint.
+     *
+     * @param constraint text of version constraint
+     * @return Parsed constraint or empty if given text is not a valid constraint
+     */
+    public static Optional<VersionConstraint> parse(String constraint) {
+        if (constraint == null || constraint.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = OPERATOR_WHITESPACE.matcher(constraint.trim()).replaceAll("$1");
+        List<Predicate<HelmVersion>> comparators = new ArrayList<>();
+        for (String comparator : normalized.split(COMPARATORS_DELIMITER)) {
+            Matcher matcher = COMPARATOR_PATTERN.matcher(comparator);
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            comparators.add(toComparator(matcher));
+        }
+        return Optional.of(new VersionConstraint(constraint, comparators));
+    }
+
+    @Override
+    public boolean test(HelmVersion version) {
+        return comparators.stream().allMatch(comparator -> comparator.test(version));
+    }
+
+    @Override
+    public String toString() {
+        return constraint;
+    }
+
+    private static Predicate<HelmVersion> toComparator(Matcher matcher) {
+        String operator = Optional.ofNullable(matcher.group(1)).orElse("=");
+        int major = Integer.parseInt(matcher.group(2));
+        Integer minor = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : null;
+        Integer patch = matcher.group(4) != null ? Integer.parseInt(matcher.group(4)) : null;
+
+        var lower = new HelmVersion(major, valueOrZero(minor), valueOrZero(patch));
+        HelmVersion upper = nextVersion(major, minor, patch);
+        switch (operator) {
+            case ">=":
+                return version -> version.compareTo(lower) >= 0;
+            case ">":
+                return version -> version.compareTo(upper) >= 0;
+            case "<":
+                return version -> version.compareTo(lower) < 0;
+            case "<=":
+                return version -> version.compareTo(upper) < 0;
+            case "~":
+                HelmVersion tildeUpper = minor != null
+                    ? new HelmVersion(major, minor + 1, 0) : new HelmVersion(major + 1, 0, 0);
+                return version -> version.compareTo(lower) >= 0 && version.compareTo(tildeUpper) < 0;
+            case "^":
+                var caretUpper = new HelmVersion(major + 1, 0, 0);
+                return version -> version.compareTo(lower) >= 0 && version.compareTo(caretUpper) < 0;
+            default:
+                return version -> version.compareTo(lower) >= 0 && version.compareTo(upper) < 0;
+        }
+    }
+
+    private static HelmVersion nextVersion(int major, Integer minor, Integer patch) {
+        if (minor == null) {
+            return new HelmVersion(major + 1, 0, 0);
+        }
+        if (patch == null) {
+            return new HelmVersion(major, minor + 1, 0);
+        }
+        return new HelmVersion(major, minor, patch + 1);
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
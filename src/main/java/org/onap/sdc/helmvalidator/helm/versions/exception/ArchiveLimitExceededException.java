@@ -0,0 +1,37 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions.exception;
+
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimit;
+
+public class ArchiveLimitExceededException extends RuntimeException {
+
+    private final ArchiveLimit limit;
+
+    public ArchiveLimitExceededException(ArchiveLimit limit, String message) {
+        super(message);
+        this.limit = limit;
+    }
+
+    public ArchiveLimit getLimit() {
+        return limit;
+    }
+}
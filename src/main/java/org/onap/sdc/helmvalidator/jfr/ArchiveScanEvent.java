@@ -0,0 +1,73 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ArchiveScanEvent.NAME)
+@Label("Chart Archive Scan")
+@Description("Scan of packaged chart reading its metadata and checking archive limits")
+@Category({JfrEvents.CATEGORY, JfrEvents.FILES_CATEGORY})
+@StackTrace(false)
+public class ArchiveScanEvent extends Event {
+
+    static final String NAME = JfrEvents.PREFIX + "ArchiveScan";
+
+    @Label("Chart Size")
+    @Description("Size of the packaged chart read during the scan")
+    @DataAmount
+    private long chartSize;
+
+    @Label("Uncompressed Size")
+    @DataAmount
+    private long uncompressedSize;
+
+    @Label("Entries")
+    private int entries;
+
+    @Label("API Version")
+    private String apiVersion;
+
+    /**
+     * Ends the scan and commits the event when it is enabled.
+     *
+     * @param chartSize        number of bytes of the packaged chart read during the scan
+     * @param uncompressedSize number of uncompressed bytes of the archive
+     * @param entries          number of archive entries
+     * @param apiVersion       API version of the chart, null when not found
+     */
+    public void complete(long chartSize, long uncompressedSize, int entries, String apiVersion) {
+        end();
+        if (shouldCommit()) {
+            this.chartSize = chartSize;
+            this.uncompressedSize = uncompressedSize;
+            this.entries = entries;
+            this.apiVersion = apiVersion;
+            commit();
+        }
+    }
+}
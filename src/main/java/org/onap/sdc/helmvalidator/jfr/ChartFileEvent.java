@@ -0,0 +1,70 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ChartFileEvent.NAME)
+@Label("Chart File")
+@Description("Save, move or delete of a chart file in charts directory")
+@Category({JfrEvents.CATEGORY, JfrEvents.FILES_CATEGORY})
+@StackTrace(false)
+public class ChartFileEvent extends Event {
+
+    public static final String SAVE = "save";
+    public static final String MOVE = "move";
+    public static final String DELETE = "delete";
+
+    static final String NAME = JfrEvents.PREFIX + "ChartFile";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Chart Size")
+    @DataAmount
+    private long chartSize;
+
+    /**
+     * Ends the file operation and commits the event when it is enabled.
+     *
+     * @param operation operation on the file
+     * @param path      path of the chart file
+     * @param chartSize size of the chart file in bytes
+     */
+    public void complete(String operation, String path, long chartSize) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.path = path;
+            this.chartSize = chartSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(HelmCommandEvent.NAME)
+@Label("Helm Command")
+@Description("Helm command run on a chart, including wait for a free slot and read of its output")
+@Category({JfrEvents.CATEGORY, JfrEvents.HELM_CATEGORY})
+@StackTrace(false)
+public class HelmCommandEvent extends Event {
+
+    static final String NAME = JfrEvents.PREFIX + "HelmCommand";
+
+    @Label("Helm Version")
+    private String helmVersion;
+
+    @Label("Subcommand")
+    private String subcommand;
+
+    @Label("Chart Path")
+    private String chartPath;
+
+    @Label("Exit Code")
+    private int exitCode;
+
+    @Label("Output Truncated")
+    private boolean outputTruncated;
+
+    /**
+     * Ends the command and commits the event when it is enabled.
+     *
+     * @param helmVersion     version of Helm client
+     * @param subcommand      Helm subcommand
+     * @param chartPath       path of the chart
+     * @param exitCode        exit code of Helm process
+     * @param outputTruncated flag indicating if Helm output exceeded capture limits
+     */
+    public void complete(String helmVersion, String subcommand, String chartPath, int exitCode,
+        boolean outputTruncated) {
+        end();
+        if (shouldCommit()) {
+            this.helmVersion = helmVersion;
+            this.subcommand = subcommand;
+            this.chartPath = chartPath;
+            this.exitCode = exitCode;
+            this.outputTruncated = outputTruncated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(HelmOutputReadEvent.NAME)
+@Label("Helm Output Read")
+@Description("Read of Helm process output until its end")
+@Category({JfrEvents.CATEGORY, JfrEvents.HELM_CATEGORY})
+@StackTrace(false)
+public class HelmOutputReadEvent extends Event {
+
+    static final String NAME = JfrEvents.PREFIX + "HelmOutputRead";
+
+    @Label("Captured Bytes")
+    @DataAmount
+    private long capturedBytes;
+
+    @Label("Captured Lines")
+    private int capturedLines;
+
+    @Label("Truncated")
+    @Description("Flag indicating if the output exceeded capture limits")
+    private boolean truncated;
+
+    /**
+     * Ends the read and commits the event when it is enabled.
+     *
+     * @param capturedBytes number of captured bytes of the output
+     * @param capturedLines number of captured lines of the output
+     * @param truncated     flag indicating if the output exceeded capture limits
+     */
+    public void complete(long capturedBytes, int capturedLines, boolean truncated) {
+        end();
+        if (shouldCommit()) {
+            this.capturedBytes = capturedBytes;
+            this.capturedLines = capturedLines;
+            this.truncated = truncated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(HelmProcessEvent.NAME)
+@Label("Helm Process")
+@Description("Helm process run from its spawn until its exit")
+@Category({JfrEvents.CATEGORY, JfrEvents.HELM_CATEGORY})
+@StackTrace(false)
+public class HelmProcessEvent extends Event {
+
+    static final String NAME = JfrEvents.PREFIX + "HelmProcess";
+
+    @Label("Command")
+    private String command;
+
+    @Label("Process Id")
+    private long pid;
+
+    @Label("Spawn Duration")
+    @Description("Time spent starting the process")
+    @Timespan(Timespan.NANOSECONDS)
+    private long spawnDuration;
+
+    @Label("Exit Code")
+    private int exitCode;
+
+    @Label("Timed Out")
+    private boolean timedOut;
+
+    /**
+     * Ends the process run and commits the event when it is enabled.
+     *
+     * @param command       arguments of the process joined with spaces
+     * @param pid           id of the process
+     * @param spawnDuration time in nanoseconds spent starting the process
+     * @param exitCode      exit code of the process
+     * @param timedOut      flag indicating if the process was killed after exceeding its timeout
+     */
+    public void complete(String command, long pid, long spawnDuration, int exitCode, boolean timedOut) {
+        end();
+        if (shouldCommit()) {
+            this.command = command;
+            this.pid = pid;
+            this.spawnDuration = spawnDuration;
+            this.exitCode = exitCode;
+            this.timedOut = timedOut;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(HelmSlotWaitEvent.NAME)
+@Label("Helm Slot Wait")
+@Description("Wait for a free slot to run Helm process")
+@Category({JfrEvents.CATEGORY, JfrEvents.HELM_CATEGORY})
+@StackTrace(false)
+public class HelmSlotWaitEvent extends Event {
+
+    static final String NAME = JfrEvents.PREFIX + "HelmSlotWait";
+
+    @Label("Acquired")
+    @Description("Flag indicating if the slot was acquired, false when the process was rejected")
+    private boolean acquired;
+
+    /**
+     * Ends the wait and commits the event when it is enabled.
+     *
+     * @param acquired flag indicating if the slot was acquired
+     */
+    public void complete(boolean acquired) {
+        end();
+        if (shouldCommit()) {
+            this.acquired = acquired;
+            commit();
+        }
+    }
+}
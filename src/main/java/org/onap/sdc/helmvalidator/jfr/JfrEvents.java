@@ -0,0 +1,42 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import java.util.List;
+import jdk.jfr.Event;
+
+/**
+ * Flight Recorder events emitted by the validation pipeline.
+ */
+public final class JfrEvents {
+
+    static final String PREFIX = "org.onap.sdc.helmvalidator.";
+    static final String CATEGORY = "SDC Helm Validator";
+    static final String HELM_CATEGORY = "Helm";
+    static final String FILES_CATEGORY = "Chart Files";
+
+    static final List<Class<? extends Event>> EVENT_TYPES = List.of(HelmCommandEvent.class,
+        HelmSlotWaitEvent.class, HelmProcessEvent.class, HelmOutputReadEvent.class, ChartFileEvent.class,
+        ArchiveScanEvent.class);
+
+    private JfrEvents() {
+    }
+}
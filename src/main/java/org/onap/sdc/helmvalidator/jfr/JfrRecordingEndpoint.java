@@ -0,0 +1,222 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint controlling a single Flight Recorder recording of the application. The recording is
+ * started with POST and its state is read with GET. DELETE stops and closes the recording, streaming its .jfr file
+ * back unless it is discarded. Duration and size of the recording are bounded. Events recording environment
+ * variables and system properties are turned off, so the recording does not expose secrets passed to the
+ * application. The endpoint is disabled by default.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+    private static final String RECORDING_NAME = "sdc-helm-validator";
+    private static final String RECORDING_CONFIGURATION = "default";
+    private static final int STATUS_CONFLICT = 409;
+    private static final String MESSAGE_KEY = "message";
+    private static final List<String> DISABLED_EVENT_TYPES = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private Recording recording;
+
+    /**
+     * Constructor for JfrRecordingEndpoint.
+     *
+     * @param maxDurationMs maximum duration of recording in milliseconds, recording stops by itself after it
+     * @param maxSizeBytes  maximum size of recording data kept on disk
+     */
+    public JfrRecordingEndpoint(
+        @Value("${app.config.jfr.max-duration-ms}") long maxDurationMs,
+        @Value("${app.config.jfr.max-size-bytes}") long maxSizeBytes) {
+        this.maxDuration = Duration.ofMillis(maxDurationMs);
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Starts new recording, unless one is already running.
+     *
+     * @param durationMs requested duration of recording in milliseconds, limited by the maximum duration
+     * @return Description of started recording
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Long durationMs) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(Map.of(MESSAGE_KEY, "Recording is already running"), STATUS_CONFLICT);
+        }
+        discardRecording();
+        Duration duration = durationMs == null || durationMs <= 0
+            ? maxDuration : Duration.ofMillis(Math.min(durationMs, maxDuration.toMillis()));
+        try {
+            var newRecording = new Recording(Configuration.getConfiguration(RECORDING_CONFIGURATION));
+            JfrEvents.EVENT_TYPES.forEach(eventType -> newRecording.enable(eventType).withoutStackTrace());
+            DISABLED_EVENT_TYPES.forEach(newRecording::disable);
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxSize(maxSizeBytes);
+            newRecording.setDuration(duration);
+            newRecording.start();
+            recording = newRecording;
+        } catch (IOException | ParseException e) {
+            LOGGER.warn("Cannot start flight recording, error: {}", e.getMessage());
+            return new WebEndpointResponse<>(Map.of(MESSAGE_KEY, "Cannot start flight recording"),
+                WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+        LOGGER.info("Flight recording started for: {} ms", duration.toMillis());
+        return new WebEndpointResponse<>(Map.of("durationMs", duration.toMillis(), "maxSizeBytes", maxSizeBytes),
+            WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * Describes the recording.
+     *
+     * @return State, duration and maximum size of the recording
+     */
+    @ReadOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> status() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(Map.of("state", recording.getState().name(),
+            "durationMs", recording.getDuration().toMillis(), "maxSizeBytes", recording.getMaxSize()),
+            WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * Stops the recording and streams its data, unless it is discarded. The recording is closed afterwards.
+     *
+     * @param discard flag deciding if data of the recording is dropped instead of being returned
+     * @return .jfr file of the recording, or empty response when the recording is discarded
+     */
+    @DeleteOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> stop(@Nullable Boolean discard) {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (Boolean.TRUE.equals(discard)) {
+            discardRecording();
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+        }
+        Path recordingFile = null;
+        try {
+            recordingFile = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.dump(recordingFile);
+            LOGGER.info("Flight recording dumped, size: {}", Files.size(recordingFile));
+            return new WebEndpointResponse<>(new TemporaryFileResource(recordingFile), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot dump flight recording, error: {}", e.getMessage());
+            deleteFile(recordingFile);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } finally {
+            discardRecording();
+        }
+    }
+
+    private void discardRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static void deleteFile(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete flight recording file: {}, error: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Recording file removed as soon as it is streamed.
+     */
+    private static class TemporaryFileResource extends FileSystemResource {
+
+        private final Path file;
+
+        TemporaryFileResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return Channels.newChannel(getInputStream());
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deleteFile(file);
+                    }
+                }
+            };
+        }
+    }
+}
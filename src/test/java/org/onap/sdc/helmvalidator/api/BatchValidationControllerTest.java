@@ -0,0 +1,204 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.ChartIngestor;
+import org.onap.sdc.helmvalidator.helm.validation.FileManager;
+import org.onap.sdc.helmvalidator.helm.validation.ValidationService;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.versions.ChartMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK,
+    properties = "app.config.batch.max-charts=" + BatchValidationControllerTest.MAX_CHARTS)
+@AutoConfigureMockMvc
+class BatchValidationControllerTest {
+
+    static final int MAX_CHARTS = 2;
+
+    private static final String BATCH_ENDPOINT = "/validate/batch";
+    private static final String FILE_KEY = "file";
+    private static final String ARCHIVE_KEY = "archive";
+    private static final String FIRST_CHART = "first-1.0.0.tgz";
+    private static final String SECOND_CHART = "second-1.0.0.tgz";
+    private static final ChartMetadata SAMPLE_METADATA = new ChartMetadata("v2", "chart", "1.0.0", 1);
+    private static final ChartDescriptor FIRST_SAVED_CHART = new ChartDescriptor("/charts/first", "first-digest", 1L,
+        SAMPLE_METADATA);
+    private static final ChartDescriptor SECOND_SAVED_CHART = new ChartDescriptor("/charts/second", "second-digest",
+        1L, SAMPLE_METADATA);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ValidationService validationService;
+
+    @MockBean
+    private ChartIngestor chartIngestor;
+
+    @MockBean
+    private FileManager fileManager;
+
+    @Test
+    void shouldValidateChartsSentAsFilesAndKeyResultsByFileName() throws Exception {
+        when(chartIngestor.ingest(any(MultipartFile.class))).thenReturn(FIRST_SAVED_CHART, SECOND_SAVED_CHART);
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(BATCH_ENDPOINT)
+                .file(chartFile(FIRST_CHART))
+                .file(chartFile(SECOND_CHART)))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"" + FIRST_CHART + "\"")
+            .contains("\"" + SECOND_CHART + "\"");
+        verify(fileManager).removeFile(FIRST_SAVED_CHART.getPath());
+        verify(fileManager).removeFile(SECOND_SAVED_CHART.getPath());
+    }
+
+    @Test
+    void shouldValidateChartsSentAsArchiveSkippingOtherFiles() throws Exception {
+        when(chartIngestor.ingest(any(InputStream.class), eq(FIRST_CHART))).thenReturn(FIRST_SAVED_CHART);
+        when(chartIngestor.ingest(any(InputStream.class), eq(SECOND_CHART))).thenReturn(SECOND_SAVED_CHART);
+        MockMultipartFile archive = new MockMultipartFile(ARCHIVE_KEY, "charts.tar.gz",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE, archiveOf("charts/" + FIRST_CHART, "README.md",
+            "charts/" + SECOND_CHART));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(BATCH_ENDPOINT)
+                .file(archive))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"" + FIRST_CHART + "\"")
+            .contains("\"" + SECOND_CHART + "\"")
+            .doesNotContain("README.md");
+    }
+
+    @Test
+    void shouldKeepResultsOfFilesWithTheSameName() throws Exception {
+        when(chartIngestor.ingest(any(MultipartFile.class))).thenReturn(FIRST_SAVED_CHART, SECOND_SAVED_CHART);
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(BATCH_ENDPOINT)
+                .file(chartFile(FIRST_CHART))
+                .file(chartFile(FIRST_CHART)))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"" + FIRST_CHART + "\"")
+            .contains("\"" + FIRST_CHART + "[1]\"");
+    }
+
+    @Test
+    void shouldRejectBatchExceedingMaximumNumberOfCharts() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(BATCH_ENDPOINT)
+                .file(chartFile(FIRST_CHART))
+                .file(chartFile(SECOND_CHART))
+                .file(chartFile("third-1.0.0.tgz")))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).contains("Batch exceeds maximum number of charts: " + MAX_CHARTS);
+        verifyNoInteractions(chartIngestor);
+    }
+
+    @Test
+    void shouldRejectArchiveExceedingMaximumNumberOfCharts() throws Exception {
+        when(chartIngestor.ingest(any(InputStream.class), any())).thenReturn(FIRST_SAVED_CHART, SECOND_SAVED_CHART);
+        MockMultipartFile archive = new MockMultipartFile(ARCHIVE_KEY, "charts.tar.gz",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE, archiveOf(FIRST_CHART, SECOND_CHART, "third-1.0.0.tgz"));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(BATCH_ENDPOINT)
+                .file(archive))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).contains("Batch exceeds maximum number of charts: " + MAX_CHARTS);
+        verify(fileManager).removeFile(FIRST_SAVED_CHART.getPath());
+        verify(fileManager).removeFile(SECOND_SAVED_CHART.getPath());
+    }
+
+    @Test
+    void shouldRejectBatchWithBothFilesAndArchive() throws Exception {
+        MockMultipartFile archive = new MockMultipartFile(ARCHIVE_KEY, "charts.tar.gz",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE, archiveOf(FIRST_CHART));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(BATCH_ENDPOINT)
+                .file(chartFile(SECOND_CHART))
+                .file(archive))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        verifyNoInteractions(chartIngestor);
+    }
+
+    private MockMultipartFile chartFile(String name) {
+        return new MockMultipartFile(FILE_KEY, name, MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] archiveOf(String... entryNames) throws IOException {
+        var archive = new ByteArrayOutputStream();
+        try (var tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(archive))) {
+            for (String entryName : entryNames) {
+                byte[] content = entryName.getBytes(StandardCharsets.UTF_8);
+                var entry = new TarArchiveEntry(entryName);
+                entry.setSize(content.length);
+                tarStream.putArchiveEntry(entry);
+                tarStream.write(content);
+                tarStream.closeArchiveEntry();
+            }
+        }
+        return archive.toByteArray();
+    }
+}
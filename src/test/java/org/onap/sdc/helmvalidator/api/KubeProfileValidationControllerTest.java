@@ -0,0 +1,147 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.capabilities.KubeCapabilityProfile;
+import org.onap.sdc.helmvalidator.helm.capabilities.KubeCapabilityProfiles;
+import org.onap.sdc.helmvalidator.helm.validation.KubeProfileValidationService;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class KubeProfileValidationControllerTest {
+
+    private static final String KUBE_PROFILES_ENDPOINT = "/validate/kube-profiles";
+    private static final String VERSION_PARAM = "versionDesired";
+    private static final String PROFILES_PARAM = "kubeProfiles";
+    private static final String HELM_VERSION = "3.14.4";
+    private static final String UNSUPPORTED_HELM_VERSION = "3.5.2";
+    private static final KubeCapabilityProfile OLD_KUBE_PROFILE = new KubeCapabilityProfile("k8s-1.23", "1.23.17",
+        List.of("policy/v1beta1/PodSecurityPolicy"));
+    private static final KubeCapabilityProfile NEW_KUBE_PROFILE = new KubeCapabilityProfile("k8s-1.29", "1.29.2",
+        List.of());
+    private static final List<String> PROFILE_NAMES = List.of(NEW_KUBE_PROFILE.getName(),
+        OLD_KUBE_PROFILE.getName());
+    private static final String TIMEOUT_ERROR = "Helm execution exceeded timeout of 1000 ms and was terminated";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private KubeProfileValidationService kubeProfileValidationService;
+
+    @MockBean
+    private KubeCapabilityProfiles kubeProfiles;
+
+    @Test
+    void shouldReturnConfiguredProfiles() throws Exception {
+        when(kubeProfiles.getProfiles()).thenReturn(List.of(OLD_KUBE_PROFILE, NEW_KUBE_PROFILE));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/kube-profiles")).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"name\":\"" + OLD_KUBE_PROFILE.getName() + "\"")
+            .contains("\"fingerprint\":\"" + NEW_KUBE_PROFILE.getFingerprint() + "\"");
+    }
+
+    @Test
+    void shouldReturnResultsAndErrorsKeyedByProfileName() throws Exception {
+        List<KubeCapabilityProfile> profiles = List.of(NEW_KUBE_PROFILE, OLD_KUBE_PROFILE);
+        when(kubeProfiles.resolveProfiles(PROFILE_NAMES)).thenReturn(profiles);
+        Map<String, BatchValidationEntry> entries = new LinkedHashMap<>();
+        entries.put(NEW_KUBE_PROFILE.getName(), BatchValidationEntry.failed(TIMEOUT_ERROR));
+        entries.put(OLD_KUBE_PROFILE.getName(), BatchValidationEntry.succeeded(
+            new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()), HELM_VERSION)));
+        when(kubeProfileValidationService.process(eq(HELM_VERSION), any(MultipartFile.class), eq(false), eq(false),
+            eq(profiles))).thenReturn(entries);
+
+        MockHttpServletResponse response = performValidation(HELM_VERSION);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"" + NEW_KUBE_PROFILE.getName() + "\":{\"error\":\"" + TIMEOUT_ERROR + "\"}")
+            .contains("\"" + OLD_KUBE_PROFILE.getName() + "\":{\"result\":{")
+            .contains("\"versionUsed\":\"" + HELM_VERSION + "\"");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenHelmVersionDoesNotSupportProfiles() throws Exception {
+        List<KubeCapabilityProfile> profiles = List.of(NEW_KUBE_PROFILE, OLD_KUBE_PROFILE);
+        when(kubeProfiles.resolveProfiles(PROFILE_NAMES)).thenReturn(profiles);
+        when(kubeProfileValidationService.process(eq(UNSUPPORTED_HELM_VERSION), any(MultipartFile.class), eq(false),
+            eq(false), eq(profiles)))
+            .thenThrow(new NotSupportedKubeProfileVersionException(UNSUPPORTED_HELM_VERSION,
+                KubeCapabilityProfile.MINIMAL_HELM_VERSION));
+
+        MockHttpServletResponse response = performValidation(UNSUPPORTED_HELM_VERSION);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).contains("version 3.6.0 or newer is required");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenProfileIsNotConfigured() throws Exception {
+        when(kubeProfiles.resolveProfiles(PROFILE_NAMES))
+            .thenThrow(new NotSupportedKubeProfileException(OLD_KUBE_PROFILE.getName()));
+
+        MockHttpServletResponse response = performValidation(HELM_VERSION);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).contains(OLD_KUBE_PROFILE.getName() + " is not configured");
+    }
+
+    private MockHttpServletResponse performValidation(String version) throws Exception {
+        return mockMvc.perform(
+            multipart(KUBE_PROFILES_ENDPOINT)
+                .file(new MockMultipartFile("file", "chart-1.0.0.tgz", MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                    "chart".getBytes()))
+                .param(VERSION_PARAM, version)
+                .param(PROFILES_PARAM, String.join(",", PROFILE_NAMES)))
+            .andReturn().getResponse();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.MatrixValidationService;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticParser;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmOutputLineType;
+import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class MatrixValidationControllerTest {
+
+    private static final String MATRIX_ENDPOINT = "/validate/matrix";
+    private static final String VERSIONS_PARAM = "versionsDesired";
+    private static final String NEWER_VERSION = "3.14.4";
+    private static final String OLDER_VERSION = "3.12.3";
+    private static final List<String> DESIRED_VERSIONS = List.of(OLDER_VERSION, "~3.14");
+    private static final String TIMEOUT_ERROR = "Helm execution exceeded timeout of 1000 ms and was terminated";
+    private static final String SAMPLE_LINT_ERROR = "[ERROR] Chart.yaml: version is required";
+    private static final String DIAGNOSTICS = "diagnostics";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MatrixValidationService matrixValidationService;
+
+    @Test
+    void shouldReturnResultsAndErrorsKeyedByVersion() throws Exception {
+        when(matrixValidationService.process(eq(DESIRED_VERSIONS), any(MultipartFile.class), eq(false), eq(false)))
+            .thenReturn(entries(BatchValidationEntry.failed(TIMEOUT_ERROR),
+                BatchValidationEntry.succeeded(templateResult(OLDER_VERSION))));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(MATRIX_ENDPOINT)
+                .file(chartFile())
+                .param(VERSIONS_PARAM, String.join(",", DESIRED_VERSIONS)))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"" + NEWER_VERSION + "\":{\"error\":\"" + TIMEOUT_ERROR + "\"}")
+            .contains("\"" + OLDER_VERSION + "\":{\"result\":{")
+            .contains("\"versionUsed\":\"" + OLDER_VERSION + "\"");
+        assertThat(response.getContentAsString().indexOf(NEWER_VERSION))
+            .isLessThan(response.getContentAsString().indexOf(OLDER_VERSION));
+    }
+
+    @Test
+    void shouldContainDiagnosticsOnlyWhenRequested() throws Exception {
+        when(matrixValidationService.process(eq(List.of(NEWER_VERSION)), any(MultipartFile.class), eq(true),
+            eq(false)))
+            .thenAnswer(invocation -> entries(BatchValidationEntry.succeeded(lintResult(NEWER_VERSION))));
+
+        String withDiagnostics = performLintValidation("true");
+        String withoutDiagnostics = performLintValidation("false");
+
+        assertThat(withDiagnostics)
+            .contains(DIAGNOSTICS)
+            .contains("\"message\":\"version is required\"");
+        assertThat(withoutDiagnostics)
+            .doesNotContain(DIAGNOSTICS)
+            .contains("lintError");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenVersionsAreNotSupported() throws Exception {
+        when(matrixValidationService.process(eq(List.of("4")), any(MultipartFile.class), eq(false), eq(false)))
+            .thenThrow(new NotSupportedVersionException("4"));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(MATRIX_ENDPOINT)
+                .file(chartFile())
+                .param(VERSIONS_PARAM, "4"))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private String performLintValidation(String withDiagnostics) throws Exception {
+        return mockMvc.perform(
+            multipart(MATRIX_ENDPOINT)
+                .file(chartFile())
+                .param(VERSIONS_PARAM, NEWER_VERSION)
+                .param("isLinted", "true")
+                .param("withDiagnostics", withDiagnostics))
+            .andReturn().getResponse().getContentAsString();
+    }
+
+    private static Map<String, BatchValidationEntry> entries(BatchValidationEntry newerEntry,
+        BatchValidationEntry olderEntry) {
+        Map<String, BatchValidationEntry> entries = entries(newerEntry);
+        entries.put(OLDER_VERSION, olderEntry);
+        return entries;
+    }
+
+    private static Map<String, BatchValidationEntry> entries(BatchValidationEntry newerEntry) {
+        Map<String, BatchValidationEntry> entries = new LinkedHashMap<>();
+        entries.put(NEWER_VERSION, newerEntry);
+        return entries;
+    }
+
+    private static ValidationResult templateResult(String version) {
+        return new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()), version);
+    }
+
+    private static ValidationResult lintResult(String version) {
+        LintValidationResult lintValidationResult = new LintValidationResult(false, List.of(SAMPLE_LINT_ERROR),
+            new ArrayList<>(), List.of(HelmDiagnosticParser.parse(SAMPLE_LINT_ERROR, HelmOutputLineType.ERROR)),
+            false);
+        return new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()), lintValidationResult,
+            version);
+    }
+
+    private static MockMultipartFile chartFile() {
+        return new MockMultipartFile("file", "chart-1.0.0.tgz", MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            "chart".getBytes());
+    }
+}
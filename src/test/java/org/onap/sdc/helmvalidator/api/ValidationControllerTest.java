@@ -22,10 +22,19 @@ package org.onap.sdc.helmvalidator.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,18 +42,27 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.sdc.helmvalidator.helm.validation.ValidationService;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartDigestException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationResultNotFoundException;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnostic;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticParser;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmOutputLineType;
 import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
 import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationPhase;
 import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationTimings;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -68,6 +86,15 @@ class ValidationControllerTest {
     private static final String FILE_KEY = "file";
     private static final String VALIDATION_ENDPOINT = "/validate";
     private static final String VERSION_USED = "versionUsed";
+    private static final String WITH_DIAGNOSTICS_PARAM = "withDiagnostics";
+    private static final String DIAGNOSTICS = "diagnostics";
+    private static final String WITH_TIMINGS_PARAM = "withTimings";
+    private static final String TIMINGS = "timings";
+    private static final long TEMPLATE_DURATION_NANOS = 1_500_000;
+    private static final String SAMPLE_LINT_ERROR = "[ERROR] Chart.yaml: version is required";
+    private static final String SAMPLE_DIGEST = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String INVALID_DIGEST = "9f86d081";
+    private static final String RESULTS_ENDPOINT = "/validate/results/";
 
     private ValidationController validationController;
 
@@ -91,11 +118,12 @@ class ValidationControllerTest {
         LintValidationResult lintValidationResult = new LintValidationResult(true, new ArrayList<>(),
             new ArrayList<>());
 
-        when(validationService.process(SAMPLE_VERSION, multipartFile, true, true))
+        when(validationService.process(eq(SAMPLE_VERSION), eq(multipartFile), eq(true), eq(true),
+            any(ValidationTimings.class)))
             .thenReturn(new ValidationResult(templateValidationResult, lintValidationResult, SAMPLE_VERSION));
 
         ResponseEntity<ValidationResult> result = validationController
-            .validate(SAMPLE_VERSION, multipartFile, true, true);
+            .validate(SAMPLE_VERSION, multipartFile, true, true, false, false, null);
 
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(result.getBody().isDeployable()).isTrue();
@@ -109,28 +137,34 @@ class ValidationControllerTest {
 
     @Test
     void shouldThrowExceptionWhenCannotSaveFile() {
-        when(validationService.process(SAMPLE_VERSION, multipartFile, true, true)).thenThrow(SaveFileException.class);
+        when(validationService.process(eq(SAMPLE_VERSION), eq(multipartFile), eq(true), eq(true),
+            any(ValidationTimings.class))).thenThrow(SaveFileException.class);
 
         assertThatExceptionOfType(SaveFileException.class)
-            .isThrownBy(() -> validationController.validate(SAMPLE_VERSION, multipartFile, true, true));
+            .isThrownBy(() -> validationController.validate(SAMPLE_VERSION, multipartFile, true, true, false, false,
+                null));
     }
 
     @Test
     void shouldThrowExceptionIfErrorOccursDuringBashExecution() {
-        when(validationService.process(SAMPLE_VERSION, multipartFile, true, true))
+        when(validationService.process(eq(SAMPLE_VERSION), eq(multipartFile), eq(true), eq(true),
+            any(ValidationTimings.class)))
             .thenThrow(BashExecutionException.class);
 
         assertThatExceptionOfType(BashExecutionException.class)
-            .isThrownBy(() -> validationController.validate(SAMPLE_VERSION, multipartFile, true, true));
+            .isThrownBy(() -> validationController.validate(SAMPLE_VERSION, multipartFile, true, true, false, false,
+                null));
     }
 
     @Test
     void shouldThrowExceptionWhenProvidedVersionIsNotSupported() {
-        when(validationService.process(SAMPLE_VERSION, multipartFile, true, true)).thenThrow(
+        when(validationService.process(eq(SAMPLE_VERSION), eq(multipartFile), eq(true), eq(true),
+            any(ValidationTimings.class))).thenThrow(
             NotSupportedVersionException.class);
 
         assertThatExceptionOfType(NotSupportedVersionException.class)
-            .isThrownBy(() -> validationController.validate(SAMPLE_VERSION, multipartFile, true, true));
+            .isThrownBy(() -> validationController.validate(SAMPLE_VERSION, multipartFile, true, true, false, false,
+                null));
     }
 
     @Test
@@ -142,7 +176,7 @@ class ValidationControllerTest {
         MockMultipartFile file = new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME,
             MediaType.MULTIPART_FORM_DATA_VALUE, "test".getBytes());
 
-        when(validationService.process(SAMPLE_VERSION, file, true, true))
+        when(validationService.process(eq(SAMPLE_VERSION), eq(file), eq(true), eq(true), any(ValidationTimings.class)))
             .thenReturn(new ValidationResult(templateValidationResult, lintValidationResult, SAMPLE_VERSION));
 
         MvcResult mvcResult = mockMvc.perform(
@@ -171,7 +205,8 @@ class ValidationControllerTest {
         MockMultipartFile file = new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME,
             MediaType.MULTIPART_FORM_DATA_VALUE, "test".getBytes());
 
-        when(validationService.process(SAMPLE_VERSION, file, false, false))
+        when(validationService.process(eq(SAMPLE_VERSION), eq(file), eq(false), eq(false),
+            any(ValidationTimings.class)))
             .thenReturn(new ValidationResult(templateValidationResult, SAMPLE_VERSION));
 
         MvcResult mvcResult = mockMvc.perform(
@@ -193,13 +228,65 @@ class ValidationControllerTest {
         assertThat(mvcResult.getResponse().getStatus()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @Test
+    void shouldContainDiagnosticsInResponseBodyOnlyWhenRequested() throws Exception {
+        TemplateValidationResult templateValidationResult = new TemplateValidationResult(true, new ArrayList<>());
+        HelmDiagnostic diagnostic = HelmDiagnosticParser.parse(SAMPLE_LINT_ERROR, HelmOutputLineType.ERROR);
+        LintValidationResult lintValidationResult = new LintValidationResult(false, List.of(SAMPLE_LINT_ERROR),
+            new ArrayList<>(), List.of(diagnostic), false);
+        MockMultipartFile file = new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME,
+            MediaType.MULTIPART_FORM_DATA_VALUE, "test".getBytes());
+
+        when(validationService.process(eq(SAMPLE_VERSION), eq(file), eq(true), eq(false), any(ValidationTimings.class)))
+            .thenReturn(new ValidationResult(templateValidationResult, lintValidationResult, SAMPLE_VERSION));
+
+        String withDiagnostics = performLintValidation(file, "true");
+        String withoutDiagnostics = performLintValidation(file, "false");
+
+        assertThat(withDiagnostics)
+            .contains(DIAGNOSTICS)
+            .contains("\"file\":\"Chart.yaml\"")
+            .contains("\"message\":\"version is required\"")
+            .contains(LINT_ERROR);
+        assertThat(withoutDiagnostics)
+            .doesNotContain(DIAGNOSTICS)
+            .contains(LINT_ERROR);
+    }
+
+    @Test
+    void shouldReturnServerTimingHeaderAndTimingsOnlyWhenRequested() throws Exception {
+        TemplateValidationResult templateValidationResult = new TemplateValidationResult(true, new ArrayList<>());
+        MockMultipartFile file = new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME,
+            MediaType.MULTIPART_FORM_DATA_VALUE, "test".getBytes());
+
+        when(validationService.process(eq(SAMPLE_VERSION), eq(file), eq(false), eq(false),
+            any(ValidationTimings.class))).thenAnswer(invocation -> {
+                invocation.getArgument(4, ValidationTimings.class)
+                    .add(ValidationPhase.TEMPLATE, TEMPLATE_DURATION_NANOS);
+                return new ValidationResult(templateValidationResult, SAMPLE_VERSION);
+            });
+
+        MockHttpServletResponse withTimings = performTemplateValidation(file, "true");
+        MockHttpServletResponse withoutTimings = performTemplateValidation(file, "false");
+
+        assertThat(withTimings.getHeader(ValidationController.SERVER_TIMING_HEADER))
+            .isEqualTo("template;dur=1.500");
+        assertThat(withTimings.getContentAsString())
+            .contains("\"timings\":{\"template\":1.5}");
+        assertThat(withoutTimings.getHeader(ValidationController.SERVER_TIMING_HEADER))
+            .isEqualTo("template;dur=1.500");
+        assertThat(withoutTimings.getContentAsString())
+            .doesNotContain(TIMINGS);
+    }
+
     @Test
     void shouldContainsExceptionMessageInResponse() throws Exception {
         MockMultipartFile file = new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME,
             MediaType.MULTIPART_FORM_DATA_VALUE, "test".getBytes());
         NotSupportedVersionException exception = new NotSupportedVersionException("test");
 
-        when(validationService.process(SAMPLE_VERSION, file, false, false))
+        when(validationService.process(eq(SAMPLE_VERSION), eq(file), eq(false), eq(false),
+            any(ValidationTimings.class)))
             .thenThrow(exception);
 
         MvcResult mvcResult = mockMvc.perform(
@@ -220,4 +307,173 @@ class ValidationControllerTest {
         assertThat(mvcResult.getResponse().getStatus()).isNotEqualTo(HttpStatus.OK.value());
     }
 
+    @Test
+    void shouldReturnBadRequestWhenChartIsNotSent() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + SAMPLE_DIGEST + "\""))
+            .andReturn();
+
+        assertThat(mvcResult.getResponse().getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        verify(validationService, never()).findResult(anyString(), anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldReturnKnownResultOfChartDigestWithoutUploadedChart() throws Exception {
+        when(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, true, false))
+            .thenReturn(Optional.of(new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()),
+                new LintValidationResult(true, new ArrayList<>(), new ArrayList<>()), SAMPLE_VERSION)));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .param(IS_LINTED_PARAM, "true")
+                .header(ValidationController.CHART_DIGEST_HEADER, SAMPLE_DIGEST))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + SAMPLE_DIGEST + "\"");
+        assertThat(response.getContentAsString())
+            .contains(VALID)
+            .contains(DEPLOYABLE)
+            .contains(VERSION_USED);
+        verify(validationService, never()).process(any(), any(MultipartFile.class), anyBoolean(), anyBoolean(),
+            any(ValidationTimings.class));
+    }
+
+    @Test
+    void shouldValidateUploadedChartWhenResultOfItsDigestIsNotKnown() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME,
+            MediaType.MULTIPART_FORM_DATA_VALUE, "test".getBytes());
+        when(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, false, false)).thenReturn(Optional.empty());
+        when(validationService.process(eq(SAMPLE_VERSION), eq(file), eq(false), eq(false),
+            any(ValidationTimings.class)))
+            .thenReturn(new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()), SAMPLE_VERSION));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .file(file)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .header(ValidationController.CHART_DIGEST_HEADER, SAMPLE_DIGEST))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString()).contains(DEPLOYABLE);
+        verify(validationService).process(eq(SAMPLE_VERSION), eq(file), eq(false), eq(false),
+            any(ValidationTimings.class));
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenChartIsNotSentAndResultOfItsDigestIsNotKnown() throws Exception {
+        when(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, false, false)).thenReturn(Optional.empty());
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .header(ValidationController.CHART_DIGEST_HEADER, SAMPLE_DIGEST))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(response.getContentAsString()).contains(SAMPLE_DIGEST);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenChartDigestIsSentWithoutVersion() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .header(ValidationController.CHART_DIGEST_HEADER, SAMPLE_DIGEST))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).contains("versionDesired is required");
+        verify(validationService, never()).findResult(any(), anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldReturnKnownResultWithDigestInEntityTag() throws Exception {
+        when(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, true, true))
+            .thenReturn(Optional.of(new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()),
+                new LintValidationResult(true, new ArrayList<>(), new ArrayList<>()), SAMPLE_VERSION)));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            get(RESULTS_ENDPOINT + SAMPLE_DIGEST)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .param(IS_LINTED_PARAM, "true")
+                .param(IS_STRICT_LINTED_PARAM, "true"))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + SAMPLE_DIGEST + "\"");
+        assertThat(response.getContentAsString())
+            .contains(VALID)
+            .contains(DEPLOYABLE)
+            .contains(VERSION_USED);
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenResultOfChartIsNotKnown() throws Exception {
+        when(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, false, false)).thenReturn(Optional.empty());
+
+        MockHttpServletResponse response = mockMvc.perform(
+            get(RESULTS_ENDPOINT + SAMPLE_DIGEST)
+                .param(VERSION_PARAM, SAMPLE_VERSION))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(response.getContentAsString()).contains(SAMPLE_DIGEST);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenDigestIsNotSha256InHex() throws Exception {
+        when(validationService.findResult(SAMPLE_VERSION, INVALID_DIGEST, false, false))
+            .thenThrow(new InvalidChartDigestException(INVALID_DIGEST));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            get(RESULTS_ENDPOINT + INVALID_DIGEST)
+                .param(VERSION_PARAM, SAMPLE_VERSION))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.getContentAsString()).contains("is not a SHA-256 digest in hex");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenVersionOfKnownResultIsNotSent() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(
+            get(RESULTS_ENDPOINT + SAMPLE_DIGEST))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        verify(validationService, never()).findResult(any(), anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenResultOfChartIsNotKnown() {
+        when(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, false, false)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(ValidationResultNotFoundException.class)
+            .isThrownBy(() -> validationController.getResult(SAMPLE_DIGEST, SAMPLE_VERSION, false, false, false));
+    }
+
+    private String performLintValidation(MockMultipartFile file, String withDiagnostics) throws Exception {
+        return mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .file(file)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .param(IS_LINTED_PARAM, "true")
+                .param(WITH_DIAGNOSTICS_PARAM, withDiagnostics))
+            .andReturn().getResponse().getContentAsString();
+    }
+
+    private MockHttpServletResponse performTemplateValidation(MockMultipartFile file, String withTimings)
+        throws Exception {
+        return mockMvc.perform(
+            multipart(VALIDATION_ENDPOINT)
+                .file(file)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .param(WITH_TIMINGS_PARAM, withTimings))
+            .andReturn().getResponse();
+    }
+
 }
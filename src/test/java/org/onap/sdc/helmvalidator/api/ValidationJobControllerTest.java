@@ -0,0 +1,141 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.ValidationJobService;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationJobNotFoundException;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationJob;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class ValidationJobControllerTest {
+
+    private static final String SAMPLE_VERSION = "3.5.2";
+    private static final String SAMPLE_JOB_ID = "0b7f3a52-3f1c-4d5e-9a77-6c1f0e2d9b11";
+    private static final String SAMPLE_ORIGINAL_FILENAME = "sampleChart.tar.gz";
+    private static final String FILE_KEY = "file";
+    private static final String JOBS_ENDPOINT = "/validate/jobs";
+    private static final String VERSION_PARAM = "versionDesired";
+    private static final String IS_LINTED_PARAM = "isLinted";
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ValidationJobService validationJobService;
+
+    @Test
+    void shouldQueueJobAndReturnItsLocation() throws Exception {
+        MockMultipartFile file = sampleFile();
+        when(validationJobService.submit(eq(SAMPLE_VERSION), any(MultipartFile.class), eq(true), eq(false)))
+            .thenReturn(new ValidationJob(SAMPLE_JOB_ID, CREATED_AT));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(JOBS_ENDPOINT)
+                .file(file)
+                .param(VERSION_PARAM, SAMPLE_VERSION)
+                .param(IS_LINTED_PARAM, "true"))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.ACCEPTED.value());
+        assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo(JOBS_ENDPOINT + "/" + SAMPLE_JOB_ID);
+        assertThat(response.getContentAsString())
+            .contains("\"id\":\"" + SAMPLE_JOB_ID + "\"")
+            .contains("\"status\":\"QUEUED\"");
+    }
+
+    @Test
+    void shouldRejectJobWithRetryAfterWhenTooManyJobsAreQueued() throws Exception {
+        MockMultipartFile file = sampleFile();
+        when(validationJobService.submit(eq(SAMPLE_VERSION), any(MultipartFile.class), eq(false), eq(false)))
+            .thenThrow(new HelmCapacityExceededException("Too many validation jobs in progress, please retry later",
+                RETRY_AFTER_SECONDS));
+
+        MockHttpServletResponse response = mockMvc.perform(
+            multipart(JOBS_ENDPOINT)
+                .file(file)
+                .param(VERSION_PARAM, SAMPLE_VERSION))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo(String.valueOf(RETRY_AFTER_SECONDS));
+        assertThat(response.getContentAsString()).contains("Too many validation jobs in progress");
+    }
+
+    @Test
+    void shouldReturnResultOfFinishedJob() throws Exception {
+        var job = new ValidationJob(SAMPLE_JOB_ID, CREATED_AT);
+        job.markSucceeded(new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()),
+            SAMPLE_VERSION), CREATED_AT.plusSeconds(1));
+        when(validationJobService.getJob(SAMPLE_JOB_ID)).thenReturn(job);
+
+        MockHttpServletResponse response = mockMvc.perform(get(JOBS_ENDPOINT + "/" + SAMPLE_JOB_ID))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsString())
+            .contains("\"status\":\"SUCCEEDED\"")
+            .contains("\"deployable\":true")
+            .contains("\"versionUsed\":\"" + SAMPLE_VERSION + "\"");
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenJobDoesNotExist() throws Exception {
+        when(validationJobService.getJob(SAMPLE_JOB_ID)).thenThrow(new ValidationJobNotFoundException(SAMPLE_JOB_ID));
+
+        MockHttpServletResponse response = mockMvc.perform(get(JOBS_ENDPOINT + "/" + SAMPLE_JOB_ID))
+            .andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(response.getContentAsString()).contains(SAMPLE_JOB_ID);
+    }
+
+    private MockMultipartFile sampleFile() {
+        return new MockMultipartFile(FILE_KEY, SAMPLE_ORIGINAL_FILENAME, MediaType.MULTIPART_FORM_DATA_VALUE,
+            "test".getBytes());
+    }
+}
@@ -28,11 +28,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmOutputLimitExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmQueueTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidBatchRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartDigestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidValidationRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileVersionException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.UnsafeArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationJobNotFoundException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationResultNotFoundException;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimit;
 import org.onap.sdc.helmvalidator.helm.versions.exception.ApiVersionNotFoundException;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.NotSupportedApiVersionException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.ReadFileException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -73,6 +89,29 @@ class ValidationErrorHandlerTest {
         assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
     }
 
+    @Test
+    void shouldReturnBadRequestWhenKubeCapabilityProfileIsNotConfigured() {
+        NotSupportedKubeProfileException profileException = new NotSupportedKubeProfileException("k8s-1.19");
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(profileException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage())
+            .isEqualTo("Kubernetes capability profile: k8s-1.19 is not configured");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenHelmVersionDoesNotSupportKubeCapabilityProfiles() {
+        NotSupportedKubeProfileVersionException versionException =
+            new NotSupportedKubeProfileVersionException("3.5.2", "3.6.0");
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(versionException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(
+            "Helm version: 3.5.2 does not support Kubernetes capability profiles, version 3.6.0 or newer is required");
+    }
+
     @Test
     void shouldReturnResponseEntityWithMessageWhenErrorOccursDuringBashExecution() {
         String expectedMessage = "Error in bash executions";
@@ -122,4 +161,139 @@ class ValidationErrorHandlerTest {
 
     }
 
+    @Test
+    void shouldReturnTooManyRequestsWithRetryAfterWhenHelmQueueIsFull() {
+        String expectedMessage = "Too many validations in progress, please retry later";
+        HelmCapacityExceededException capacityExceededException = new HelmCapacityExceededException(
+            expectedMessage, 5);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(capacityExceededException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWithRetryAfterWhenHelmSlotWaitTimesOut() {
+        String expectedMessage = "No free slot for Helm execution within 100 ms, please retry later";
+        HelmQueueTimeoutException queueTimeoutException = new HelmQueueTimeoutException(expectedMessage, 3);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(queueTimeoutException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnUnprocessableEntityWhenHelmExecutionTimesOut() {
+        String expectedMessage = "Helm execution exceeded timeout of 1000 ms and was terminated";
+        HelmTimeoutException timeoutException = new HelmTimeoutException(expectedMessage);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(timeoutException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnUnprocessableEntityWhenHelmExecutionIsTerminatedOnOutputLimit() {
+        String expectedMessage = "Helm output exceeded limits of 1024 bytes or 10 lines and Helm execution was "
+            + "terminated";
+        HelmOutputLimitExceededException outputLimitException = new HelmOutputLimitExceededException(expectedMessage);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(outputLimitException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenValidationJobDoesNotExist() {
+        ValidationJobNotFoundException jobNotFoundException = new ValidationJobNotFoundException("job-id");
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(jobNotFoundException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo("Validation job: job-id not found");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenChartDigestIsNotSha256InHex() {
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(
+            new InvalidChartDigestException("digest"));
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage())
+            .isEqualTo("Chart digest: digest is not a SHA-256 digest in hex");
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenValidationResultIsNotKnown() {
+        ValidationResultNotFoundException resultNotFoundException = new ValidationResultNotFoundException("abc123");
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(resultNotFoundException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo("Validation result of chart: abc123 not found");
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBatchIsInvalid() {
+        String expectedMessage = "Batch exceeds maximum number of charts: 200";
+        InvalidBatchRequestException batchRequestException = new InvalidBatchRequestException(expectedMessage);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(batchRequestException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenValidationRequestIsInvalid() {
+        String expectedMessage = "Helm chart file or its digest in X-Chart-Digest header is required";
+        InvalidValidationRequestException requestException = new InvalidValidationRequestException(expectedMessage);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(requestException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnPayloadTooLargeWhenChartArchiveExceedsLimits() {
+        String expectedMessage = "Chart archive exceeds maximum number of entries: 10000";
+        ArchiveLimitExceededException limitExceededException = new ArchiveLimitExceededException(
+            ArchiveLimit.ENTRY_COUNT, expectedMessage);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(limitExceededException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenChartArchiveIsUnsafe() {
+        String expectedMessage = "Chart archive entry: chart/../../etc/passwd points outside of the chart";
+        UnsafeArchiveException unsafeArchiveException = new UnsafeArchiveException(expectedMessage);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(unsafeArchiveException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenChartArchiveIsNotReadable() {
+        String expectedMessage = "Cannot read chart archive: chart.tgz";
+        InvalidChartArchiveException invalidArchiveException = new InvalidChartArchiveException(expectedMessage,
+            cause);
+
+        ResponseEntity<ValidationErrorResponse> responseEntity = errorHandler.handle(invalidArchiveException);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(responseEntity.getBody().getMessage()).isEqualTo(expectedMessage);
+    }
+
 }
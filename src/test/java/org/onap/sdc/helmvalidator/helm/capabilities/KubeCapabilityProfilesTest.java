@@ -0,0 +1,127 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.capabilities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileException;
+
+class KubeCapabilityProfilesTest {
+
+    private static final String PROFILES = "{"
+        + "\"k8s-1.23\": {\"kubeVersion\": \"1.23.17\", \"apiVersions\": [\"policy/v1beta1/PodSecurityPolicy\"]},"
+        + "\"k8s-1.29\": {\"kubeVersion\": \"v1.29\", \"apiVersions\": []},"
+        + "\"k8s-1.27\": {\"kubeVersion\": \"1.27.10\", \"apiVersions\": [\"autoscaling/v2\", "
+        + "\"monitoring.coreos.com/v1\"]}"
+        + "}";
+
+    @TempDir
+    Path configDir;
+
+    @Test
+    void shouldReadProfilesInOrderOfConfigurationFile() throws IOException {
+        KubeCapabilityProfiles profiles = createProfiles(PROFILES);
+
+        assertThat(names(profiles.getProfiles())).containsExactly("k8s-1.23", "k8s-1.29", "k8s-1.27");
+        KubeCapabilityProfile profile = profiles.resolveProfiles(List.of("k8s-1.27")).get(0);
+        assertThat(profile.getKubeVersion()).isEqualTo("1.27.10");
+        assertThat(profile.getApiVersions()).containsExactly("autoscaling/v2", "monitoring.coreos.com/v1");
+    }
+
+    @Test
+    void shouldBuildHelmTemplateFlagsOfProfile() throws IOException {
+        KubeCapabilityProfiles profiles = createProfiles(PROFILES);
+
+        List<KubeCapabilityProfile> resolvedProfiles = profiles.resolveProfiles(List.of("k8s-1.27", "k8s-1.29"));
+
+        assertThat(resolvedProfiles.get(0).toTemplateFlags())
+            .containsExactly("--kube-version", "1.27.10", "--api-versions", "autoscaling/v2,monitoring.coreos.com/v1");
+        assertThat(resolvedProfiles.get(1).toTemplateFlags()).containsExactly("--kube-version", "v1.29");
+    }
+
+    @Test
+    void shouldSupportProfilesOnlyWithHelmVersionsAcceptingKubeVersionFlag() {
+        assertThat(KubeCapabilityProfile.isSupportedBy("3.6.0")).isTrue();
+        assertThat(KubeCapabilityProfile.isSupportedBy("v3.14.4")).isTrue();
+        assertThat(KubeCapabilityProfile.isSupportedBy("3.5.2")).isFalse();
+        assertThat(KubeCapabilityProfile.isSupportedBy("2.17.0")).isFalse();
+        assertThat(KubeCapabilityProfile.isSupportedBy("latest")).isFalse();
+    }
+
+    @Test
+    void shouldResolveAllProfilesWhenNoneOrAllIsRequested() throws IOException {
+        KubeCapabilityProfiles profiles = createProfiles(PROFILES);
+
+        assertThat(profiles.resolveProfiles(null)).isEqualTo(profiles.getProfiles());
+        assertThat(profiles.resolveProfiles(List.of("all"))).isEqualTo(profiles.getProfiles());
+        assertThat(names(profiles.resolveProfiles(List.of("k8s-1.27", "all"))))
+            .containsExactly("k8s-1.27", "k8s-1.23", "k8s-1.29");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRequestedProfileIsNotConfigured() throws IOException {
+        KubeCapabilityProfiles profiles = createProfiles(PROFILES);
+        List<String> profileNames = List.of("k8s-1.23", "k8s-1.19");
+
+        assertThatExceptionOfType(NotSupportedKubeProfileException.class)
+            .isThrownBy(() -> profiles.resolveProfiles(profileNames))
+            .withMessage("Kubernetes capability profile: k8s-1.19 is not configured");
+    }
+
+    @Test
+    void shouldIgnoreInvalidProfiles() throws IOException {
+        KubeCapabilityProfiles profiles = createProfiles("{"
+            + "\"valid\": {\"kubeVersion\": \"1.28.0\"},"
+            + "\"all\": {\"kubeVersion\": \"1.28.0\"},"
+            + "\"bad-version\": {\"kubeVersion\": \"1.28.0 --debug\"},"
+            + "\"bad-api\": {\"kubeVersion\": \"1.28.0\", \"apiVersions\": [\"apps/v1,batch/v1\"]},"
+            + "\"no-version\": {\"apiVersions\": [\"apps/v1\"]}"
+            + "}");
+
+        assertThat(names(profiles.getProfiles())).containsExactly("valid");
+    }
+
+    @Test
+    void shouldHaveNoProfilesWhenConfigurationFileIsMissingOrNotConfigured() {
+        assertThat(new KubeCapabilityProfiles(configDir.resolve("missing.json").toString()).getProfiles()).isEmpty();
+        assertThat(new KubeCapabilityProfiles("").getProfiles()).isEmpty();
+    }
+
+    private KubeCapabilityProfiles createProfiles(String content) throws IOException {
+        Path profilesFile = configDir.resolve("kube-profiles.json");
+        Files.writeString(profilesFile, content);
+        return new KubeCapabilityProfiles(profilesFile.toString());
+    }
+
+    private static List<String> names(List<KubeCapabilityProfile> profiles) {
+        return profiles.stream()
+            .map(KubeCapabilityProfile::getName)
+            .collect(Collectors.toList());
+    }
+}
@@ -21,23 +21,95 @@
 package org.onap.sdc.helmvalidator.helm.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmOutputLimitExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
 import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
 
 class BashExecutorTest {
 
+    private static final long TIMEOUT_MS = 10_000;
+    private static final long SHORT_TIMEOUT_MS = 200;
+    private static final long MAX_OUTPUT_BYTES = 1024 * 1024;
+    private static final int MAX_OUTPUT_LINES = 1000;
 
     @Test
     @Disabled("Disabled due to Operating System dependency - allowed on Linux OS")
     void testExecution() throws BashExecutionException {
 
-        BashExecutor executor = new BashExecutor();
+        BashExecutor executor = new BashExecutor(new HelmProcessLimiter(1, 1, 1000, 1), new SimpleMeterRegistry(),
+            MAX_OUTPUT_BYTES, MAX_OUTPUT_LINES, false);
 
-        BashOutput output = executor.execute("ls -al");
+        BashOutput output = executor.execute(List.of("ls", "-al"), TIMEOUT_MS);
 
         assertThat(output.getOutputLines()).isNotEmpty();
     }
+
+    @Test
+    @Disabled("Disabled due to Operating System dependency - allowed on Linux OS")
+    void shouldKillProcessTreeAndCountTimeoutWhenExecutionExceedsTimeout() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BashExecutor executor = new BashExecutor(new HelmProcessLimiter(1, 1, 1000, 1), meterRegistry,
+            MAX_OUTPUT_BYTES, MAX_OUTPUT_LINES, false);
+
+        assertThatExceptionOfType(HelmTimeoutException.class)
+            .isThrownBy(() -> executor.execute(List.of("/bin/sh", "-c", "sleep 30 | cat"),
+                SHORT_TIMEOUT_MS));
+
+        assertThat(meterRegistry.counter("helm.process.timeouts").count()).isEqualTo(1);
+    }
+
+    @Test
+    @Disabled("Disabled due to Operating System dependency - allowed on Linux OS")
+    void shouldKillProcessTreeWhenOutputExceedsLimits() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BashExecutor executor = new BashExecutor(new HelmProcessLimiter(1, 1, 1000, 1), meterRegistry,
+            MAX_OUTPUT_BYTES, MAX_OUTPUT_LINES, true);
+
+        assertThatExceptionOfType(HelmOutputLimitExceededException.class)
+            .isThrownBy(() -> executor.execute(List.of("yes"), TIMEOUT_MS));
+
+        assertThat(meterRegistry.counter("helm.output.truncations").count()).isEqualTo(1);
+    }
+
+    @Test
+    @Disabled("Disabled due to Operating System dependency - allowed on Linux OS")
+    void shouldReturnTruncatedOutputWhenProcessIsNotKilledOnOutputLimits() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BashExecutor executor = new BashExecutor(new HelmProcessLimiter(1, 1, 1000, 1), meterRegistry,
+            MAX_OUTPUT_BYTES, MAX_OUTPUT_LINES, false);
+
+        BashOutput output = executor.execute(
+            List.of("/bin/sh", "-c", "seq 2000; echo 'Error: last line'; exit 1"), TIMEOUT_MS);
+
+        assertThat(output.isTruncated()).isTrue();
+        assertThat(output.getExitValue()).isEqualTo(1);
+        assertThat(output.getOutputLines()).hasSize(MAX_OUTPUT_LINES);
+        assertThat(output.getErrorLines()).containsExactly("Error: last line");
+        assertThat(meterRegistry.counter("helm.output.truncations").count()).isEqualTo(1);
+    }
+
+    @Test
+    @Disabled("Disabled due to Operating System dependency - allowed on Linux OS")
+    void shouldNotCaptureNorLimitDiscardedStandardOutput() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BashExecutor executor = new BashExecutor(new HelmProcessLimiter(1, 1, 1000, 1), meterRegistry,
+            MAX_OUTPUT_BYTES, MAX_OUTPUT_LINES, true);
+
+        BashOutput output = executor.executeInReservedSlot(
+            List.of("/bin/sh", "-c", "seq 200000; echo 'Error: rendering failed' >&2; exit 1"), TIMEOUT_MS, true);
+
+        assertThat(output.isTruncated()).isFalse();
+        assertThat(output.getExitValue()).isEqualTo(1);
+        assertThat(output.getOutputLines()).containsExactly("Error: rendering failed");
+        assertThat(output.getErrorLines()).containsExactly("Error: rendering failed");
+        assertThat(meterRegistry.counter("helm.output.truncations").count()).isZero();
+    }
 }
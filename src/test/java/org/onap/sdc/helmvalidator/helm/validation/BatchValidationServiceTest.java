@@ -0,0 +1,278 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.onap.sdc.helmvalidator.helm.validation.TestCharts.addEntry;
+import static org.onap.sdc.helmvalidator.helm.validation.TestCharts.chartFile;
+import static org.onap.sdc.helmvalidator.helm.validation.TestCharts.packChart;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidBatchRequestException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.versions.ApiVersionsReader;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class BatchValidationServiceTest {
+
+    private static final String SAMPLE_VERSION = "3.5.2";
+    private static final String FIRST_CHART = "first-1.0.0.tgz";
+    private static final String SECOND_CHART = "second-1.0.0.tgz";
+    private static final int MAX_CHARTS = 3;
+    private static final long MAX_CHART_BYTES = 1024;
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(4096, 10, 1024, 10, 100);
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final ValidationResult SAMPLE_RESULT = new ValidationResult(
+        new TemplateValidationResult(true, new ArrayList<>()), SAMPLE_VERSION);
+
+    @TempDir
+    Path chartsDir;
+
+    @Mock
+    private ValidationService validationService;
+
+    private BatchValidationService batchValidationService;
+
+    @BeforeEach
+    void setUp() {
+        var fileManager = new FileManager(chartsDir.toString());
+        var chartIngestor = new ChartIngestor(fileManager, new ApiVersionsReader(ARCHIVE_LIMITS), MAX_CHART_BYTES,
+            new SimpleMeterRegistry());
+        batchValidationService = new BatchValidationService(validationService, fileManager, chartIngestor,
+            DIRECT_EXECUTOR, MAX_CHARTS);
+    }
+
+    @Test
+    void shouldValidateEachFileAndReturnResultsKeyedByName() {
+        mockValidation(false, false);
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION,
+            List.of(chartFile(FIRST_CHART, "first"), chartFile(SECOND_CHART, "second")), null, false, false);
+
+        assertThat(results).containsOnlyKeys(FIRST_CHART, SECOND_CHART);
+        assertThat(results.get(FIRST_CHART).getResult()).isEqualTo(SAMPLE_RESULT);
+        assertThat(results.get(SECOND_CHART).getResult()).isEqualTo(SAMPLE_RESULT);
+        verifyValidations(2, false, false);
+    }
+
+    @Test
+    void shouldValidateIdenticalChartsOnlyOnce() {
+        mockValidation(true, true);
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION,
+            List.of(chartFile(FIRST_CHART, "same"), chartFile(SECOND_CHART, "same")), null, true, true);
+
+        assertThat(results).containsOnlyKeys(FIRST_CHART, SECOND_CHART);
+        assertThat(results.get(SECOND_CHART).getResult()).isEqualTo(SAMPLE_RESULT);
+        verifyValidations(1, true, true);
+    }
+
+    @Test
+    void shouldKeepResultsOfFilesWithTheSameName() {
+        mockValidation(false, false);
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION,
+            List.of(chartFile(FIRST_CHART, "first"), chartFile(FIRST_CHART, "second")), null, false, false);
+
+        assertThat(results).containsOnlyKeys(FIRST_CHART, FIRST_CHART + "[1]");
+    }
+
+    @Test
+    void shouldReportFailureOfSingleChartWithoutFailingBatch() {
+        when(validationService.processSavedChart(eq(SAMPLE_VERSION), any(ChartDescriptor.class), eq(FIRST_CHART),
+            eq(false), eq(false))).thenReturn(SAMPLE_RESULT);
+        when(validationService.processSavedChart(eq(SAMPLE_VERSION), any(ChartDescriptor.class), eq(SECOND_CHART),
+            eq(false), eq(false))).thenThrow(new NotSupportedVersionException(SAMPLE_VERSION));
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION,
+            List.of(chartFile(FIRST_CHART, "first"), chartFile(SECOND_CHART, "second")), null, false, false);
+
+        assertThat(results.get(FIRST_CHART).getResult()).isEqualTo(SAMPLE_RESULT);
+        assertThat(results.get(SECOND_CHART).getResult()).isNull();
+        assertThat(results.get(SECOND_CHART).getError()).isEqualTo("Version: 3.5.2 is not supported");
+    }
+
+    @Test
+    void shouldValidateChartsFromArchive() throws IOException {
+        mockValidation(false, false);
+        MultipartFile archive = new MockMultipartFile("archive", "charts.tar.gz", null,
+            archiveOf("charts/" + FIRST_CHART, "charts/" + SECOND_CHART, "charts/README.md"));
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION, null, archive,
+            false, false);
+
+        assertThat(results).containsOnlyKeys(FIRST_CHART, SECOND_CHART);
+    }
+
+    @Test
+    void shouldReportUnreadableChartFileInItsEntryWithoutFailingBatch() throws IOException {
+        mockValidation(false, false);
+        MultipartFile unreadableChart = new MockMultipartFile("file", SECOND_CHART, null,
+            "not an archive".getBytes(StandardCharsets.UTF_8));
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION,
+            List.of(chartFile(FIRST_CHART, "first"), unreadableChart), null, false, false);
+
+        assertThat(results.keySet()).containsExactly(FIRST_CHART, SECOND_CHART);
+        assertThat(results.get(FIRST_CHART).getResult()).isEqualTo(SAMPLE_RESULT);
+        assertThat(results.get(SECOND_CHART).getResult()).isNull();
+        assertThat(results.get(SECOND_CHART).getError()).isEqualTo("Cannot read chart archive: " + SECOND_CHART);
+        verifyValidations(1, false, false);
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReportArchivedChartExceedingArchiveLimitsInItsEntryWithoutFailingBatch() throws IOException {
+        mockValidation(false, false);
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            addEntry(tarStream, "charts/" + SECOND_CHART, packOversizedChart("second"));
+            addEntry(tarStream, "charts/" + FIRST_CHART, packChart("first"));
+        }
+        MultipartFile archive = new MockMultipartFile("archive", "charts.tar.gz", null, outputStream.toByteArray());
+
+        Map<String, BatchValidationEntry> results = batchValidationService.process(SAMPLE_VERSION, null, archive,
+            false, false);
+
+        assertThat(results.keySet()).containsExactly(SECOND_CHART, FIRST_CHART);
+        assertThat(results.get(SECOND_CHART).getError()).isEqualTo(
+            "Chart archive entry: second/templates/large.yaml exceeds maximum size of 1024 bytes");
+        assertThat(results.get(FIRST_CHART).getResult()).isEqualTo(SAMPLE_RESULT);
+        verifyValidations(1, false, false);
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldRemoveSavedChartsAfterValidation() throws IOException {
+        mockValidation(false, false);
+
+        batchValidationService.process(SAMPLE_VERSION,
+            List.of(chartFile(FIRST_CHART, "first"), chartFile(SECOND_CHART, "second")), null, false, false);
+
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldRejectBatchWithoutCharts() {
+        assertThatExceptionOfType(InvalidBatchRequestException.class)
+            .isThrownBy(() -> batchValidationService.process(SAMPLE_VERSION, List.of(), null, false, false));
+    }
+
+    @Test
+    void shouldRejectBatchWithBothFilesAndArchive() {
+        MultipartFile archive = new MockMultipartFile("archive", new byte[0]);
+        List<MultipartFile> files = List.of(chartFile(FIRST_CHART, "first"));
+
+        assertThatExceptionOfType(InvalidBatchRequestException.class)
+            .isThrownBy(() -> batchValidationService.process(SAMPLE_VERSION, files, archive, false, false));
+    }
+
+    @Test
+    void shouldRejectBatchExceedingMaximumNumberOfCharts() throws IOException {
+        List<MultipartFile> files = List.of(chartFile("a.tgz", "a"), chartFile("b.tgz", "b"),
+            chartFile("c.tgz", "c"), chartFile("d.tgz", "d"));
+
+        assertThatExceptionOfType(InvalidBatchRequestException.class)
+            .isThrownBy(() -> batchValidationService.process(SAMPLE_VERSION, files, null, false, false))
+            .withMessage("Batch exceeds maximum number of charts: " + MAX_CHARTS);
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldRejectArchiveWhichIsNotTarGz() {
+        MultipartFile archive = new MockMultipartFile("archive", "charts.zip", null, "not an archive".getBytes());
+
+        assertThatExceptionOfType(InvalidBatchRequestException.class)
+            .isThrownBy(() -> batchValidationService.process(SAMPLE_VERSION, null, archive, false, false));
+    }
+
+    private void mockValidation(boolean isLinted, boolean isStrictLinted) {
+        when(validationService.processSavedChart(eq(SAMPLE_VERSION), any(ChartDescriptor.class), anyString(),
+            eq(isLinted), eq(isStrictLinted))).thenReturn(SAMPLE_RESULT);
+    }
+
+    private void verifyValidations(int times, boolean isLinted, boolean isStrictLinted) {
+        verify(validationService, times(times)).processSavedChart(eq(SAMPLE_VERSION), any(ChartDescriptor.class),
+            anyString(), eq(isLinted), eq(isStrictLinted));
+    }
+
+    private static byte[] archiveOf(String... entryNames) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            for (String entryName : entryNames) {
+                byte[] content = entryName.endsWith(".tgz")
+                    ? packChart(Path.of(entryName).getFileName().toString())
+                    : entryName.getBytes(StandardCharsets.UTF_8);
+                addEntry(tarStream, entryName, content);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] packOversizedChart(String chartName) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            addEntry(tarStream, chartName + "/templates/large.yaml",
+                new byte[(int) ARCHIVE_LIMITS.getMaxEntryBytes() + 1]);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ChartTooLargeException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.versions.ApiVersionsReader;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimit;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
+import org.springframework.mock.web.MockMultipartFile;
+
+class ChartIngestorTest {
+
+    private static final String CHART_NAME = "test-chart-1.2.3.tgz";
+    private static final String CHART_YAML = "apiVersion: v2\nname: test-chart\nversion: 1.2.3\n";
+    private static final long MAX_CHART_BYTES = 64 * 1024;
+    private static final long RANDOM_SEED = 42L;
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(1024 * 1024, 10, 512 * 1024, 10, 100);
+    private static final int MAX_ENTRY_BYTES = 512;
+
+    @TempDir
+    Path chartsDir;
+
+    private ChartIngestor chartIngestor;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chartIngestor = new ChartIngestor(new FileManager(chartsDir.toString()), new ApiVersionsReader(ARCHIVE_LIMITS),
+            MAX_CHART_BYTES, meterRegistry);
+    }
+
+    @Test
+    void shouldSaveChartAndDescribeItInSinglePass() throws IOException {
+        byte[] chart = packChart(CHART_YAML, 0);
+
+        ChartDescriptor descriptor = chartIngestor.ingest(new MockMultipartFile("file", CHART_NAME, null, chart));
+
+        assertThat(Files.readAllBytes(Path.of(descriptor.getPath()))).isEqualTo(chart);
+        assertThat(descriptor.getDigest()).isEqualTo(DigestUtils.sha256Hex(chart));
+        assertThat(descriptor.getSize()).isEqualTo(chart.length);
+        assertThat(descriptor.getApiVersion()).isEqualTo("v2");
+        assertThat(descriptor.getName()).isEqualTo("test-chart");
+        assertThat(descriptor.getVersion()).isEqualTo("1.2.3");
+        assertThat(descriptor.getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMoveUploadSpooledOnTheSameFileStoreAndDescribeIt() throws IOException {
+        byte[] chart = packChart(CHART_YAML, 0);
+        ChartIngestor movingIngestor = new ChartIngestor(
+            new FileManager(chartsDir.toString(), chartsDir.toString()), new ApiVersionsReader(ARCHIVE_LIMITS),
+            MAX_CHART_BYTES, meterRegistry);
+
+        ChartDescriptor descriptor = movingIngestor.ingest(new MockMultipartFile("file", CHART_NAME, null, chart));
+
+        assertThat(Files.readAllBytes(Path.of(descriptor.getPath()))).isEqualTo(chart);
+        assertThat(descriptor.getDigest()).isEqualTo(DigestUtils.sha256Hex(chart));
+        assertThat(descriptor.getApiVersion()).isEqualTo("v2");
+        assertThat(ingestedBytes("moved")).isEqualTo(chart.length);
+        assertThat(ingestedBytes("copied")).isZero();
+    }
+
+    @Test
+    void shouldCountSavedChartInStoredBytesUntilItIsRemoved() throws IOException {
+        byte[] chart = packChart(CHART_YAML, 0);
+        var fileManager = new FileManager(chartsDir.toString());
+        var countingIngestor = new ChartIngestor(fileManager, new ApiVersionsReader(ARCHIVE_LIMITS), MAX_CHART_BYTES,
+            meterRegistry);
+
+        ChartDescriptor descriptor = countingIngestor.ingest(new MockMultipartFile("file", CHART_NAME, null, chart));
+
+        assertThat(fileManager.getStoredBytes()).isEqualTo(chart.length);
+        fileManager.removeFile(descriptor.getPath());
+        assertThat(fileManager.getStoredBytes()).isZero();
+    }
+
+    @Test
+    void shouldCountCopiedBytesWhenUploadCannotBeMoved() throws IOException {
+        byte[] chart = packChart(CHART_YAML, 0);
+
+        chartIngestor.ingest(new MockMultipartFile("file", CHART_NAME, null, chart));
+
+        assertThat(ingestedBytes("copied")).isEqualTo(chart.length);
+        assertThat(ingestedBytes("moved")).isZero();
+    }
+
+    @Test
+    void shouldRejectMovedUploadExceedingMaximumSizeBeforeMovingIt() throws IOException {
+        byte[] chart = packChart(CHART_YAML, (int) MAX_CHART_BYTES * 2);
+        ChartIngestor movingIngestor = new ChartIngestor(
+            new FileManager(chartsDir.toString(), chartsDir.toString()), new ApiVersionsReader(ARCHIVE_LIMITS),
+            MAX_CHART_BYTES, meterRegistry);
+        var file = new MockMultipartFile("file", CHART_NAME, null, chart);
+
+        assertThatExceptionOfType(ChartTooLargeException.class)
+            .isThrownBy(() -> movingIngestor.ingest(file));
+        assertNoFilesLeft();
+    }
+
+    @Test
+    void shouldReadUploadOnlyOnce() throws IOException {
+        byte[] chart = packChart(CHART_YAML, 0);
+        var countingStream = new CountingInputStream(chart);
+
+        chartIngestor.ingest(countingStream, CHART_NAME);
+
+        assertThat(countingStream.bytesRead).isEqualTo(chart.length);
+    }
+
+    @Test
+    void shouldRejectAndRemoveFileWhichIsNotChartArchive() throws IOException {
+        InputStream notArchive = new ByteArrayInputStream("not an archive".getBytes(StandardCharsets.UTF_8));
+
+        assertThatExceptionOfType(InvalidChartArchiveException.class)
+            .isThrownBy(() -> chartIngestor.ingest(notArchive, CHART_NAME))
+            .withMessage("Cannot read chart archive: " + CHART_NAME);
+        assertNoFilesLeft();
+    }
+
+    @Test
+    void shouldRejectAndRemoveChartExceedingMaximumSize() throws IOException {
+        byte[] chart = packChart(CHART_YAML, (int) MAX_CHART_BYTES * 2);
+        InputStream chartStream = new ByteArrayInputStream(chart);
+
+        assertThatExceptionOfType(ChartTooLargeException.class)
+            .isThrownBy(() -> chartIngestor.ingest(chartStream, CHART_NAME))
+            .withMessageContaining(CHART_NAME);
+        assertNoFilesLeft();
+        assertThat(limitBreaches(ArchiveLimit.COMPRESSED_SIZE)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAndRemoveChartExceedingArchiveLimits() throws IOException {
+        ChartIngestor strictIngestor = new ChartIngestor(new FileManager(chartsDir.toString()),
+            new ApiVersionsReader(new ArchiveLimits(1024 * 1024, 10, MAX_ENTRY_BYTES, 10, 100)), MAX_CHART_BYTES,
+            meterRegistry);
+        InputStream chartStream = new ByteArrayInputStream(packChart(CHART_YAML, MAX_ENTRY_BYTES + 1));
+
+        assertThatExceptionOfType(ArchiveLimitExceededException.class)
+            .isThrownBy(() -> strictIngestor.ingest(chartStream, CHART_NAME))
+            .withMessage("Chart archive entry: test-chart/files/blob.bin exceeds maximum size of "
+                + MAX_ENTRY_BYTES + " bytes");
+        assertNoFilesLeft();
+        assertThat(limitBreaches(ArchiveLimit.ENTRY_SIZE)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRemoveChartWhenUploadCannotBeRead() throws IOException {
+        InputStream failingStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatExceptionOfType(SaveFileException.class)
+            .isThrownBy(() -> chartIngestor.ingest(failingStream, CHART_NAME))
+            .withMessage("Cannot save file: " + CHART_NAME);
+        assertNoFilesLeft();
+    }
+
+    private double ingestedBytes(String mode) {
+        return meterRegistry.get("chart.ingest.bytes").tag("mode", mode).counter().count();
+    }
+
+    private double limitBreaches(ArchiveLimit limit) {
+        return meterRegistry.get("chart.archive.limit.breaches").tag("limit", limit.getName()).counter().count();
+    }
+
+    private void assertNoFilesLeft() throws IOException {
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    private static byte[] packChart(String chartYaml, int incompressibleBytes) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarOutput = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            addEntry(tarOutput, "test-chart/Chart.yaml", chartYaml.getBytes(StandardCharsets.UTF_8));
+            if (incompressibleBytes > 0) {
+                var content = new byte[incompressibleBytes];
+                new Random(RANDOM_SEED).nextBytes(content);
+                addEntry(tarOutput, "test-chart/files/blob.bin", content);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static void addEntry(TarArchiveOutputStream tarOutput, String name, byte[] content) throws IOException {
+        var entry = new TarArchiveEntry(name);
+        entry.setSize(content.length);
+        tarOutput.putArchiveEntry(entry);
+        tarOutput.write(content);
+        tarOutput.closeArchiveEntry();
+    }
+
+    private static class CountingInputStream extends ByteArrayInputStream {
+
+        private long bytesRead;
+
+        CountingInputStream(byte[] buffer) {
+            super(buffer);
+        }
+
+        @Override
+        public synchronized int read(byte[] buffer, int offset, int length) {
+            int read = super.read(buffer, offset, length);
+            bytesRead += Math.max(read, 0);
+            return read;
+        }
+
+        @Override
+        public synchronized int read() {
+            int read = super.read();
+            bytesRead += read == -1 ? 0 : 1;
+            return read;
+        }
+    }
+}
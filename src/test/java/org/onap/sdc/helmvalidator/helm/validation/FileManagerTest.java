@@ -22,9 +22,7 @@ package org.onap.sdc.helmvalidator.helm.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -35,24 +33,18 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.io.TempDir;
 import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
-@ExtendWith(MockitoExtension.class)
 class FileManagerTest {
 
     private static final String TEST_RESOURCES_TMP = "src/test/resources/tmp";
     private static final File TEST_RESOURCES_DIR = new File(TEST_RESOURCES_TMP);
-    private static final ByteArrayInputStream TEST_INPUT_STREAM = new ByteArrayInputStream("test".getBytes());
 
     private FileManager fileManager;
 
-    @Mock
-    private MultipartFile multipartFile;
-
     @BeforeAll
     static void createTmpDir() {
         TEST_RESOURCES_DIR.mkdirs();
@@ -74,27 +66,71 @@ class FileManagerTest {
     }
 
     @Test
-    void saveMultipartFileAndReturnFilePath() throws IOException {
-        mockMultipartFile();
-
-        String filePath = fileManager.saveFile(multipartFile);
+    void createChartFileInBasePath() {
+        Path filePath = fileManager.createChartFile();
 
-        assertThat(filePath).isNotBlank();
-        assertThat(Files.exists(Paths.get(filePath))).isTrue();
+        assertThat(Files.exists(filePath)).isTrue();
+        assertThat(filePath.getParent()).isEqualTo(TEST_RESOURCES_DIR.getAbsoluteFile().toPath());
     }
 
-
     @Test
-    void removeFileByPath() throws IOException {
-        mockMultipartFile();
+    void removeFileByPath() {
+        String filePath = fileManager.createChartFile().toString();
 
-        String filePath = fileManager.saveFile(multipartFile);
         fileManager.removeFile(filePath);
 
         assertThat(Files.exists(Paths.get(filePath))).isFalse();
     }
 
-    private void mockMultipartFile() throws IOException {
-        when(multipartFile.getInputStream()).thenReturn(TEST_INPUT_STREAM);
+    @Test
+    void throwExceptionWhenChartFileCannotBeCreated() {
+        FileManager notExistingDirFileManager = new FileManager(TEST_RESOURCES_TMP + "/not-existing-dir");
+
+        assertThrows(SaveFileException.class, notExistingDirFileManager::createChartFile);
+    }
+
+    @Test
+    void allowMovingUploadsSpooledOnTheSameFileStore() {
+        FileManager movingFileManager = new FileManager(TEST_RESOURCES_TMP, TEST_RESOURCES_TMP);
+
+        assertThat(movingFileManager.isMoveAvailable()).isTrue();
+        assertThat(fileManager.isMoveAvailable()).isFalse();
+    }
+
+    @Test
+    void moveUploadedFileIntoChartFile() throws IOException {
+        MultipartFile file = new MockMultipartFile("file", "chart.tgz", null, "test".getBytes());
+
+        Path filePath = fileManager.moveFile(file);
+
+        assertThat(Files.readString(filePath)).isEqualTo("test");
+    }
+
+    @Test
+    void countBytesOfStoredChartFilesUntilTheyAreRemoved(@TempDir Path chartsDir) throws IOException {
+        FileManager chartsFileManager = new FileManager(chartsDir.toString(), chartsDir.toString());
+        Path movedChart = chartsFileManager.moveFile(
+            new MockMultipartFile("file", "chart.tgz", null, new byte[10]));
+        Path savedChart = chartsFileManager.createChartFile();
+        Files.write(savedChart, new byte[5]);
+        chartsFileManager.recordStoredChart(savedChart, 5);
+
+        assertThat(chartsFileManager.getStoredBytes()).isEqualTo(15);
+
+        chartsFileManager.removeFile(movedChart.toString());
+
+        assertThat(chartsFileManager.getStoredBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void notCountSpooledUploadsNorSubdirectoriesInStoredBytes(@TempDir Path chartsDir) throws IOException {
+        FileManager chartsFileManager = new FileManager(chartsDir.toString(), chartsDir.toString());
+        Path spooledUpload = Files.write(chartsDir.resolve("upload_spooled.tmp"), new byte[10]);
+        Path workspaces = Files.createDirectory(chartsDir.resolve("workspaces"));
+        Files.write(workspaces.resolve("extracted.yaml"), new byte[100]);
+
+        chartsFileManager.removeFile(spooledUpload.toString());
+
+        assertThat(chartsFileManager.getStoredBytes()).isZero();
     }
 }
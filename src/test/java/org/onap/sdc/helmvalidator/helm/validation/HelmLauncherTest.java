@@ -0,0 +1,93 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmCommand;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmSubcommand;
+
+@ExtendWith(MockitoExtension.class)
+class HelmLauncherTest {
+
+    private static final String NOT_INSTALLED_VERSION = "0.0.0-not-installed";
+    private static final String NOT_INSTALLED_BINARY = "helm-v" + NOT_INSTALLED_VERSION;
+    private static final String CHART_PATH = "/charts/chart with spaces.tgz";
+    private static final long TIMEOUT_MS = 1000;
+
+    private HelmLauncher helmLauncher;
+
+    @Mock
+    private BashExecutor bashExecutor;
+
+    @BeforeEach
+    void setUp() {
+        helmLauncher = new HelmLauncher(bashExecutor);
+    }
+
+    @Test
+    void shouldPassChartPathAsSingleArgumentWithoutShell() {
+        HelmCommand command = new HelmCommand(NOT_INSTALLED_VERSION, HelmSubcommand.LINT, List.of("--strict"),
+            CHART_PATH);
+        List<String> expectedArguments = List.of(NOT_INSTALLED_BINARY, "lint", CHART_PATH, "--strict");
+        BashOutput expectedOutput = new BashOutput(0, List.of());
+        when(bashExecutor.executeInReservedSlot(expectedArguments, TIMEOUT_MS, false)).thenReturn(expectedOutput);
+
+        BashOutput output = helmLauncher.launch(command, TIMEOUT_MS);
+
+        assertThat(output).isSameAs(expectedOutput);
+        verify(bashExecutor).executeInReservedSlot(expectedArguments, TIMEOUT_MS, false);
+    }
+
+    @Test
+    void shouldDiscardStandardOutputOfHelmTemplate() {
+        HelmCommand command = new HelmCommand(NOT_INSTALLED_VERSION, HelmSubcommand.TEMPLATE, List.of(), CHART_PATH);
+        List<String> expectedArguments = List.of(NOT_INSTALLED_BINARY, "template", CHART_PATH);
+        BashOutput expectedOutput = new BashOutput(0, List.of());
+        when(bashExecutor.executeInReservedSlot(expectedArguments, TIMEOUT_MS, true)).thenReturn(expectedOutput);
+
+        BashOutput output = helmLauncher.launch(command, TIMEOUT_MS);
+
+        assertThat(output).isSameAs(expectedOutput);
+        verify(bashExecutor).executeInReservedSlot(expectedArguments, TIMEOUT_MS, true);
+    }
+
+    @Test
+    void shouldFallBackToBinaryNameWhenHelmIsNotFoundOnPath() {
+        assertThat(helmLauncher.resolveBinary(NOT_INSTALLED_VERSION)).isEqualTo(NOT_INSTALLED_BINARY);
+    }
+
+    @Test
+    void shouldRenderCommandLineForLogging() {
+        HelmCommand command = new HelmCommand("3.5.2", HelmSubcommand.TEMPLATE, List.of(), "samplePath");
+
+        assertThat(command).hasToString("helm-v3.5.2 template samplePath");
+    }
+}
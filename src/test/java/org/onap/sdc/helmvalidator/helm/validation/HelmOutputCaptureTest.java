@@ -0,0 +1,136 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+
+class HelmOutputCaptureTest {
+
+    private static final long MAX_BYTES = 64;
+    private static final int MAX_LINES = 4;
+    private static final int EXIT_VALUE = 1;
+    private static final int CHUNK_SIZE = 16;
+    private static final String LINT_ERROR = "[ERROR] templates/: parse error";
+    private static final String LINT_WARNING = "[WARNING] templates/: directory not found";
+    private static final String LINT_SUMMARY = "Error: 1 chart(s) linted, 1 chart(s) failed";
+
+    @Test
+    void shouldClassifyLinesAsTheyAreRead() throws IOException {
+        var capture = new HelmOutputCapture(MAX_BYTES * 4, MAX_LINES);
+
+        capture.readFrom(outputOf(LINT_WARNING + "\r\n" + LINT_ERROR + "\n" + LINT_SUMMARY), false);
+        BashOutput output = capture.toBashOutput(EXIT_VALUE, 0);
+
+        assertThat(output.getExitValue()).isEqualTo(EXIT_VALUE);
+        assertThat(output.getOutputLines()).containsExactly(LINT_WARNING, LINT_ERROR, LINT_SUMMARY);
+        assertThat(output.getErrorLines()).containsExactly(LINT_ERROR);
+        assertThat(output.getWarningLines()).containsExactly(LINT_WARNING);
+        assertThat(output.isTruncated()).isFalse();
+    }
+
+    @Test
+    void shouldStopCapturingLinesOverLineLimit() throws IOException {
+        var capture = new HelmOutputCapture(MAX_BYTES, MAX_LINES);
+
+        boolean stoppedEarly = capture.readFrom(outputOf("a\nb\nc\nd\ne\nf\n"), false);
+        BashOutput output = capture.toBashOutput(EXIT_VALUE, 0);
+
+        assertThat(stoppedEarly).isFalse();
+        assertThat(output.getOutputLines()).containsExactly("a", "b", "c", "d");
+        assertThat(output.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldCutLinesOverByteLimit() throws IOException {
+        var capture = new HelmOutputCapture(MAX_BYTES, MAX_LINES);
+        String longLine = "x".repeat((int) MAX_BYTES * 2);
+
+        capture.readFrom(outputOf("short\n" + longLine + "\n" + LINT_ERROR + "\n"), false);
+        BashOutput output = capture.toBashOutput(EXIT_VALUE, 0);
+
+        assertThat(output.getOutputLines()).containsExactly("short", "x".repeat((int) MAX_BYTES - "short".length()));
+        assertThat(output.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldClassifyLinesOverLimits() throws IOException {
+        var capture = new HelmOutputCapture(MAX_BYTES * 4, MAX_LINES);
+
+        capture.readFrom(outputOf("a\nb\nc\nd\n" + "x".repeat((int) MAX_BYTES * 8) + "\n" + LINT_WARNING + "\n"
+            + LINT_ERROR + "\n"), false);
+        BashOutput output = capture.toBashOutput(EXIT_VALUE, 0);
+
+        assertThat(output.getOutputLines()).containsExactly("a", "b", "c", "d");
+        assertThat(output.getErrorLines()).containsExactly(LINT_ERROR);
+        assertThat(output.getWarningLines()).containsExactly(LINT_WARNING);
+        assertThat(output.getDiagnostics()).hasSize(2);
+        assertThat(output.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldLimitClassifiedLinesOverLimits() throws IOException {
+        var capture = new HelmOutputCapture(MAX_BYTES * 4, MAX_LINES);
+
+        capture.readFrom(outputOf((LINT_ERROR + "\n").repeat(MAX_LINES * 2)), false);
+        BashOutput output = capture.toBashOutput(EXIT_VALUE, 0);
+
+        assertThat(output.getOutputLines()).hasSize(MAX_LINES);
+        assertThat(output.getErrorLines()).hasSize(MAX_LINES);
+        assertThat(output.getDiagnostics()).hasSize(MAX_LINES);
+        assertThat(output.isTruncated()).isTrue();
+    }
+
+    @Test
+    void shouldStopReadingOnceTruncatedWhenRequested() throws IOException {
+        var capture = new HelmOutputCapture(MAX_BYTES, MAX_LINES);
+        var output = new ChunkedInputStream("line\n".repeat(10_000));
+
+        boolean stoppedEarly = capture.readFrom(output, true);
+
+        assertThat(stoppedEarly).isTrue();
+        assertThat(capture.isStoppedOnLimit()).isTrue();
+        assertThat(capture.isTruncated()).isTrue();
+        assertThat(output.available()).isPositive();
+    }
+
+    private static InputStream outputOf(String output) {
+        return new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class ChunkedInputStream extends ByteArrayInputStream {
+
+        ChunkedInputStream(String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return super.read(buffer, offset, Math.min(length, CHUNK_SIZE));
+        }
+    }
+}
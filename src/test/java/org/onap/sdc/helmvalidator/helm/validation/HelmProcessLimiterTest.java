@@ -0,0 +1,136 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmQueueTimeoutException;
+
+class HelmProcessLimiterTest {
+
+    private static final int MAX_CONCURRENT = 1;
+    private static final int MAX_QUEUED = 1;
+    private static final long MAX_WAIT_MS = 200;
+    private static final long SHORT_WAIT_MS = 50;
+    private static final long RETRY_AFTER_SECONDS = 7;
+    private static final long TEST_TIMEOUT_SECONDS = 5;
+
+    private ExecutorService waitingThreads;
+
+    @BeforeEach
+    void setUp() {
+        waitingThreads = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitingThreads.shutdownNow();
+    }
+
+    @Test
+    void shouldTrackInFlightProcesses() {
+        HelmProcessLimiter limiter = new HelmProcessLimiter(2, MAX_QUEUED, MAX_WAIT_MS, RETRY_AFTER_SECONDS);
+
+        limiter.acquire();
+        limiter.acquire();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.release();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWithRetryAfterWhenQueueIsFull() throws Exception {
+        HelmProcessLimiter limiter = new HelmProcessLimiter(MAX_CONCURRENT, MAX_QUEUED, 10_000, RETRY_AFTER_SECONDS);
+        limiter.acquire();
+        CountDownLatch queued = new CountDownLatch(1);
+        Future<?> waitingProcess = waitingThreads.submit(() -> {
+            queued.countDown();
+            limiter.acquire();
+        });
+        assertThat(queued.await(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        awaitWaiting(limiter);
+
+        HelmCapacityExceededException exception = assertThrows(HelmCapacityExceededException.class,
+            limiter::acquire);
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+
+        limiter.release();
+        waitingProcess.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isEqualTo(MAX_CONCURRENT);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    void shouldRejectWhenNoSlotIsReleasedWithinMaxWaitTime() {
+        HelmProcessLimiter limiter = new HelmProcessLimiter(MAX_CONCURRENT, MAX_QUEUED, SHORT_WAIT_MS,
+            RETRY_AFTER_SECONDS);
+        limiter.acquire();
+
+        assertThatExceptionOfType(HelmQueueTimeoutException.class)
+            .isThrownBy(limiter::acquire);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    void shouldReserveSlotsOfManyProcessesOnlyWhenAllAreFree() {
+        HelmProcessLimiter limiter = new HelmProcessLimiter(2, MAX_QUEUED, SHORT_WAIT_MS, RETRY_AFTER_SECONDS);
+        limiter.acquire();
+
+        assertThatExceptionOfType(HelmQueueTimeoutException.class)
+            .isThrownBy(() -> limiter.acquire(2));
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(limiter.acquire(2)).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCapReservedSlotsAtMaximumNumberOfConcurrentProcesses() {
+        HelmProcessLimiter limiter = new HelmProcessLimiter(MAX_CONCURRENT, MAX_QUEUED, SHORT_WAIT_MS,
+            RETRY_AFTER_SECONDS);
+
+        int slots = limiter.acquire(2);
+
+        assertThat(slots).isEqualTo(MAX_CONCURRENT);
+        limiter.release(slots);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private void awaitWaiting(HelmProcessLimiter limiter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TEST_TIMEOUT_SECONDS);
+        while (limiter.getWaiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.onap.sdc.helmvalidator.helm.validation.TestCharts.chartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.capabilities.KubeCapabilityProfile;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedKubeProfileVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.versions.ApiVersionsReader;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class KubeProfileValidationServiceTest {
+
+    private static final String DESIRED_VERSION = "v3";
+    private static final String HELM_VERSION = "3.14.4";
+    private static final String CHART_NAME = "chart-1.0.0.tgz";
+    private static final long MAX_CHART_BYTES = 1024;
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(4096, 10, 1024, 10, 100);
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final KubeCapabilityProfile OLD_KUBE_PROFILE = new KubeCapabilityProfile("k8s-1.23", "1.23.17",
+        List.of("policy/v1beta1/PodSecurityPolicy"));
+    private static final KubeCapabilityProfile NEW_KUBE_PROFILE = new KubeCapabilityProfile("k8s-1.29", "1.29.2",
+        List.of());
+    private static final ValidationResult OLD_KUBE_RESULT = new ValidationResult(
+        new TemplateValidationResult(true, new ArrayList<>()), HELM_VERSION);
+    private static final ValidationResult NEW_KUBE_RESULT = new ValidationResult(
+        new TemplateValidationResult(false, List.of("Error: unable to build kubernetes objects")), HELM_VERSION);
+    private static final LintValidationResult LINT_RESULT = new LintValidationResult(true, List.of(),
+        List.of("[INFO] Chart.yaml: icon is recommended"));
+    private static final ValidationResult OLD_KUBE_LINTED_RESULT = OLD_KUBE_RESULT.withLint(LINT_RESULT);
+    private static final ValidationResult NEW_KUBE_LINTED_RESULT = NEW_KUBE_RESULT.withLint(LINT_RESULT);
+
+    @TempDir
+    Path chartsDir;
+
+    @Mock
+    private ValidationService validationService;
+
+    private KubeProfileValidationService kubeProfileValidationService;
+
+    private MultipartFile uploadedChart;
+
+    @BeforeEach
+    void setUp() {
+        uploadedChart = chartFile(CHART_NAME, "chart");
+        var fileManager = new FileManager(chartsDir.toString());
+        var chartIngestor = new ChartIngestor(fileManager, new ApiVersionsReader(ARCHIVE_LIMITS), MAX_CHART_BYTES,
+            new SimpleMeterRegistry());
+        kubeProfileValidationService = new KubeProfileValidationService(validationService, chartIngestor,
+            DIRECT_EXECUTOR);
+    }
+
+    @Test
+    void shouldRenderChartWithEachProfileAndReturnResultsKeyedByProfileName() {
+        mockVersion(HELM_VERSION);
+        mockTemplate(NEW_KUBE_PROFILE, NEW_KUBE_RESULT);
+        mockTemplate(OLD_KUBE_PROFILE, OLD_KUBE_RESULT);
+
+        Map<String, BatchValidationEntry> results = kubeProfileValidationService.process(DESIRED_VERSION,
+            uploadedChart, false, false, List.of(NEW_KUBE_PROFILE, OLD_KUBE_PROFILE));
+
+        assertThat(results.keySet()).containsExactly(NEW_KUBE_PROFILE.getName(), OLD_KUBE_PROFILE.getName());
+        assertThat(results.get(NEW_KUBE_PROFILE.getName()).getResult()).isSameAs(NEW_KUBE_RESULT);
+        assertThat(results.get(OLD_KUBE_PROFILE.getName()).getResult()).isSameAs(OLD_KUBE_RESULT);
+        verify(validationService, never()).lintSavedChart(anyString(), any(ChartDescriptor.class), anyBoolean());
+    }
+
+    @Test
+    void shouldLintSingleSavedCopyOfChartOnceAndRemoveItAfterValidation() throws IOException {
+        mockVersion(HELM_VERSION);
+        mockTemplate(NEW_KUBE_PROFILE, NEW_KUBE_RESULT);
+        mockTemplate(OLD_KUBE_PROFILE, OLD_KUBE_RESULT);
+        when(validationService.lintSavedChart(eq(HELM_VERSION), any(ChartDescriptor.class), eq(true)))
+            .thenReturn(LINT_RESULT);
+        mockCompletion(NEW_KUBE_PROFILE, NEW_KUBE_RESULT, NEW_KUBE_LINTED_RESULT);
+        mockCompletion(OLD_KUBE_PROFILE, OLD_KUBE_RESULT, OLD_KUBE_LINTED_RESULT);
+
+        Map<String, BatchValidationEntry> results = kubeProfileValidationService.process(DESIRED_VERSION,
+            uploadedChart, true, true, List.of(NEW_KUBE_PROFILE, OLD_KUBE_PROFILE));
+
+        assertThat(results.keySet()).containsExactly(NEW_KUBE_PROFILE.getName(), OLD_KUBE_PROFILE.getName());
+        assertThat(results.get(NEW_KUBE_PROFILE.getName()).getResult()).isSameAs(NEW_KUBE_LINTED_RESULT);
+        assertThat(results.get(OLD_KUBE_PROFILE.getName()).getResult()).isSameAs(OLD_KUBE_LINTED_RESULT);
+        var chartCaptor = ArgumentCaptor.forClass(ChartDescriptor.class);
+        verify(validationService).lintSavedChart(eq(HELM_VERSION), chartCaptor.capture(), eq(true));
+        verify(validationService).processSavedChart(HELM_VERSION, chartCaptor.getValue(), CHART_NAME, false, false,
+            NEW_KUBE_PROFILE);
+        verify(validationService).processSavedChart(HELM_VERSION, chartCaptor.getValue(), CHART_NAME, false, false,
+            OLD_KUBE_PROFILE);
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldNeitherLintNorRenderChartWhenResultsOfAllProfilesAreCached() {
+        mockVersion(HELM_VERSION);
+        when(validationService.findResult(eq(HELM_VERSION), any(ChartDescriptor.class), eq(true), eq(false),
+            eq(NEW_KUBE_PROFILE))).thenReturn(Optional.of(NEW_KUBE_LINTED_RESULT));
+        when(validationService.findResult(eq(HELM_VERSION), any(ChartDescriptor.class), eq(true), eq(false),
+            eq(OLD_KUBE_PROFILE))).thenReturn(Optional.of(OLD_KUBE_LINTED_RESULT));
+
+        Map<String, BatchValidationEntry> results = kubeProfileValidationService.process(DESIRED_VERSION,
+            uploadedChart, true, false, List.of(NEW_KUBE_PROFILE, OLD_KUBE_PROFILE));
+
+        assertThat(results.get(NEW_KUBE_PROFILE.getName()).getResult()).isSameAs(NEW_KUBE_LINTED_RESULT);
+        assertThat(results.get(OLD_KUBE_PROFILE.getName()).getResult()).isSameAs(OLD_KUBE_LINTED_RESULT);
+        verify(validationService, never()).lintSavedChart(anyString(), any(ChartDescriptor.class), anyBoolean());
+        verify(validationService, never()).processSavedChart(anyString(), any(ChartDescriptor.class), anyString(),
+            anyBoolean(), anyBoolean(), any(KubeCapabilityProfile.class));
+    }
+
+    @Test
+    void shouldReportFailureOfValidationWithOneProfileInItsEntry() {
+        mockVersion(HELM_VERSION);
+        when(validationService.processSavedChart(eq(HELM_VERSION), any(ChartDescriptor.class), anyString(),
+            eq(false), eq(false), eq(NEW_KUBE_PROFILE)))
+            .thenThrow(new HelmTimeoutException("Helm execution exceeded timeout"));
+        mockTemplate(OLD_KUBE_PROFILE, OLD_KUBE_RESULT);
+
+        Map<String, BatchValidationEntry> results = kubeProfileValidationService.process(DESIRED_VERSION,
+            uploadedChart, false, false, List.of(NEW_KUBE_PROFILE, OLD_KUBE_PROFILE));
+
+        assertThat(results.keySet()).containsExactly(NEW_KUBE_PROFILE.getName(), OLD_KUBE_PROFILE.getName());
+        assertThat(results.get(NEW_KUBE_PROFILE.getName()).getResult()).isNull();
+        assertThat(results.get(NEW_KUBE_PROFILE.getName()).getError()).isEqualTo("Helm execution exceeded timeout");
+        assertThat(results.get(OLD_KUBE_PROFILE.getName()).getResult()).isSameAs(OLD_KUBE_RESULT);
+    }
+
+    @Test
+    void shouldRejectHelmVersionWhichDoesNotAcceptKubeVersionFlag() throws IOException {
+        mockVersion("3.5.2");
+
+        assertThatExceptionOfType(NotSupportedKubeProfileVersionException.class)
+            .isThrownBy(() -> kubeProfileValidationService.process("3.5.2", uploadedChart, false, false,
+                List.of(NEW_KUBE_PROFILE)))
+            .withMessage("Helm version: 3.5.2 does not support Kubernetes capability profiles, "
+                + "version 3.6.0 or newer is required");
+        verify(validationService, never()).processSavedChart(anyString(), any(ChartDescriptor.class), anyString(),
+            anyBoolean(), anyBoolean(), any(KubeCapabilityProfile.class));
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    private void mockVersion(String helmVersion) {
+        when(validationService.getSupportedHelmVersion(anyString(), any(ChartDescriptor.class)))
+            .thenReturn(helmVersion);
+    }
+
+    private void mockTemplate(KubeCapabilityProfile profile, ValidationResult result) {
+        when(validationService.processSavedChart(eq(HELM_VERSION), any(ChartDescriptor.class), anyString(),
+            eq(false), eq(false), eq(profile))).thenReturn(result);
+    }
+
+    private void mockCompletion(KubeCapabilityProfile profile, ValidationResult templateResult,
+        ValidationResult result) {
+        when(validationService.findResult(eq(HELM_VERSION), any(ChartDescriptor.class), eq(true), eq(true),
+            eq(profile))).thenReturn(Optional.empty());
+        when(validationService.completeWithLint(eq(HELM_VERSION), any(ChartDescriptor.class), eq(true), eq(profile),
+            eq(templateResult), eq(LINT_RESULT))).thenReturn(result);
+    }
+}
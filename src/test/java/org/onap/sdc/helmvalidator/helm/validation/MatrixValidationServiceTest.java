@@ -0,0 +1,168 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.onap.sdc.helmvalidator.helm.validation.TestCharts.chartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.BatchValidationEntry;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.versions.ApiVersionsReader;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.onap.sdc.helmvalidator.helm.versions.SupportedVersionsProvider;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class MatrixValidationServiceTest {
+
+    private static final String NEWER_VERSION = "3.14.4";
+    private static final String OLDER_VERSION = "3.12.3";
+    private static final List<String> DESIRED_VERSIONS = List.of("all");
+    private static final String CHART_NAME = "chart-1.0.0.tgz";
+    private static final long MAX_CHART_BYTES = 1024;
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(4096, 10, 1024, 10, 100);
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final ValidationResult NEWER_RESULT = new ValidationResult(
+        new TemplateValidationResult(true, new ArrayList<>()), NEWER_VERSION);
+    private static final ValidationResult OLDER_RESULT = new ValidationResult(
+        new TemplateValidationResult(true, new ArrayList<>()), OLDER_VERSION);
+
+    @TempDir
+    Path chartsDir;
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private SupportedVersionsProvider versionsProvider;
+
+    private MatrixValidationService matrixValidationService;
+
+    private MultipartFile uploadedChart;
+
+    @BeforeEach
+    void setUp() {
+        uploadedChart = chartFile(CHART_NAME, "chart");
+        var fileManager = new FileManager(chartsDir.toString());
+        var chartIngestor = new ChartIngestor(fileManager, new ApiVersionsReader(ARCHIVE_LIMITS), MAX_CHART_BYTES,
+            new SimpleMeterRegistry());
+        matrixValidationService = new MatrixValidationService(validationService, versionsProvider, chartIngestor,
+            DIRECT_EXECUTOR);
+    }
+
+    @Test
+    void shouldValidateChartWithEachVersionAndReturnResultsKeyedByVersion() {
+        when(versionsProvider.resolveVersions(DESIRED_VERSIONS)).thenReturn(List.of(NEWER_VERSION, OLDER_VERSION));
+        mockValidation(NEWER_VERSION, NEWER_RESULT);
+        mockValidation(OLDER_VERSION, OLDER_RESULT);
+
+        Map<String, BatchValidationEntry> results = matrixValidationService.process(DESIRED_VERSIONS, uploadedChart,
+            true, false);
+
+        assertThat(results.keySet()).containsExactly(NEWER_VERSION, OLDER_VERSION);
+        assertThat(results.get(NEWER_VERSION).getResult()).isSameAs(NEWER_RESULT);
+        assertThat(results.get(OLDER_VERSION).getResult()).isSameAs(OLDER_RESULT);
+    }
+
+    @Test
+    void shouldValidateSingleSavedCopyOfChartAndRemoveItAfterValidation() throws IOException {
+        when(versionsProvider.resolveVersions(DESIRED_VERSIONS)).thenReturn(List.of(NEWER_VERSION, OLDER_VERSION));
+        mockValidation(NEWER_VERSION, NEWER_RESULT);
+        mockValidation(OLDER_VERSION, OLDER_RESULT);
+        var chartCaptor = ArgumentCaptor.forClass(ChartDescriptor.class);
+
+        matrixValidationService.process(DESIRED_VERSIONS, uploadedChart, true, false);
+
+        verify(validationService).processSavedChart(eq(NEWER_VERSION), chartCaptor.capture(), eq(CHART_NAME),
+            eq(true), eq(false));
+        verify(validationService).processSavedChart(eq(OLDER_VERSION), eq(chartCaptor.getValue()), eq(CHART_NAME),
+            eq(true), eq(false));
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReportFailureOfValidationWithOneVersionInItsEntry() throws IOException {
+        when(versionsProvider.resolveVersions(DESIRED_VERSIONS)).thenReturn(List.of(NEWER_VERSION, OLDER_VERSION));
+        when(validationService.processSavedChart(eq(NEWER_VERSION), any(ChartDescriptor.class), anyString(),
+            eq(false), eq(false))).thenThrow(new HelmTimeoutException("Helm execution exceeded timeout"));
+        mockValidation(OLDER_VERSION, OLDER_RESULT);
+
+        Map<String, BatchValidationEntry> results = matrixValidationService.process(DESIRED_VERSIONS, uploadedChart,
+            false, false);
+
+        assertThat(results.keySet()).containsExactly(NEWER_VERSION, OLDER_VERSION);
+        assertThat(results.get(NEWER_VERSION).getResult()).isNull();
+        assertThat(results.get(NEWER_VERSION).getError()).isEqualTo("Helm execution exceeded timeout");
+        assertThat(results.get(OLDER_VERSION).getResult()).isSameAs(OLDER_RESULT);
+        assertThat(results.get(OLDER_VERSION).getError()).isNull();
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldNotSaveChartWhenDesiredVersionsAreNotSupported() throws IOException {
+        when(versionsProvider.resolveVersions(DESIRED_VERSIONS))
+            .thenThrow(new NotSupportedVersionException("all"));
+
+        assertThatExceptionOfType(NotSupportedVersionException.class)
+            .isThrownBy(() -> matrixValidationService.process(DESIRED_VERSIONS, uploadedChart, false, false));
+        verify(validationService, never()).processSavedChart(anyString(), any(ChartDescriptor.class), anyString(),
+            eq(false), eq(false));
+        try (Stream<Path> savedFiles = Files.list(chartsDir)) {
+            assertThat(savedFiles).isEmpty();
+        }
+    }
+
+    private void mockValidation(String helmVersion, ValidationResult result) {
+        when(validationService.processSavedChart(eq(helmVersion), any(ChartDescriptor.class), anyString(),
+            any(Boolean.class), any(Boolean.class))).thenReturn(result);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Packaged Helm charts uploaded in tests of validation services.
+ */
+final class TestCharts {
+
+    private static final String FILE_KEY = "file";
+
+    private TestCharts() {
+    }
+
+    static MultipartFile chartFile(String fileName, String chartName) {
+        return new MockMultipartFile(FILE_KEY, fileName, null, packChart(chartName));
+    }
+
+    static byte[] packChart(String chartName) {
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            addEntry(tarStream, chartName + "/Chart.yaml",
+                ("apiVersion: v2\nname: " + chartName + "\nversion: 1.0.0\n").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    static void addEntry(TarArchiveOutputStream tarStream, String name, byte[] content) throws IOException {
+        var entry = new TarArchiveEntry(name);
+        entry.setSize(content.length);
+        tarStream.putArchiveEntry(entry);
+        tarStream.write(content);
+        tarStream.closeArchiveEntry();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.ValidationJobNotFoundException;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationJob;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationJobStatus;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.versions.ChartMetadata;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ValidationJobServiceTest {
+
+    private static final String SAMPLE_VERSION = "3.5.2";
+    private static final String SAMPLE_PATH = "/charts/chart.tgz";
+    private static final String SAMPLE_NAME = "chart.tgz";
+    private static final ChartDescriptor SAMPLE_CHART = new ChartDescriptor(SAMPLE_PATH, "digest", 1L,
+        new ChartMetadata("v2", "chart", "1.0.0", 1));
+    private static final int MAX_JOBS = 2;
+    private static final long JOB_TTL_MS = 1000L;
+    private static final long RETRY_AFTER_SECONDS = 5L;
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final Executor QUEUEING_EXECUTOR = task -> { };
+    private static final long TEST_TIMEOUT_SECONDS = 5;
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private FileManager fileManager;
+
+    @Mock
+    private ChartIngestor chartIngestor;
+
+    @Mock
+    private MultipartFile file;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void shouldRunJobAndStoreResult() {
+        ValidationResult expectedResult = new ValidationResult(
+            new TemplateValidationResult(true, new ArrayList<>()), SAMPLE_VERSION);
+        mockSavedFile();
+        when(validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, SAMPLE_NAME, false, false))
+            .thenReturn(expectedResult);
+        ValidationJobService jobService = createJobService(DIRECT_EXECUTOR);
+
+        ValidationJob job = jobService.submit(SAMPLE_VERSION, file, false, false);
+
+        ValidationJob polledJob = jobService.getJob(job.getId());
+        assertThat(polledJob.getStatus()).isEqualTo(ValidationJobStatus.SUCCEEDED);
+        assertThat(polledJob.getResult()).isEqualTo(expectedResult);
+        assertThat(polledJob.getFinishedAt()).isNotNull();
+        verify(fileManager).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldStoreErrorWhenValidationFails() {
+        mockSavedFile();
+        when(validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, SAMPLE_NAME, true, false))
+            .thenThrow(new HelmTimeoutException("Helm execution exceeded timeout"));
+        ValidationJobService jobService = createJobService(DIRECT_EXECUTOR);
+
+        ValidationJob job = jobService.submit(SAMPLE_VERSION, file, true, false);
+
+        ValidationJob polledJob = jobService.getJob(job.getId());
+        assertThat(polledJob.getStatus()).isEqualTo(ValidationJobStatus.FAILED);
+        assertThat(polledJob.getError()).isEqualTo("Helm execution exceeded timeout");
+        assertThat(polledJob.getResult()).isNull();
+        verify(fileManager).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldMarkJobFailedWhenValidationThrowsError() {
+        mockSavedFile();
+        StackOverflowError error = new StackOverflowError();
+        when(validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, SAMPLE_NAME, false, false))
+            .thenThrow(error);
+        List<Runnable> queuedTasks = new ArrayList<>();
+        ValidationJobService jobService = createJobService(queuedTasks::add);
+        ValidationJob job = jobService.submit(SAMPLE_VERSION, file, false, false);
+
+        assertThatExceptionOfType(StackOverflowError.class)
+            .isThrownBy(() -> queuedTasks.get(0).run());
+
+        ValidationJob polledJob = jobService.getJob(job.getId());
+        assertThat(polledJob.getStatus()).isEqualTo(ValidationJobStatus.FAILED);
+        assertThat(polledJob.getError()).isEqualTo(error.toString());
+        verify(fileManager).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldKeepJobQueuedUntilExecutorRunsIt() {
+        mockSavedFile();
+        ValidationJobService jobService = createJobService(QUEUEING_EXECUTOR);
+
+        ValidationJob job = jobService.submit(SAMPLE_VERSION, file, false, false);
+
+        assertThat(jobService.getJob(job.getId()).getStatus()).isEqualTo(ValidationJobStatus.QUEUED);
+        verifyNoInteractions(validationService);
+    }
+
+    @Test
+    void shouldRejectJobAndRemoveFileWhenExecutorIsSaturated() {
+        mockSavedFile();
+        ValidationJobService jobService = createJobService(task -> {
+            throw new RejectedExecutionException();
+        });
+
+        HelmCapacityExceededException exception = assertThrows(
+            HelmCapacityExceededException.class, () -> jobService.submit(SAMPLE_VERSION, file, false, false));
+
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(RETRY_AFTER_SECONDS);
+        verify(fileManager).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldRejectJobWhenJobTableIsFull() {
+        mockSavedFile();
+        ValidationJobService jobService = createJobService(QUEUEING_EXECUTOR);
+        for (int i = 0; i < MAX_JOBS; i++) {
+            jobService.submit(SAMPLE_VERSION, file, false, false);
+        }
+
+        assertThatExceptionOfType(HelmCapacityExceededException.class)
+            .isThrownBy(() -> jobService.submit(SAMPLE_VERSION, file, false, false));
+    }
+
+    @Test
+    void shouldReleaseJobSlotWhenChartCannotBeSaved() {
+        when(chartIngestor.ingest(file)).thenThrow(new SaveFileException("cannot save"))
+            .thenReturn(SAMPLE_CHART);
+        when(file.getOriginalFilename()).thenReturn(SAMPLE_NAME);
+        ValidationJobService jobService = createJobService(QUEUEING_EXECUTOR);
+
+        assertThatExceptionOfType(SaveFileException.class)
+            .isThrownBy(() -> jobService.submit(SAMPLE_VERSION, file, false, false));
+        for (int i = 0; i < MAX_JOBS; i++) {
+            jobService.submit(SAMPLE_VERSION, file, false, false);
+        }
+
+        assertThatExceptionOfType(HelmCapacityExceededException.class)
+            .isThrownBy(() -> jobService.submit(SAMPLE_VERSION, file, false, false));
+    }
+
+    @Test
+    void shouldNotExceedJobTableSizeWhenJobsAreSubmittedConcurrently() throws Exception {
+        mockSavedFile();
+        ValidationJobService jobService = createJobService(QUEUEING_EXECUTOR);
+        int submitters = MAX_JOBS * 4;
+        ExecutorService submitterThreads = Executors.newFixedThreadPool(submitters);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < submitters; i++) {
+                submissions.add(submitterThreads.submit(() -> {
+                    start.await();
+                    try {
+                        jobService.submit(SAMPLE_VERSION, file, false, false);
+                        accepted.incrementAndGet();
+                    } catch (HelmCapacityExceededException e) {
+                        // rejected because the job table is full
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> submission : submissions) {
+                submission.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            submitterThreads.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(MAX_JOBS);
+    }
+
+    @Test
+    void shouldRemoveFinishedJobAfterTtl() {
+        mockSavedFile();
+        when(validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, SAMPLE_NAME, false, false))
+            .thenReturn(new ValidationResult(new TemplateValidationResult(true, new ArrayList<>()), SAMPLE_VERSION));
+        ValidationJobService jobService = createJobService(DIRECT_EXECUTOR);
+        ValidationJob job = jobService.submit(SAMPLE_VERSION, file, false, false);
+
+        clock.advance(JOB_TTL_MS + 1);
+
+        assertThatExceptionOfType(ValidationJobNotFoundException.class)
+            .isThrownBy(() -> jobService.getJob(job.getId()));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenJobDoesNotExist() {
+        ValidationJobService jobService = createJobService(DIRECT_EXECUTOR);
+
+        assertThatExceptionOfType(ValidationJobNotFoundException.class)
+            .isThrownBy(() -> jobService.getJob("unknown"))
+            .withMessage("Validation job: unknown not found");
+    }
+
+    private void mockSavedFile() {
+        when(chartIngestor.ingest(file)).thenReturn(SAMPLE_CHART);
+        when(file.getOriginalFilename()).thenReturn(SAMPLE_NAME);
+    }
+
+    private ValidationJobService createJobService(Executor executor) {
+        return new ValidationJobService(validationService, fileManager, chartIngestor, executor, MAX_JOBS,
+            JOB_TTL_MS, RETRY_AFTER_SECONDS, clock);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
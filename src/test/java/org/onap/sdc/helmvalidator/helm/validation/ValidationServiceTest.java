@@ -22,33 +22,67 @@ package org.onap.sdc.helmvalidator.helm.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.capabilities.KubeCapabilityProfile;
+import org.onap.sdc.helmvalidator.helm.validation.cache.InFlightValidations;
+import org.onap.sdc.helmvalidator.helm.validation.cache.ValidationResultCache;
 import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmCapacityExceededException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.HelmTimeoutException;
+import org.onap.sdc.helmvalidator.helm.validation.exception.InvalidChartDigestException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
 import org.onap.sdc.helmvalidator.helm.validation.exception.SaveFileException;
 import org.onap.sdc.helmvalidator.helm.validation.model.BashOutput;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmCommand;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnostic;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticParser;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticSeverity;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmSubcommand;
+import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationPhase;
 import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationTimings;
+import org.onap.sdc.helmvalidator.helm.validation.workspace.ChartWorkspaceCache;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
 import org.onap.sdc.helmvalidator.helm.versions.ChartBasedVersionProvider;
+import org.onap.sdc.helmvalidator.helm.versions.ChartMetadata;
 import org.onap.sdc.helmvalidator.helm.versions.SupportedVersionsProvider;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
 class ValidationServiceTest {
 
+    private static final String FAILING_TEMPLATE = "sample/templates/fail.yaml";
     private static final String HELM_ERROR_ON_TEMPLATE =
         "Error: parse error at (sample/templates/fail.yaml:1): function \"deliberateSyntaxError\" not defined";
     private static final String HELM_ERROR_ON_LINT =
@@ -73,16 +107,47 @@ class ValidationServiceTest {
     private static final String NOT_SUPPORTED_VERSION = "not supported version";
 
     private static final String SAMPLE_PATH = "samplePath";
-    private static final String HELM_TEMPLATE = "helm-v3.3.3 template samplePath";
-    private static final String HELM_LINT = "helm-v3.3.3 lint samplePath";
-    private static final String HELM_LINT_STRICT = "helm-v3.3.3 lint samplePath --strict";
+    private static final String SAMPLE_DIGEST = "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae";
+    private static final ChartMetadata SAMPLE_METADATA = new ChartMetadata("v2", "sample-chart", "1.0.0", 1);
+    private static final ChartDescriptor SAMPLE_CHART = new ChartDescriptor(SAMPLE_PATH, SAMPLE_DIGEST, 1L,
+        SAMPLE_METADATA);
+    private static final String SAMPLE_CONTENT_DIGEST =
+        "fcde2b2edba56bf408601fb721fe9b5c338d10ee429ea04fae5511b68fbf8fb9";
+    private static final ChartDescriptor SAMPLE_CHART_WITH_CONTENT_DIGEST = new ChartDescriptor(SAMPLE_PATH,
+        SAMPLE_DIGEST, 1L, new ChartMetadata("v2", "sample-chart", "1.0.0", 1, SAMPLE_CONTENT_DIGEST));
+    private static final int CACHE_MAX_ENTRIES = 10;
+    private static final long CACHE_TTL_MS = 60_000;
+    private static final String WORKSPACE_PATH = "workspaces";
+    private static final long WORKSPACE_DISABLED = 0;
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(1024, 10, 1024, 10, 100);
+    private static final HelmCommand HELM_TEMPLATE = new HelmCommand(SAMPLE_VERSION, HelmSubcommand.TEMPLATE,
+        List.of(), SAMPLE_PATH);
+    private static final HelmCommand HELM_LINT = new HelmCommand(SAMPLE_VERSION, HelmSubcommand.LINT,
+        List.of(), SAMPLE_PATH);
+    private static final HelmCommand HELM_LINT_STRICT = new HelmCommand(SAMPLE_VERSION, HelmSubcommand.LINT,
+        List.of("--strict"), SAMPLE_PATH);
+    private static final KubeCapabilityProfile OLD_KUBE_PROFILE = new KubeCapabilityProfile("k8s-1.23", "1.23.17",
+        List.of("policy/v1beta1/PodSecurityPolicy"));
+    private static final KubeCapabilityProfile NEW_KUBE_PROFILE = new KubeCapabilityProfile("k8s-1.29", "1.29.2",
+        List.of());
+    private static final HelmCommand HELM_TEMPLATE_OLD_KUBE = new HelmCommand(SAMPLE_VERSION, HelmSubcommand.TEMPLATE,
+        List.of("--kube-version", "1.23.17", "--api-versions", "policy/v1beta1/PodSecurityPolicy"), SAMPLE_PATH);
+    private static final HelmCommand HELM_TEMPLATE_NEW_KUBE = new HelmCommand(SAMPLE_VERSION, HelmSubcommand.TEMPLATE,
+        List.of("--kube-version", "1.29.2"), SAMPLE_PATH);
     private static final int EXPECTED_ONE = 1;
+    private static final int HELM_TASK_THREADS = 2;
+    private static final long LATCH_TIMEOUT_SECONDS = 5;
+    private static final long TEMPLATE_TIMEOUT_MS = 1000;
+    private static final long LINT_TIMEOUT_MS = 2000;
 
     private ValidationService validationService;
 
     @Mock
     private FileManager fileManager;
 
+    @Mock
+    private ChartIngestor chartIngestor;
+
     @Mock
     private SupportedVersionsProvider versionsProvider;
 
@@ -93,18 +158,35 @@ class ValidationServiceTest {
     private MultipartFile multipartFile;
 
     @Mock
-    private BashExecutor bashExecutor;
+    private HelmLauncher helmLauncher;
+
+    private ExecutorService helmTaskExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        when(fileManager.saveFile(multipartFile)).thenReturn(SAMPLE_PATH);
-        lenient().when(versionsProvider.getVersions()).thenReturn(SAMPLE_VERSIONS);
-        this.validationService = new ValidationService(fileManager, bashExecutor, versionsProvider, chartBasedProvider);
+        lenient().when(chartIngestor.ingest(multipartFile)).thenReturn(SAMPLE_CHART);
+        lenient().when(versionsProvider.resolveVersion(SAMPLE_VERSION)).thenReturn(SAMPLE_VERSION);
+        lenient().when(helmLauncher.reserveSlots(anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+        helmTaskExecutor = Executors.newFixedThreadPool(HELM_TASK_THREADS);
+        meterRegistry = new SimpleMeterRegistry();
+        var validationMetrics = new ValidationMetrics(meterRegistry, new HelmProcessLimiter(1, 1, 1, 1), fileManager);
+        this.validationService = new ValidationService(fileManager, chartIngestor, helmLauncher, versionsProvider,
+            chartBasedProvider, new ValidationResultCache(CACHE_MAX_ENTRIES, CACHE_TTL_MS, new SimpleMeterRegistry()),
+            new InFlightValidations(new SimpleMeterRegistry()),
+            new ChartWorkspaceCache(WORKSPACE_PATH, WORKSPACE_DISABLED, ARCHIVE_LIMITS, new SimpleMeterRegistry()),
+            validationMetrics, helmTaskExecutor, TEMPLATE_TIMEOUT_MS, LINT_TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        helmTaskExecutor.shutdownNow();
     }
 
     @Test
     void shouldThrowExceptionWhenCannotSaveFile() {
-        when(fileManager.saveFile(multipartFile)).thenThrow(SaveFileException.class);
+        when(chartIngestor.ingest(multipartFile)).thenThrow(SaveFileException.class);
 
         assertThatExceptionOfType(SaveFileException.class)
             .isThrownBy(
@@ -113,6 +195,8 @@ class ValidationServiceTest {
 
     @Test
     void shouldThrowExceptionWhenVersionsIsNotSupported() {
+        when(versionsProvider.resolveVersion(NOT_SUPPORTED_VERSION))
+            .thenThrow(new NotSupportedVersionException(NOT_SUPPORTED_VERSION));
 
         assertThatExceptionOfType(NotSupportedVersionException.class)
             .isThrownBy(
@@ -139,8 +223,9 @@ class ValidationServiceTest {
     void shouldBeDeployableForLatestHelmVersion(String desiredVersion) {
         final String majorVersion = desiredVersion.substring(1);
         final String helmVersion = getLatestSampleHelmVersion(majorVersion);
-        final String helmTemplate = String.format("helm-v%s template samplePath", helmVersion);
-        when(versionsProvider.getLatestVersion(Mockito.anyString())).thenReturn(helmVersion);
+        final HelmCommand helmTemplate = new HelmCommand(helmVersion, HelmSubcommand.TEMPLATE, List.of(),
+            SAMPLE_PATH);
+        when(versionsProvider.resolveVersion(desiredVersion)).thenReturn(helmVersion);
         mockBashCommand(helmTemplate, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
 
         ValidationResult validationResult = validationService
@@ -148,12 +233,12 @@ class ValidationServiceTest {
 
         assertThat(validationResult.isDeployable()).isTrue();
         assertThat(validationResult.getRenderErrors()).isEmpty();
-        verify(versionsProvider).getLatestVersion(majorVersion);
+        verify(versionsProvider).resolveVersion(desiredVersion);
     }
 
     @Test
     void shouldBeValidAndDeployableForVersionTakenFromChart() {
-        when(chartBasedProvider.getVersion(Mockito.anyString())).thenReturn(SAMPLE_VERSION);
+        when(chartBasedProvider.getVersion(SAMPLE_METADATA)).thenReturn(SAMPLE_VERSION);
         mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
         mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
 
@@ -165,7 +250,7 @@ class ValidationServiceTest {
         assertThat(validationResult.getRenderErrors()).isEmpty();
         assertThat(validationResult.getLintError()).isEmpty();
         assertThat(validationResult.getLintWarning()).isEmpty();
-        verify(chartBasedProvider).getVersion(SAMPLE_PATH);
+        verify(chartBasedProvider).getVersion(SAMPLE_METADATA);
     }
 
     @Test
@@ -242,6 +327,71 @@ class ValidationServiceTest {
         assertThat(validationResult.getLintWarning()).isNotEmpty();
     }
 
+    @Test
+    void shouldRecordDurationOfEveryValidationPhase() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, UNSUCCESSFUL_HELM_EXIT_CODE, HELM_WARNING_ON_LINT);
+
+        validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(phaseCount(ValidationPhase.UPLOAD, ValidationMetrics.NO_HELM_VERSION,
+            ValidationMetrics.OUTCOME_SUCCESS)).isEqualTo(EXPECTED_ONE);
+        assertThat(phaseCount(ValidationPhase.VERSION_RESOLUTION, ValidationMetrics.NO_HELM_VERSION,
+            ValidationMetrics.OUTCOME_SUCCESS)).isEqualTo(EXPECTED_ONE);
+        assertThat(phaseCount(ValidationPhase.TEMPLATE, SAMPLE_VERSION, ValidationMetrics.OUTCOME_SUCCESS))
+            .isEqualTo(EXPECTED_ONE);
+        assertThat(phaseCount(ValidationPhase.LINT, SAMPLE_VERSION, ValidationMetrics.OUTCOME_FAILURE))
+            .isEqualTo(EXPECTED_ONE);
+        assertThat(phaseCount(ValidationPhase.CLEANUP, ValidationMetrics.NO_HELM_VERSION,
+            ValidationMetrics.OUTCOME_SUCCESS)).isEqualTo(EXPECTED_ONE);
+    }
+
+    @Test
+    void shouldCollectTimingsOfEveryPhaseOfValidationRequest() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        var timings = new ValidationTimings();
+
+        validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED, timings);
+
+        assertThat(timings.toMillis()).containsOnlyKeys(ValidationPhase.UPLOAD.getName(),
+            ValidationPhase.VERSION_RESOLUTION.getName(), ValidationPhase.EXTRACTION.getName(),
+            ValidationPhase.QUEUE.getName(), ValidationPhase.TEMPLATE.getName(), ValidationPhase.LINT.getName(),
+            ValidationPhase.CLEANUP.getName());
+        assertThat(phaseCount(ValidationPhase.QUEUE, SAMPLE_VERSION, ValidationMetrics.OUTCOME_SUCCESS))
+            .isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordErrorOutcomeOfFailedPhase() {
+        when(helmLauncher.launch(eq(HELM_TEMPLATE), anyLong())).thenThrow(new HelmTimeoutException("timeout"));
+
+        assertThatExceptionOfType(HelmTimeoutException.class).isThrownBy(() -> validationService
+            .process(SAMPLE_VERSION, multipartFile, NOT_LINTED, NOT_STRICT_LINTED));
+
+        assertThat(meterRegistry.get(ValidationMetrics.PHASE_METRIC)
+            .tags("phase", ValidationPhase.TEMPLATE.getName(), "lint", ValidationMetrics.LINT_DISABLED,
+                "outcome", ValidationMetrics.OUTCOME_ERROR)
+            .timer().count()).isEqualTo(EXPECTED_ONE);
+    }
+
+    @Test
+    void shouldCollectDiagnosticsOfTemplateAndLint() {
+        mockBashCommand(HELM_TEMPLATE, UNSUCCESSFUL_HELM_EXIT_CODE, HELM_ERROR_ON_TEMPLATE);
+        mockBashCommand(HELM_LINT_STRICT, UNSUCCESSFUL_HELM_EXIT_CODE, HELM_WARNING_ON_LINT, HELM_ERROR_ON_LINT);
+
+        ValidationResult validationResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(validationResult.getDiagnostics()).isNull();
+        assertThat(validationResult.withDiagnostics().getDiagnostics())
+            .extracting(HelmDiagnostic::getSeverity, HelmDiagnostic::getFile, HelmDiagnostic::getRule)
+            .containsExactly(
+                tuple(HelmDiagnosticSeverity.ERROR, FAILING_TEMPLATE, HelmDiagnosticParser.TEMPLATE_PARSE_RULE),
+                tuple(HelmDiagnosticSeverity.ERROR, FAILING_TEMPLATE, HelmDiagnosticParser.TEMPLATE_PARSE_RULE),
+                tuple(HelmDiagnosticSeverity.WARNING, "templates/", HelmDiagnosticParser.LINT_RULE));
+    }
+
     @Test
     void shouldBeInvalidForWarningOnStrictLintWithMessages() throws BashExecutionException, SaveFileException {
         mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
@@ -284,6 +434,29 @@ class ValidationServiceTest {
         assertThat(validationResult.getLintError()).isNotEmpty();
     }
 
+    @Test
+    void shouldMarkResultWhenHelmOutputWasTruncated() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        when(helmLauncher.launch(eq(HELM_LINT_STRICT), anyLong())).thenReturn(new BashOutput(
+            UNSUCCESSFUL_HELM_EXIT_CODE, List.of(HELM_ERROR_ON_LINT), List.of(HELM_ERROR_ON_LINT), List.of(), true));
+
+        ValidationResult validationResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(validationResult.isOutputTruncated()).isTrue();
+        assertThat(validationResult.getLintError()).containsExactly(HELM_ERROR_ON_LINT);
+    }
+
+    @Test
+    void shouldNotMarkResultWhenHelmOutputWasCapturedCompletely() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        ValidationResult validationResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, NOT_LINTED, NOT_STRICT_LINTED);
+
+        assertThat(validationResult.isOutputTruncated()).isNull();
+    }
+
     @Test
     void shouldNotAddSummaryMessageToLintErrors() {
         mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
@@ -296,6 +469,234 @@ class ValidationServiceTest {
         assertThat(validationResult.getLintError()).hasSize(EXPECTED_ONE);
     }
 
+    @Test
+    void shouldRunHelmTemplateAndLintConcurrently() {
+        CountDownLatch templateStarted = new CountDownLatch(1);
+        CountDownLatch lintStarted = new CountDownLatch(1);
+        when(helmLauncher.launch(eq(HELM_TEMPLATE), anyLong())).thenAnswer(invocation -> {
+            templateStarted.countDown();
+            assertThat(lintStarted.await(LATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            return new BashOutput(SUCCESS_HELM_EXIT_CODE, mockBashConsoleLog(HELM_EMPTY_OUTPUT));
+        });
+        when(helmLauncher.launch(eq(HELM_LINT_STRICT), anyLong())).thenAnswer(invocation -> {
+            lintStarted.countDown();
+            assertThat(templateStarted.await(LATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            return new BashOutput(SUCCESS_HELM_EXIT_CODE, mockBashConsoleLog(HELM_EMPTY_OUTPUT));
+        });
+
+        ValidationResult validationResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(validationResult.isDeployable()).isTrue();
+        assertThat(validationResult.isValid()).isTrue();
+    }
+
+    @Test
+    void shouldPropagateExceptionThrownDuringConcurrentLint() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        when(helmLauncher.launch(eq(HELM_LINT_STRICT), anyLong())).thenThrow(BashExecutionException.class);
+
+        assertThatExceptionOfType(BashExecutionException.class)
+            .isThrownBy(
+                () -> validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED));
+    }
+
+    @Test
+    void shouldRunHelmCommandsWithTheirConfiguredTimeouts() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        verify(helmLauncher).launch(HELM_TEMPLATE, TEMPLATE_TIMEOUT_MS);
+        verify(helmLauncher).launch(HELM_LINT_STRICT, LINT_TIMEOUT_MS);
+    }
+
+    @Test
+    void shouldReserveProcessSlotsOfTemplateAndLintTogether() {
+        when(helmLauncher.reserveSlots(2)).thenReturn(2);
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        verify(helmLauncher).reserveSlots(2);
+        verify(helmLauncher).releaseSlots(2);
+    }
+
+    @Test
+    void shouldRunTemplateAndLintOneAfterAnotherWhenFewerSlotsThanCommandsAreReserved() {
+        when(helmLauncher.reserveSlots(2)).thenReturn(1);
+        Thread callingThread = Thread.currentThread();
+        List<Thread> helmThreads = new CopyOnWriteArrayList<>();
+        when(helmLauncher.launch(any(), anyLong())).thenAnswer(invocation -> {
+            helmThreads.add(Thread.currentThread());
+            return new BashOutput(SUCCESS_HELM_EXIT_CODE, List.of());
+        });
+
+        ValidationResult result = validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(result.isDeployable()).isTrue();
+        assertThat(result.isValid()).isTrue();
+        assertThat(helmThreads).containsExactly(callingThread, callingThread);
+        InOrder helmOrder = inOrder(helmLauncher);
+        helmOrder.verify(helmLauncher).launch(HELM_TEMPLATE, TEMPLATE_TIMEOUT_MS);
+        helmOrder.verify(helmLauncher).launch(HELM_LINT_STRICT, LINT_TIMEOUT_MS);
+        helmOrder.verify(helmLauncher).releaseSlots(1);
+    }
+
+    @Test
+    void shouldNotRunTemplateWhenProcessSlotsOfTemplateAndLintAreNotAvailable() {
+        when(helmLauncher.reserveSlots(2)).thenThrow(new HelmCapacityExceededException("capacity exceeded", 1));
+
+        assertThatExceptionOfType(HelmCapacityExceededException.class)
+            .isThrownBy(
+                () -> validationService.process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED));
+        verify(helmLauncher, never()).launch(any(), anyLong());
+        verify(helmLauncher, never()).releaseSlots(anyInt());
+    }
+
+    @Test
+    void shouldPropagateTimeoutOfHelmTemplate() {
+        when(helmLauncher.launch(eq(HELM_TEMPLATE), anyLong())).thenThrow(HelmTimeoutException.class);
+
+        assertThatExceptionOfType(HelmTimeoutException.class)
+            .isThrownBy(
+                () -> validationService.process(SAMPLE_VERSION, multipartFile, NOT_LINTED, NOT_STRICT_LINTED));
+        verify(fileManager).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldReuseCachedResultForTheSameChartVersionAndLintOptions() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, UNSUCCESSFUL_HELM_EXIT_CODE, HELM_WARNING_ON_LINT);
+
+        ValidationResult firstResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+        ValidationResult secondResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(secondResult).isSameAs(firstResult);
+        verify(helmLauncher, times(1)).launch(eq(HELM_TEMPLATE), anyLong());
+        verify(helmLauncher, times(1)).launch(eq(HELM_LINT_STRICT), anyLong());
+        verify(fileManager, times(2)).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldNotReuseCachedResultForDifferentLintOptions() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        ValidationResult notLintedResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, NOT_LINTED, NOT_STRICT_LINTED);
+        ValidationResult lintedResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(notLintedResult.isValid()).isNull();
+        assertThat(lintedResult.isValid()).isTrue();
+        verify(helmLauncher, times(2)).launch(eq(HELM_TEMPLATE), anyLong());
+    }
+
+    @Test
+    void shouldFindResultOfValidatedChartByItsDigest() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        ValidationResult validationResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, LINTED, STRICT_LINTED);
+
+        assertThat(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST.toUpperCase(), LINTED, STRICT_LINTED))
+            .containsSame(validationResult);
+        assertThat(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, NOT_LINTED, NOT_STRICT_LINTED))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldRejectLookupOfResultByDigestWhichIsNotSha256InHex() {
+        assertThatExceptionOfType(InvalidChartDigestException.class)
+            .isThrownBy(() -> validationService.findResult(SAMPLE_VERSION, "../" + SAMPLE_DIGEST, NOT_LINTED,
+                NOT_STRICT_LINTED))
+            .withMessage("Chart digest: ../" + SAMPLE_DIGEST + " is not a SHA-256 digest in hex");
+        assertThatExceptionOfType(InvalidChartDigestException.class)
+            .isThrownBy(() -> validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST.substring(1), NOT_LINTED,
+                NOT_STRICT_LINTED));
+    }
+
+    @Test
+    void shouldFindResultOfValidatedChartByItsContentDigest() {
+        when(chartIngestor.ingest(multipartFile)).thenReturn(SAMPLE_CHART_WITH_CONTENT_DIGEST);
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        ValidationResult validationResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, NOT_LINTED, NOT_STRICT_LINTED);
+
+        assertThat(validationResult.getContentDigest()).isEqualTo(SAMPLE_CONTENT_DIGEST);
+        assertThat(validationService.findResult(SAMPLE_VERSION, SAMPLE_CONTENT_DIGEST, NOT_LINTED, NOT_STRICT_LINTED))
+            .containsSame(validationResult);
+        assertThat(validationService.findResult(SAMPLE_VERSION, SAMPLE_DIGEST, NOT_LINTED, NOT_STRICT_LINTED))
+            .containsSame(validationResult);
+    }
+
+    @Test
+    void shouldRenderSavedChartWithFlagsOfKubeProfile() {
+        mockBashCommand(HELM_TEMPLATE_NEW_KUBE, UNSUCCESSFUL_HELM_EXIT_CODE, HELM_ERROR_ON_TEMPLATE);
+        mockBashCommand(HELM_LINT_STRICT, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        ValidationResult result = validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, "chart.tgz",
+            LINTED, STRICT_LINTED, NEW_KUBE_PROFILE);
+
+        assertThat(result.isDeployable()).isFalse();
+        assertThat(result.getRenderErrors()).containsExactly(HELM_ERROR_ON_TEMPLATE);
+        assertThat(result.isValid()).isTrue();
+        verify(helmLauncher, times(1)).launch(eq(HELM_TEMPLATE_NEW_KUBE), anyLong());
+        verify(fileManager, never()).removeFile(SAMPLE_PATH);
+    }
+
+    @Test
+    void shouldReuseCachedResultsOfKubeProfilesSeparatelyFromDefaultCapabilities() {
+        mockBashCommand(HELM_TEMPLATE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_TEMPLATE_OLD_KUBE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_TEMPLATE_NEW_KUBE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+
+        ValidationResult defaultResult = validationService
+            .process(SAMPLE_VERSION, multipartFile, NOT_LINTED, NOT_STRICT_LINTED);
+        ValidationResult oldKubeResult = validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART,
+            "chart.tgz", NOT_LINTED, NOT_STRICT_LINTED, OLD_KUBE_PROFILE);
+        ValidationResult newKubeResult = validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART,
+            "chart.tgz", NOT_LINTED, NOT_STRICT_LINTED, NEW_KUBE_PROFILE);
+
+        assertThat(oldKubeResult).isNotSameAs(defaultResult).isNotSameAs(newKubeResult);
+        assertThat(validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, "chart.tgz", NOT_LINTED,
+            NOT_STRICT_LINTED, OLD_KUBE_PROFILE)).isSameAs(oldKubeResult);
+        verify(helmLauncher, times(1)).launch(eq(HELM_TEMPLATE), anyLong());
+        verify(helmLauncher, times(1)).launch(eq(HELM_TEMPLATE_OLD_KUBE), anyLong());
+        verify(helmLauncher, times(1)).launch(eq(HELM_TEMPLATE_NEW_KUBE), anyLong());
+    }
+
+    @Test
+    void shouldCacheResultOfKubeProfileCompletedWithSharedLintOfSavedChart() {
+        mockBashCommand(HELM_TEMPLATE_NEW_KUBE, SUCCESS_HELM_EXIT_CODE, HELM_EMPTY_OUTPUT);
+        mockBashCommand(HELM_LINT_STRICT, UNSUCCESSFUL_HELM_EXIT_CODE, HELM_WARNING_ON_LINT);
+
+        ValidationResult templateResult = validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART,
+            "chart.tgz", NOT_LINTED, NOT_STRICT_LINTED, NEW_KUBE_PROFILE);
+        LintValidationResult lintResult = validationService.lintSavedChart(SAMPLE_VERSION, SAMPLE_CHART,
+            STRICT_LINTED);
+        ValidationResult validationResult = validationService.completeWithLint(SAMPLE_VERSION, SAMPLE_CHART,
+            STRICT_LINTED, NEW_KUBE_PROFILE, templateResult, lintResult);
+
+        assertThat(validationResult.isDeployable()).isTrue();
+        assertThat(validationResult.isValid()).isFalse();
+        assertThat(validationResult.getLintWarning()).isNotEmpty();
+        assertThat(validationResult.getVersionUsed()).isEqualTo(SAMPLE_VERSION);
+        assertThat(validationService.findResult(SAMPLE_VERSION, SAMPLE_CHART, LINTED, STRICT_LINTED,
+            NEW_KUBE_PROFILE)).containsSame(validationResult);
+        assertThat(validationService.processSavedChart(SAMPLE_VERSION, SAMPLE_CHART, "chart.tgz", LINTED,
+            STRICT_LINTED, NEW_KUBE_PROFILE)).isSameAs(validationResult);
+        verify(helmLauncher, times(1)).launch(eq(HELM_TEMPLATE_NEW_KUBE), anyLong());
+        verify(helmLauncher, times(1)).launch(eq(HELM_LINT_STRICT), anyLong());
+    }
+
     private String getLatestSampleHelmVersion(String majorVersion) {
         return SAMPLE_VERSIONS.stream()
             .filter(version -> version.startsWith(majorVersion))
@@ -303,12 +704,19 @@ class ValidationServiceTest {
             .orElseThrow(() -> new IllegalArgumentException("Not supported version"));
     }
 
-    private void mockBashCommand(String command, int exitValue, String... consoleOutput) {
-        when(bashExecutor.execute(command))
+    private void mockBashCommand(HelmCommand command, int exitValue, String... consoleOutput) {
+        when(helmLauncher.launch(eq(command), anyLong()))
             .thenReturn(new BashOutput(exitValue, mockBashConsoleLog(consoleOutput)));
     }
 
     private List<String> mockBashConsoleLog(String... args) {
         return Arrays.stream(args).collect(Collectors.toList());
     }
+
+    private long phaseCount(ValidationPhase phase, String helmVersion, String outcome) {
+        return meterRegistry.get(ValidationMetrics.PHASE_METRIC)
+            .tags("phase", phase.getName(), "helm.version", helmVersion, "lint", ValidationMetrics.LINT_STRICT,
+                "outcome", outcome)
+            .timer().count();
+    }
 }
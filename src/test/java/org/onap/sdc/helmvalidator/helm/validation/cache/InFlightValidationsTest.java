@@ -0,0 +1,197 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.exception.BashExecutionException;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+
+class InFlightValidationsTest {
+
+    private static final String SAMPLE_VERSION = "3.5.2";
+    private static final ValidationCacheKey SAMPLE_KEY = new ValidationCacheKey("digest", SAMPLE_VERSION, true, true);
+    private static final ValidationResult SAMPLE_RESULT = new ValidationResult(
+        new TemplateValidationResult(true, Collections.emptyList()), SAMPLE_VERSION);
+    private static final long TEST_TIMEOUT_SECONDS = 5;
+
+    private MeterRegistry meterRegistry;
+    private InFlightValidations inFlightValidations;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inFlightValidations = new InFlightValidations(meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldShareSingleExecutionBetweenConcurrentCallers() throws Exception {
+        CountDownLatch validationStarted = new CountDownLatch(1);
+        CountDownLatch releaseValidation = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Future<ValidationResult> leader = callers.submit(() -> inFlightValidations.execute(SAMPLE_KEY, () -> {
+            executions.incrementAndGet();
+            validationStarted.countDown();
+            await(releaseValidation);
+            return SAMPLE_RESULT;
+        }));
+        assertThat(validationStarted.await(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Future<ValidationResult> waiter = callers.submit(() -> inFlightValidations.execute(SAMPLE_KEY, () -> {
+            executions.incrementAndGet();
+            return SAMPLE_RESULT;
+        }));
+        awaitCoalescedCount(1);
+        releaseValidation.countDown();
+
+        assertThat(leader.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(SAMPLE_RESULT);
+        assertThat(waiter.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(SAMPLE_RESULT);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(inFlightValidations.size()).isZero();
+    }
+
+    @Test
+    void shouldPropagateFailureToEveryWaiter() throws Exception {
+        CountDownLatch validationStarted = new CountDownLatch(1);
+        CountDownLatch releaseValidation = new CountDownLatch(1);
+        BashExecutionException failure = new BashExecutionException("helm failed", null);
+
+        Future<ValidationResult> leader = callers.submit(() -> inFlightValidations.execute(SAMPLE_KEY, () -> {
+            validationStarted.countDown();
+            await(releaseValidation);
+            throw failure;
+        }));
+        assertThat(validationStarted.await(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Future<ValidationResult> waiter = callers.submit(
+            () -> inFlightValidations.execute(SAMPLE_KEY, () -> SAMPLE_RESULT));
+        awaitCoalescedCount(1);
+        releaseValidation.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+            () -> leader.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class,
+            () -> waiter.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(leaderFailure).hasCause(failure);
+        assertThat(waiterFailure.getCause()).isSameAs(failure);
+    }
+
+    @Test
+    void shouldReleaseWaitersWhenValidationThrowsError() throws Exception {
+        CountDownLatch validationStarted = new CountDownLatch(1);
+        CountDownLatch releaseValidation = new CountDownLatch(1);
+        StackOverflowError error = new StackOverflowError();
+
+        Future<ValidationResult> leader = callers.submit(() -> inFlightValidations.execute(SAMPLE_KEY, () -> {
+            validationStarted.countDown();
+            await(releaseValidation);
+            throw error;
+        }));
+        assertThat(validationStarted.await(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Future<ValidationResult> waiter = callers.submit(
+            () -> inFlightValidations.execute(SAMPLE_KEY, () -> SAMPLE_RESULT));
+        awaitCoalescedCount(1);
+        releaseValidation.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+            () -> leader.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class,
+            () -> waiter.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(leaderFailure).hasCause(error);
+        assertThat(waiterFailure.getCause()).isInstanceOf(BashExecutionException.class).hasCause(error);
+        assertThat(inFlightValidations.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepSharedExecutionRunningWhenWaiterIsCancelled() throws Exception {
+        CountDownLatch validationStarted = new CountDownLatch(1);
+        CountDownLatch releaseValidation = new CountDownLatch(1);
+
+        Future<ValidationResult> leader = callers.submit(() -> inFlightValidations.execute(SAMPLE_KEY, () -> {
+            validationStarted.countDown();
+            await(releaseValidation);
+            return SAMPLE_RESULT;
+        }));
+        assertThat(validationStarted.await(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        Future<ValidationResult> waiter = callers.submit(
+            () -> inFlightValidations.execute(SAMPLE_KEY, () -> SAMPLE_RESULT));
+        awaitCoalescedCount(1);
+
+        waiter.cancel(true);
+        releaseValidation.countDown();
+
+        assertThat(leader.get(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(SAMPLE_RESULT);
+        assertThat(waiter.isCancelled()).isTrue();
+    }
+
+    @Test
+    void shouldRunValidationAgainAfterPreviousOneFinished() {
+        AtomicInteger executions = new AtomicInteger();
+
+        inFlightValidations.execute(SAMPLE_KEY, () -> {
+            executions.incrementAndGet();
+            return SAMPLE_RESULT;
+        });
+        inFlightValidations.execute(SAMPLE_KEY, () -> {
+            executions.incrementAndGet();
+            return SAMPLE_RESULT;
+        });
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private void awaitCoalescedCount(int expectedCount) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TEST_TIMEOUT_SECONDS);
+        while (meterRegistry.counter("validation.inflight.coalesced").count() < expectedCount
+            && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnostic;
+import org.onap.sdc.helmvalidator.helm.validation.model.HelmDiagnosticSeverity;
+import org.onap.sdc.helmvalidator.helm.validation.model.LintValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+
+class MappedValidationResultStoreTest {
+
+    private static final long MAX_BYTES = 64 * 1024;
+    private static final int MAX_ENTRIES = 4;
+    private static final long TTL_MS = 1000;
+    private static final String SAMPLE_VERSION = "3.5.2";
+    private static final ValidationCacheKey FIRST_KEY =
+        new ValidationCacheKey("digest-1", SAMPLE_VERSION, true, false);
+    private static final ValidationCacheKey SECOND_KEY =
+        new ValidationCacheKey("digest-2", SAMPLE_VERSION, true, false);
+    private static final HelmDiagnostic SAMPLE_DIAGNOSTIC = new HelmDiagnostic(HelmDiagnosticSeverity.ERROR,
+        "templates/service.yaml", 12, null, "lint", "unable to parse YAML");
+    private static final ValidationResult SAMPLE_RESULT = new ValidationResult(
+        new TemplateValidationResult(false, List.of("Error: render error"), List.of(SAMPLE_DIAGNOSTIC), true),
+        new LintValidationResult(false, List.of("[ERROR] templates/: parse error"), List.of("[WARNING] icon")),
+        SAMPLE_VERSION);
+
+    @TempDir
+    Path storeDir;
+
+    private final AtomicLong millisClock = new AtomicLong(1_000_000);
+    private MeterRegistry meterRegistry;
+    private MappedValidationResultStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        store = openStore(MAX_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void shouldReturnStoredResultAfterReopening() throws IOException {
+        assertThat(store.get(FIRST_KEY)).isEmpty();
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+        store.close();
+
+        store = openStore(MAX_BYTES);
+
+        ValidationResult result = store.get(FIRST_KEY).orElseThrow();
+        assertThat(result.isDeployable()).isFalse();
+        assertThat(result.getRenderErrors()).containsExactly("Error: render error");
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getLintError()).containsExactly("[ERROR] templates/: parse error");
+        assertThat(result.getLintWarning()).containsExactly("[WARNING] icon");
+        assertThat(result.getVersionUsed()).isEqualTo(SAMPLE_VERSION);
+        assertThat(result.isOutputTruncated()).isTrue();
+        assertThat(result.withDiagnostics().getDiagnostics()).containsExactly(SAMPLE_DIAGNOSTIC);
+        assertThat(meterRegistry.counter("validation.store.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("validation.store.misses").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDistinguishLintOptionsInKey() {
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+
+        assertThat(store.get(new ValidationCacheKey("digest-1", SAMPLE_VERSION, true, true))).isEmpty();
+        assertThat(store.get(new ValidationCacheKey("digest-1", "2.17.0", true, false))).isEmpty();
+    }
+
+    @Test
+    void shouldDistinguishKubeProfilesInKey() throws IOException {
+        var profileKey = new ValidationCacheKey("digest-1", SAMPLE_VERSION, true, false, "profile-1");
+        store.put(profileKey, SAMPLE_RESULT);
+        store.close();
+
+        store = openStore(MAX_BYTES);
+
+        assertThat(store.get(profileKey)).isPresent();
+        assertThat(store.get(FIRST_KEY)).isEmpty();
+        assertThat(store.get(new ValidationCacheKey("digest-1", SAMPLE_VERSION, true, false, "profile-2"))).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceResultStoredWithTheSameKey() {
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+        store.put(FIRST_KEY, new ValidationResult(new TemplateValidationResult(true, List.of()), SAMPLE_VERSION));
+
+        assertThat(store.get(FIRST_KEY).orElseThrow().isDeployable()).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReturnExpiredResult() {
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+
+        millisClock.addAndGet(TTL_MS);
+
+        assertThat(store.get(FIRST_KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldCompactOldestResultsWhenMaximumNumberOfEntriesIsReached() {
+        for (var i = 1; i <= MAX_ENTRIES + 1; i++) {
+            store.put(keyOf(i), SAMPLE_RESULT);
+            millisClock.incrementAndGet();
+        }
+
+        assertThat(store.get(keyOf(1))).isEmpty();
+        for (var i = 2; i <= MAX_ENTRIES + 1; i++) {
+            assertThat(store.get(keyOf(i))).isPresent();
+        }
+        assertThat(store.size()).isEqualTo(MAX_ENTRIES);
+        assertThat(meterRegistry.counter("validation.store.compactions").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepLogBelowMaximumSize() throws IOException {
+        store.close();
+        long maxBytes = 512;
+        store = openStore(maxBytes);
+
+        for (var i = 1; i <= MAX_ENTRIES; i++) {
+            store.put(keyOf(i), SAMPLE_RESULT);
+            millisClock.incrementAndGet();
+        }
+
+        assertThat(store.sizeInBytes()).isLessThanOrEqualTo(maxBytes);
+        assertThat(Files.size(storeDir.resolve(MappedValidationResultStore.LOG_FILE_NAME))).isEqualTo(
+            store.sizeInBytes());
+        assertThat(store.get(keyOf(MAX_ENTRIES))).isPresent();
+        assertThat(store.get(keyOf(1))).isEmpty();
+    }
+
+    @Test
+    void shouldDropExpiredResultsOnCompaction() throws IOException {
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+        millisClock.addAndGet(TTL_MS);
+        store.put(SECOND_KEY, SAMPLE_RESULT);
+
+        store.compact();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.get(SECOND_KEY)).isPresent();
+    }
+
+    @Test
+    void shouldRebuildCorruptedIndex() throws IOException {
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+        store.put(SECOND_KEY, SAMPLE_RESULT);
+        store.close();
+        Files.write(storeDir.resolve(MappedValidationResultStore.INDEX_FILE_NAME), new byte[64]);
+
+        store = openStore(MAX_BYTES);
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.get(FIRST_KEY)).isPresent();
+        assertThat(store.get(SECOND_KEY)).isPresent();
+    }
+
+    @Test
+    void shouldDiscardTornRecordAtTheEndOfLog() throws IOException {
+        store.put(FIRST_KEY, SAMPLE_RESULT);
+        store.put(SECOND_KEY, SAMPLE_RESULT);
+        store.close();
+        Path logPath = storeDir.resolve(MappedValidationResultStore.LOG_FILE_NAME);
+        try (var log = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+            log.truncate(log.size() - 3);
+        }
+
+        store = openStore(MAX_BYTES);
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.get(FIRST_KEY)).isPresent();
+        assertThat(store.get(SECOND_KEY)).isEmpty();
+        assertThat(Files.size(logPath)).isEqualTo(store.sizeInBytes());
+    }
+
+    private MappedValidationResultStore openStore(long maxBytes) throws IOException {
+        return new MappedValidationResultStore(storeDir, maxBytes, MAX_ENTRIES, TTL_MS, meterRegistry,
+            millisClock::get);
+    }
+
+    private static ValidationCacheKey keyOf(int number) {
+        return new ValidationCacheKey("digest-" + number, SAMPLE_VERSION, true, false);
+    }
+}
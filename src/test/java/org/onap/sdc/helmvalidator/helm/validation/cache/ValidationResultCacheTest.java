@@ -0,0 +1,143 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.sdc.helmvalidator.helm.validation.model.TemplateValidationResult;
+import org.onap.sdc.helmvalidator.helm.validation.model.ValidationResult;
+
+class ValidationResultCacheTest {
+
+    private static final int MAX_ENTRIES = 2;
+    private static final long TTL_MS = 1000;
+    private static final String SAMPLE_VERSION = "3.5.2";
+    private static final ValidationCacheKey FIRST_KEY =
+        new ValidationCacheKey("digest-1", SAMPLE_VERSION, true, false);
+    private static final ValidationCacheKey SECOND_KEY =
+        new ValidationCacheKey("digest-2", SAMPLE_VERSION, true, false);
+    private static final ValidationCacheKey THIRD_KEY =
+        new ValidationCacheKey("digest-3", SAMPLE_VERSION, true, false);
+    private static final ValidationResult SAMPLE_RESULT = new ValidationResult(
+        new TemplateValidationResult(true, Collections.emptyList()), SAMPLE_VERSION);
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private ValidationResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ValidationResultCache(MAX_ENTRIES, TTL_MS, meterRegistry, nanoClock::get);
+    }
+
+    @Test
+    void shouldReturnCachedResultAndCountHitsAndMisses() {
+        assertThat(cache.get(FIRST_KEY)).isEmpty();
+
+        cache.put(FIRST_KEY, SAMPLE_RESULT);
+
+        assertThat(cache.get(FIRST_KEY)).containsSame(SAMPLE_RESULT);
+        assertThat(meterRegistry.counter("validation.cache.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("validation.cache.misses").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDistinguishLintOptionsInKey() {
+        cache.put(FIRST_KEY, SAMPLE_RESULT);
+
+        assertThat(cache.get(new ValidationCacheKey("digest-1", SAMPLE_VERSION, true, true))).isEmpty();
+        assertThat(cache.get(new ValidationCacheKey("digest-1", SAMPLE_VERSION, false, false))).isEmpty();
+    }
+
+    @Test
+    void shouldEvictExpiredResult() {
+        cache.put(FIRST_KEY, SAMPLE_RESULT);
+
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS));
+
+        assertThat(cache.get(FIRST_KEY)).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.counter("validation.cache.evictions", "reason", "expired").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResultWhenFull() {
+        cache.put(FIRST_KEY, SAMPLE_RESULT);
+        cache.put(SECOND_KEY, SAMPLE_RESULT);
+        cache.get(FIRST_KEY);
+
+        cache.put(THIRD_KEY, SAMPLE_RESULT);
+
+        assertThat(cache.size()).isEqualTo(MAX_ENTRIES);
+        assertThat(cache.get(FIRST_KEY)).isPresent();
+        assertThat(cache.get(SECOND_KEY)).isEmpty();
+        assertThat(meterRegistry.counter("validation.cache.evictions", "reason", "size").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotStoreResultsWhenDisabled() {
+        ValidationResultCache disabledCache = new ValidationResultCache(0, TTL_MS, meterRegistry, nanoClock::get);
+
+        disabledCache.put(FIRST_KEY, SAMPLE_RESULT);
+
+        assertThat(disabledCache.get(FIRST_KEY)).isEmpty();
+        assertThat(disabledCache.size()).isZero();
+    }
+
+    @Test
+    void shouldPromoteResultFoundInPersistentStore() {
+        ValidationResultStore store = mock(ValidationResultStore.class);
+        when(store.get(FIRST_KEY)).thenReturn(Optional.of(SAMPLE_RESULT));
+        ValidationResultCache storeBackedCache = new ValidationResultCache(MAX_ENTRIES, TTL_MS, meterRegistry, store,
+            nanoClock::get);
+
+        assertThat(storeBackedCache.get(FIRST_KEY)).containsSame(SAMPLE_RESULT);
+        assertThat(storeBackedCache.get(FIRST_KEY)).containsSame(SAMPLE_RESULT);
+
+        verify(store, times(1)).get(FIRST_KEY);
+        assertThat(storeBackedCache.size()).isEqualTo(1);
+        assertThat(meterRegistry.counter("validation.cache.hits").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteResultToPersistentStore() {
+        ValidationResultStore store = mock(ValidationResultStore.class);
+        ValidationResultCache storeBackedCache = new ValidationResultCache(MAX_ENTRIES, TTL_MS, meterRegistry, store,
+            nanoClock::get);
+
+        storeBackedCache.put(FIRST_KEY, SAMPLE_RESULT);
+
+        verify(store).put(FIRST_KEY, SAMPLE_RESULT);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HelmDiagnosticParserTest {
+
+    @Test
+    void shouldParseLintMessageWithFile() {
+        HelmDiagnostic diagnostic = HelmDiagnosticParser.parse("[WARNING] templates/: directory not found",
+            HelmOutputLineType.WARNING);
+
+        assertThat(diagnostic).isEqualTo(new HelmDiagnostic(HelmDiagnosticSeverity.WARNING, "templates/", null, null,
+            HelmDiagnosticParser.LINT_RULE, "directory not found"));
+    }
+
+    @Test
+    void shouldParseTemplateExecutionErrorWithLineAndColumn() {
+        HelmDiagnostic diagnostic = HelmDiagnosticParser.parse(
+            "Error: template: chart/templates/deployment.yaml:12:14: executing \"chart/templates/deployment.yaml\" "
+                + "at <.Values.image.tag>: nil pointer evaluating interface {}.tag", HelmOutputLineType.ERROR);
+
+        assertThat(diagnostic).isEqualTo(new HelmDiagnostic(HelmDiagnosticSeverity.ERROR,
+            "chart/templates/deployment.yaml", 12, 14, HelmDiagnosticParser.TEMPLATE_EXECUTION_RULE,
+            "executing \"chart/templates/deployment.yaml\" at <.Values.image.tag>: "
+                + "nil pointer evaluating interface {}.tag"));
+    }
+
+    @Test
+    void shouldParseTemplateParseErrorReportedByLint() {
+        HelmDiagnostic diagnostic = HelmDiagnosticParser.parse(
+            "[ERROR] templates/: parse error at (chart/templates/service.yaml:7): function \"foo\" not defined",
+            HelmOutputLineType.ERROR);
+
+        assertThat(diagnostic).isEqualTo(new HelmDiagnostic(HelmDiagnosticSeverity.ERROR,
+            "chart/templates/service.yaml", 7, null, HelmDiagnosticParser.TEMPLATE_PARSE_RULE,
+            "function \"foo\" not defined"));
+    }
+
+    @Test
+    void shouldParseYamlErrorsWithLine() {
+        HelmDiagnostic renderDiagnostic = HelmDiagnosticParser.parse(
+            "Error: YAML parse error on chart/templates/cm.yaml: error converting YAML to JSON: yaml: line 3: "
+                + "mapping values are not allowed in this context", HelmOutputLineType.ERROR);
+        HelmDiagnostic lintDiagnostic = HelmDiagnosticParser.parse(
+            "[ERROR] values.yaml: unable to parse YAML: error converting YAML to JSON: yaml: line 5: "
+                + "did not find expected key", HelmOutputLineType.ERROR);
+
+        assertThat(renderDiagnostic).isEqualTo(new HelmDiagnostic(HelmDiagnosticSeverity.ERROR,
+            "chart/templates/cm.yaml", 3, null, HelmDiagnosticParser.YAML_PARSE_RULE,
+            "mapping values are not allowed in this context"));
+        assertThat(lintDiagnostic).isEqualTo(new HelmDiagnostic(HelmDiagnosticSeverity.ERROR, "values.yaml", 5, null,
+            HelmDiagnosticParser.YAML_PARSE_RULE, "did not find expected key"));
+    }
+
+    @Test
+    void shouldKeepUnrecognizedErrorAsMessage() {
+        HelmDiagnostic diagnostic = HelmDiagnosticParser.parse("Error: chart requires kubeVersion: >=1.25",
+            HelmOutputLineType.ERROR);
+
+        assertThat(diagnostic).isEqualTo(new HelmDiagnostic(HelmDiagnosticSeverity.ERROR, null, null, null, null,
+            "chart requires kubeVersion: >=1.25"));
+    }
+
+    @Test
+    void shouldShareRepeatedMessages() {
+        String line = "[WARNING] Chart.yaml: icon is recommended";
+
+        HelmDiagnostic first = HelmDiagnosticParser.parse(new String(line), HelmOutputLineType.WARNING);
+        HelmDiagnostic second = HelmDiagnosticParser.parse(new String(line), HelmOutputLineType.WARNING);
+
+        assertThat(second.getMessage()).isSameAs(first.getMessage());
+        assertThat(second.getFile()).isSameAs(first.getFile());
+    }
+}
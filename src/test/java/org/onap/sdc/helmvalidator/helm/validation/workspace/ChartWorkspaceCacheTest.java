@@ -0,0 +1,258 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.validation.workspace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.sdc.helmvalidator.helm.validation.exception.UnsafeArchiveException;
+import org.onap.sdc.helmvalidator.helm.validation.model.ChartDescriptor;
+import org.onap.sdc.helmvalidator.helm.versions.ArchiveLimits;
+import org.onap.sdc.helmvalidator.helm.versions.ChartMetadata;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
+
+class ChartWorkspaceCacheTest {
+
+    private static final String CHART_NAME = "test-chart";
+    private static final String CHART_YAML = "apiVersion: v2\nname: test-chart\nversion: %s\n";
+    private static final String FIRST_VERSION = "1.0.0";
+    private static final String SECOND_VERSION = "2.0.0";
+    private static final long MAX_BYTES = 1024 * 1024;
+    private static final long MAX_ENTRY_BYTES = 1024;
+    private static final int MAX_ENTRIES = 5;
+    private static final ArchiveLimits ARCHIVE_LIMITS = new ArchiveLimits(64 * 1024, MAX_ENTRIES, MAX_ENTRY_BYTES,
+        10, 100);
+
+    @TempDir
+    Path tempDir;
+
+    private Path workspacesDir;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        workspacesDir = tempDir.resolve("workspaces");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldExtractChartAndProvideItsDirectory() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(MAX_BYTES);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION));
+
+        try (ChartWorkspace workspace = workspaceCache.acquire(chart)) {
+            Path chartDir = Path.of(workspace.getChartPath());
+            assertThat(chartDir).startsWith(workspacesDir).hasFileName(CHART_NAME);
+            assertThat(Files.readString(chartDir.resolve("Chart.yaml"))).isEqualTo(chartYamlEntry(FIRST_VERSION));
+            assertThat(chartDir.resolve("templates/service.yaml")).exists();
+        }
+    }
+
+    @Test
+    void shouldReuseExtractedChart() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(MAX_BYTES);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION));
+
+        String firstPath;
+        try (ChartWorkspace workspace = workspaceCache.acquire(chart)) {
+            firstPath = workspace.getChartPath();
+        }
+        Files.delete(Path.of(chart.getPath()));
+        try (ChartWorkspace workspace = workspaceCache.acquire(chart)) {
+            assertThat(workspace.getChartPath()).isEqualTo(firstPath);
+        }
+
+        assertThat(meterRegistry.get("chart.workspace.misses").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chart.workspace.hits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedChartWhenDiskBudgetIsExceeded() throws IOException {
+        ChartDescriptor firstChart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION));
+        ChartDescriptor secondChart = saveChart(SECOND_VERSION, chartYamlEntry(SECOND_VERSION));
+        long chartBytes = extractedBytes(firstChart);
+        ChartWorkspaceCache workspaceCache = createCache(chartBytes);
+
+        Path firstDir = release(workspaceCache.acquire(firstChart));
+        Path secondDir = release(workspaceCache.acquire(secondChart));
+
+        assertThat(firstDir).doesNotExist();
+        assertThat(secondDir).exists();
+        assertThat(workspaceCache.size()).isEqualTo(1);
+        assertThat(workspaceCache.getTotalBytes()).isEqualTo(chartBytes);
+        assertThat(meterRegistry.get("chart.workspace.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotEvictChartWhichIsInUse() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(1);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION));
+
+        ChartWorkspace workspace = workspaceCache.acquire(chart);
+        Path chartDir = Path.of(workspace.getChartPath());
+        assertThat(chartDir).exists();
+
+        workspace.close();
+        workspace.close();
+        assertThat(chartDir).doesNotExist();
+        assertThat(workspaceCache.size()).isZero();
+        assertThat(workspaceCache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    void shouldRejectChartWithEntryPointingOutsideOfChart() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(MAX_BYTES);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION),
+            CHART_NAME + "/../../../escaped.txt", "escaped");
+
+        assertThatExceptionOfType(UnsafeArchiveException.class)
+            .isThrownBy(() -> workspaceCache.acquire(chart));
+        assertThat(tempDir.resolve("escaped.txt")).doesNotExist();
+        assertNoWorkspacesLeft(workspaceCache);
+    }
+
+    @Test
+    void shouldRejectChartWithEntryExceedingMaximumSize() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(MAX_BYTES);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION),
+            CHART_NAME + "/values.yaml", "a".repeat((int) MAX_ENTRY_BYTES + 1));
+
+        assertThatExceptionOfType(ArchiveLimitExceededException.class)
+            .isThrownBy(() -> workspaceCache.acquire(chart))
+            .withMessage("Chart archive entry: " + CHART_NAME + "/values.yaml exceeds maximum size of "
+                + MAX_ENTRY_BYTES + " bytes");
+        assertNoWorkspacesLeft(workspaceCache);
+    }
+
+    @Test
+    void shouldRejectChartExceedingMaximumNumberOfEntries() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(MAX_BYTES);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION),
+            CHART_NAME + "/templates/a.yaml", "a", CHART_NAME + "/templates/b.yaml", "b",
+            CHART_NAME + "/templates/c.yaml", "c", CHART_NAME + "/templates/d.yaml", "d");
+
+        assertThatExceptionOfType(ArchiveLimitExceededException.class)
+            .isThrownBy(() -> workspaceCache.acquire(chart))
+            .withMessage("Chart archive exceeds maximum number of entries: " + MAX_ENTRIES);
+        assertNoWorkspacesLeft(workspaceCache);
+    }
+
+    @Test
+    void shouldProvidePackageWhenWorkspacesAreDisabled() throws IOException {
+        ChartWorkspaceCache workspaceCache = createCache(0);
+        ChartDescriptor chart = saveChart(FIRST_VERSION, chartYamlEntry(FIRST_VERSION));
+
+        try (ChartWorkspace workspace = workspaceCache.acquire(chart)) {
+            assertThat(workspace.getChartPath()).isEqualTo(chart.getPath());
+        }
+        assertThat(workspacesDir).doesNotExist();
+    }
+
+    @Test
+    void shouldRemoveWorkspacesLeftByPreviousRun() throws IOException {
+        Path staleDir = workspacesDir.resolve(DigestUtils.sha256Hex("stale") + "-1");
+        Files.writeString(Files.createDirectories(staleDir.resolve("chart")).resolve("Chart.yaml"), "name: stale");
+
+        createCache(MAX_BYTES);
+
+        try (Stream<Path> workspaces = Files.list(workspacesDir)) {
+            assertThat(workspaces).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldKeepFilesWhichAreNotWorkspacesWhenStarting() throws IOException {
+        Path chartPackage = Files.writeString(Files.createDirectories(workspacesDir).resolve("chart.tgz"), "chart");
+        Path otherDir = Files.createDirectories(workspacesDir.resolve("charts"));
+
+        createCache(MAX_BYTES);
+
+        assertThat(chartPackage).exists();
+        assertThat(otherDir).exists();
+    }
+
+    private ChartWorkspaceCache createCache(long maxBytes) {
+        return new ChartWorkspaceCache(workspacesDir.toString(), maxBytes, ARCHIVE_LIMITS, meterRegistry);
+    }
+
+    private long extractedBytes(ChartDescriptor chart) {
+        ChartWorkspaceCache workspaceCache = new ChartWorkspaceCache(tempDir.resolve("measure").toString(),
+            MAX_BYTES, ARCHIVE_LIMITS, new SimpleMeterRegistry());
+        release(workspaceCache.acquire(chart));
+        return workspaceCache.getTotalBytes();
+    }
+
+    private void assertNoWorkspacesLeft(ChartWorkspaceCache workspaceCache) throws IOException {
+        assertThat(workspaceCache.size()).isZero();
+        try (Stream<Path> workspaces = Files.list(workspacesDir)) {
+            assertThat(workspaces).isEmpty();
+        }
+    }
+
+    private static Path release(ChartWorkspace workspace) {
+        workspace.close();
+        return Path.of(workspace.getChartPath());
+    }
+
+    private static String chartYamlEntry(String version) {
+        return String.format(CHART_YAML, version);
+    }
+
+    private ChartDescriptor saveChart(String version, String chartYaml, String... extraEntries) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarOutput = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            addEntry(tarOutput, CHART_NAME + "/Chart.yaml", chartYaml);
+            addEntry(tarOutput, CHART_NAME + "/templates/service.yaml", "kind: Service\n");
+            for (var i = 0; i < extraEntries.length; i += 2) {
+                addEntry(tarOutput, extraEntries[i], extraEntries[i + 1]);
+            }
+        }
+        byte[] chart = outputStream.toByteArray();
+        Path chartPath = Files.write(Files.createTempFile(tempDir, "chart-", ".tgz"), chart);
+        return new ChartDescriptor(chartPath.toString(), DigestUtils.sha256Hex(chart), chart.length,
+            new ChartMetadata("v2", CHART_NAME, version, 2 + extraEntries.length / 2));
+    }
+
+    private static void addEntry(TarArchiveOutputStream tarOutput, String name, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        var entry = new TarArchiveEntry(name);
+        entry.setSize(bytes.length);
+        tarOutput.putArchiveEntry(entry);
+        tarOutput.write(bytes);
+        tarOutput.closeArchiveEntry();
+    }
+}
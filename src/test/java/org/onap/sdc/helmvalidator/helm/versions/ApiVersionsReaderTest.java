@@ -23,104 +23,224 @@ package org.onap.sdc.helmvalidator.helm.versions;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.List;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.onap.sdc.helmvalidator.helm.versions.exception.ApiVersionNotFoundException;
-import org.onap.sdc.helmvalidator.helm.versions.exception.ReadFileException;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ArchiveLimitExceededException;
 
 class ApiVersionsReaderTest {
 
     private static final String API_VERSION_V2 = "v2";
-    private static final String TEST_RESOURCES_TMP = "src/test/resources/tmp";
-    private static final Path TEST_CHART_PATH = Path.of(TEST_RESOURCES_TMP).resolve(Path.of("Chart.yaml"));
-
-    private static final Path TEST_TAR_PATH = Path.of(TEST_RESOURCES_TMP, "test.tar");
+    private static final String MAIN_CHART_PATH = "test/Chart.yaml";
+    private static final long MAX_UNCOMPRESSED_BYTES = 8L * 1024 * 1024;
+    private static final int MAX_ENTRIES = 5;
+    private static final long MAX_ENTRY_BYTES = 4L * 1024 * 1024;
+    private static final int MAX_PATH_DEPTH = 4;
+    private static final int MAX_COMPRESSION_RATIO = 100;
+    private static final long RANDOM_SEED = 42L;
+    private static final int ALPHABET_SIZE = 26;
+    private static final String TEMPLATE_PATH = "test/templates/deployment.yaml";
+    private static final String TEMPLATE = "kind: Deployment\n";
+    private static final Date FIRST_PACKAGING_TIME = new Date(1_600_000_000_000L);
+    private static final Date SECOND_PACKAGING_TIME = new Date(1_700_000_000_000L);
 
     private ApiVersionsReader apiVersionsReader;
 
     @BeforeEach
     void setUp() {
-        apiVersionsReader = new ApiVersionsReader();
+        apiVersionsReader = new ApiVersionsReader(new ArchiveLimits(MAX_UNCOMPRESSED_BYTES, MAX_ENTRIES,
+            MAX_ENTRY_BYTES, MAX_PATH_DEPTH, MAX_COMPRESSION_RATIO));
     }
 
     @Test
     void shouldCorrectlyReadApiVersionFromTar() throws IOException {
-        prepareTestTar(API_VERSION_V2);
+        byte[] chart = prepareTestTar(Map.of(MAIN_CHART_PATH, chartYaml("apiVersion: " + API_VERSION_V2)));
+
+        ChartMetadata metadata = apiVersionsReader.readChartMetadata(new ByteArrayInputStream(chart));
+
+        assertThat(metadata.getApiVersion()).isEqualTo(API_VERSION_V2);
+        assertThat(metadata.getName()).isEqualTo("test-chart");
+        assertThat(metadata.getVersion()).isEqualTo("1.2.3");
+    }
+
+    @Test
+    void shouldReturnEmptyApiVersionWhenApiVersionIsNotProvided() throws IOException {
+        byte[] chart = prepareTestTar(Map.of(MAIN_CHART_PATH, chartYaml("")));
 
-        String helmVersion = apiVersionsReader.readVersion(TEST_TAR_PATH.toString());
+        ChartMetadata metadata = apiVersionsReader.readChartMetadata(new ByteArrayInputStream(chart));
+
+        assertThat(metadata.getApiVersion()).isNull();
+        assertThat(metadata.getName()).isEqualTo("test-chart");
+    }
+
+    @Test
+    void shouldReadOnlyTopLevelFieldsOfMainChart() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("test/charts/sub/Chart.yaml", "apiVersion: v1\nname: sub-chart\n");
+        entries.put(MAIN_CHART_PATH, "dependencies:\n  - name: sub-chart\n    version: 0.0.1\n"
+            + "apiVersion: \"v2\" # required\nname: 'test-chart'\nversion: 1.2.3\n");
+        entries.put("test/templates/deployment.yaml", "kind: Deployment\n");
+        byte[] chart = prepareTestTar(entries);
+
+        ChartMetadata metadata = apiVersionsReader.readChartMetadata(new ByteArrayInputStream(chart));
+
+        assertThat(metadata.getApiVersion()).isEqualTo(API_VERSION_V2);
+        assertThat(metadata.getName()).isEqualTo("test-chart");
+        assertThat(metadata.getVersion()).isEqualTo("1.2.3");
+        assertThat(metadata.getEntryCount()).isEqualTo(3);
+    }
 
-        assertThat(helmVersion).isEqualTo(API_VERSION_V2);
+    @Test
+    void shouldReturnTheSameContentDigestForRepackedChart() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put(MAIN_CHART_PATH, chartYaml("apiVersion: " + API_VERSION_V2));
+        entries.put(TEMPLATE_PATH, TEMPLATE);
+        Map<String, String> reorderedEntries = new LinkedHashMap<>();
+        reorderedEntries.put("./" + TEMPLATE_PATH, TEMPLATE);
+        reorderedEntries.put(MAIN_CHART_PATH, chartYaml("apiVersion: " + API_VERSION_V2));
+
+        ChartMetadata metadata = apiVersionsReader.readChartMetadata(
+            new ByteArrayInputStream(prepareTestTar(entries, FIRST_PACKAGING_TIME)));
+        ChartMetadata repackedMetadata = apiVersionsReader.readChartMetadata(
+            new ByteArrayInputStream(prepareTestTar(reorderedEntries, SECOND_PACKAGING_TIME)));
+
+        assertThat(metadata.getContentDigest()).hasSize(64).isEqualTo(repackedMetadata.getContentDigest());
     }
 
     @Test
-    void shouldThrowExceptionWhenApiVersionIsNotProvided() throws IOException {
-        prepareTestTar(null);
-        final String chartPath = TEST_TAR_PATH.toString();
-        Exception exception = assertThrows(ApiVersionNotFoundException.class,
-            () -> apiVersionsReader.readVersion(chartPath));
+    void shouldReturnDifferentContentDigestWhenContentOrPathOfFileDiffers() throws IOException {
+        String contentDigest = contentDigestOf(Map.of(MAIN_CHART_PATH, chartYaml(""), TEMPLATE_PATH, TEMPLATE));
 
-        assertThat(exception).hasMessageContaining("Cannot find apiVersion value in a main chart");
+        assertThat(contentDigestOf(Map.of(MAIN_CHART_PATH, chartYaml(""), TEMPLATE_PATH, "kind: Service\n")))
+            .isNotEqualTo(contentDigest);
+        assertThat(contentDigestOf(Map.of(MAIN_CHART_PATH, chartYaml(""), "test/templates/service.yaml", TEMPLATE)))
+            .isNotEqualTo(contentDigest);
     }
 
     @Test
-    void shouldThrowExceptionForNotExistingPath() {
-        String notExistingChartPath = "not/exiting/chart/path";
+    void shouldNotCloseGivenStream() throws IOException {
+        byte[] chart = prepareTestTar(Map.of(MAIN_CHART_PATH, chartYaml("apiVersion: " + API_VERSION_V2)));
+        var closed = new boolean[1];
+        InputStream chartStream = new ByteArrayInputStream(chart) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
 
-        Exception exception = assertThrows(ReadFileException.class,
-            () -> apiVersionsReader.readVersion(notExistingChartPath));
+        apiVersionsReader.readChartMetadata(chartStream);
 
-        assertThat(exception).hasMessageContaining("Cannot read tar from path: " + notExistingChartPath);
+        assertThat(closed[0]).isFalse();
     }
 
-    @AfterEach
-    void cleanTmpDir() throws IOException {
-        Files.walk(Paths.get(TEST_RESOURCES_TMP))
-            .map(Path::toFile)
-            .filter(File::isFile)
-            .forEach(File::delete);
+    @Test
+    void shouldThrowExceptionForStreamWhichIsNotChartArchive() {
+        InputStream notArchive = new ByteArrayInputStream("not an archive".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> apiVersionsReader.readChartMetadata(notArchive));
     }
 
-    private void prepareTestTar(String apiVersion) throws IOException {
-        createTestChart(apiVersion);
-        createTestTar();
+    @Test
+    void shouldRejectArchiveExceedingMaximumNumberOfEntries() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put(MAIN_CHART_PATH, chartYaml("apiVersion: " + API_VERSION_V2));
+        for (var i = 0; i < MAX_ENTRIES; i++) {
+            entries.put("test/templates/template-" + i + ".yaml", "kind: ConfigMap\n");
+        }
+
+        assertLimitExceeded(prepareTestTar(entries), ArchiveLimit.ENTRY_COUNT,
+            "Chart archive exceeds maximum number of entries: " + MAX_ENTRIES);
     }
 
-    private void createTestTar() throws IOException {
-        TarArchiveOutputStream tarOutput = null;
-        try {
-            tarOutput = new TarArchiveOutputStream(
-                new GzipCompressorOutputStream(new FileOutputStream(String.valueOf(TEST_TAR_PATH))));
+    @Test
+    void shouldRejectArchiveWithTooLargeEntryBeforeReadingIt() throws IOException {
+        byte[] chart = prepareTestTar(Map.of("test/values.yaml", "x".repeat((int) MAX_ENTRY_BYTES + 1)));
 
-            final String tarChartPath = "test/Chart.yaml";
-            TarArchiveEntry tarArchiveEntry = new TarArchiveEntry(TEST_CHART_PATH.toFile(), tarChartPath);
-            tarOutput.putArchiveEntry(tarArchiveEntry);
+        assertLimitExceeded(chart, ArchiveLimit.ENTRY_SIZE,
+            "Chart archive entry: test/values.yaml exceeds maximum size of " + MAX_ENTRY_BYTES + " bytes");
+    }
 
-            Files.copy(TEST_CHART_PATH, tarOutput);
-        } finally {
-            if (tarOutput != null) {
-                tarOutput.closeArchiveEntry();
-                tarOutput.close();
-            }
+    @Test
+    void shouldRejectArchiveWithTooDeepEntry() throws IOException {
+        byte[] chart = prepareTestTar(Map.of("test/templates/a/b/c.yaml", "kind: ConfigMap\n"));
+
+        assertLimitExceeded(chart, ArchiveLimit.PATH_DEPTH,
+            "Chart archive entry: test/templates/a/b/c.yaml exceeds maximum path depth of " + MAX_PATH_DEPTH);
+    }
+
+    @Test
+    void shouldRejectArchiveExceedingMaximumUncompressedSize() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("test/first.yaml", randomText((int) MAX_ENTRY_BYTES));
+        entries.put("test/second.yaml", randomText((int) MAX_ENTRY_BYTES));
+        entries.put("test/third.yaml", randomText((int) MAX_ENTRY_BYTES));
+
+        assertLimitExceeded(prepareTestTar(entries), ArchiveLimit.UNCOMPRESSED_SIZE,
+            "Chart archive exceeds maximum uncompressed size of " + MAX_UNCOMPRESSED_BYTES + " bytes");
+    }
+
+    @Test
+    void shouldRejectArchiveExceedingMaximumCompressionRatio() throws IOException {
+        byte[] chart = prepareTestTar(Map.of("test/values.yaml", "x".repeat((int) MAX_ENTRY_BYTES)));
+
+        assertLimitExceeded(chart, ArchiveLimit.COMPRESSION_RATIO,
+            "Chart archive exceeds maximum compression ratio of " + MAX_COMPRESSION_RATIO);
+    }
+
+    private void assertLimitExceeded(byte[] chart, ArchiveLimit limit, String message) {
+        ArchiveLimitExceededException exception = assertThrows(ArchiveLimitExceededException.class,
+            () -> apiVersionsReader.readChartMetadata(new ByteArrayInputStream(chart)));
+
+        assertThat(exception.getLimit()).isEqualTo(limit);
+        assertThat(exception).hasMessage(message);
+    }
+
+    private static String randomText(int length) {
+        var random = new Random(RANDOM_SEED);
+        var text = new StringBuilder(length);
+        for (var i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(ALPHABET_SIZE)));
         }
+        return text.toString();
+    }
+
+    private static String chartYaml(String apiVersionLine) {
+        return String.join("\n", "appVersion: 1.0", apiVersionLine, "name: test-chart", "version: 1.2.3");
     }
 
-    private void createTestChart(String apiVersion) throws IOException {
-        String apiVersionLine = apiVersion != null ? "apiVersion: " + apiVersion : "";
+    private String contentDigestOf(Map<String, String> entries) throws IOException {
+        return apiVersionsReader.readChartMetadata(new ByteArrayInputStream(prepareTestTar(entries)))
+            .getContentDigest();
+    }
 
-        Files.createDirectories(TEST_CHART_PATH.getParent());
-        Files.createFile(TEST_CHART_PATH);
-        Files.write(TEST_CHART_PATH, List.of("appVersion: 1.0", apiVersionLine, "name: test-chart"));
+    private static byte[] prepareTestTar(Map<String, String> entries) throws IOException {
+        return prepareTestTar(entries, new Date());
     }
 
+    private static byte[] prepareTestTar(Map<String, String> entries, Date modTime) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        try (var tarOutput = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                byte[] content = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                var tarArchiveEntry = new TarArchiveEntry(entry.getKey());
+                tarArchiveEntry.setSize(content.length);
+                tarArchiveEntry.setModTime(modTime);
+                tarOutput.putArchiveEntry(tarArchiveEntry);
+                tarOutput.write(content);
+                tarOutput.closeArchiveEntry();
+            }
+        }
+        return outputStream.toByteArray();
+    }
 }
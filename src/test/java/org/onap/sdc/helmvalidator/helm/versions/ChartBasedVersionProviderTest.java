@@ -30,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.versions.exception.ApiVersionNotFoundException;
 import org.onap.sdc.helmvalidator.helm.versions.exception.NotSupportedApiVersionException;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,36 +39,46 @@ class ChartBasedVersionProviderTest {
     private static final String EXPECTED_HELM_VERSION = "3.4.3";
     private static final String API_VERSION = "v2";
 
-    private final String testChartPath = "test/path";
     @Mock
     private SupportedVersionsProvider versionsProvider;
-    @Mock
-    private ApiVersionsReader apiVersionsReader;
     private ChartBasedVersionProvider chartBasedVersionProvider;
 
     @BeforeEach
     void setUp() {
-        chartBasedVersionProvider = new ChartBasedVersionProvider(versionsProvider, apiVersionsReader);
+        chartBasedVersionProvider = new ChartBasedVersionProvider(versionsProvider);
     }
 
     @Test
     void shouldGetLatestHelmVersionBasedOnApiVersion() {
-        when(apiVersionsReader.readVersion(testChartPath)).thenReturn(API_VERSION);
         when(versionsProvider.getLatestVersion(Mockito.anyString())).thenReturn(EXPECTED_HELM_VERSION);
 
-        String helmVersion = chartBasedVersionProvider.getVersion(testChartPath);
+        String helmVersion = chartBasedVersionProvider.getVersion(chartMetadata(API_VERSION));
 
         assertThat(helmVersion).isEqualTo(EXPECTED_HELM_VERSION);
     }
 
     @Test
     void shouldThrowExceptionWhenApiVersionIsNotSupported() {
-        when(apiVersionsReader.readVersion(testChartPath)).thenReturn("v3");
+        ChartMetadata chartMetadata = chartMetadata("v3");
 
         Exception exception = assertThrows(NotSupportedApiVersionException.class,
-            () -> chartBasedVersionProvider.getVersion(testChartPath));
+            () -> chartBasedVersionProvider.getVersion(chartMetadata));
 
         assertThat(exception).hasMessageContaining("Cannot obtain Helm version from API version: v3");
     }
 
+    @Test
+    void shouldThrowExceptionWhenApiVersionIsNotProvided() {
+        ChartMetadata chartMetadata = chartMetadata(null);
+
+        Exception exception = assertThrows(ApiVersionNotFoundException.class,
+            () -> chartBasedVersionProvider.getVersion(chartMetadata));
+
+        assertThat(exception).hasMessageContaining("Cannot find apiVersion value in a main chart");
+    }
+
+    private static ChartMetadata chartMetadata(String apiVersion) {
+        return new ChartMetadata(apiVersion, "test-chart", "1.0.0", 1);
+    }
+
 }
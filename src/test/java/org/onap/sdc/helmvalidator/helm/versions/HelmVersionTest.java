@@ -0,0 +1,56 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.helm.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HelmVersionTest {
+
+    @Test
+    void shouldParseSemanticVersion() {
+        assertThat(HelmVersion.parse("3.14.4"))
+            .contains(new HelmVersion(3, 14, 4));
+        assertThat(HelmVersion.parse("v3.5.2"))
+            .contains(new HelmVersion(3, 5, 2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "3", "3.5", "3.5.2.1", "v3", "latest", "3.5.x", "99999999999.0.0"})
+    void shouldNotParseTextWhichIsNotSemanticVersion(String version) {
+        assertThat(HelmVersion.parse(version)).isEmpty();
+    }
+
+    @Test
+    void shouldCompareVersionsNumerically() {
+        assertThat(Stream.of("3.9.0", "3.14.4", "2.17.0", "3.10.0")
+            .map(HelmVersion::parse)
+            .map(Optional::orElseThrow)
+            .sorted()
+            .map(HelmVersion::toString))
+            .containsExactly("2.17.0", "3.9.0", "3.10.0", "3.14.4");
+    }
+}
@@ -21,16 +21,20 @@
 package org.onap.sdc.helmvalidator.helm.versions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.sdc.helmvalidator.helm.validation.exception.NotSupportedVersionException;
 
 @ExtendWith(MockitoExtension.class)
 class SupportedVersionsProviderTest {
@@ -39,34 +43,137 @@ class SupportedVersionsProviderTest {
     private static final List<String> SORTED_VERSIONS = List.of("3.0.0", "2.2.1", "2.0.0", "1.0.0");
     private static final List<String> SUPPORTED_VERSIONS = List.of("4.2.0", "3.11.3", "3.1.0", "3.0.4", "2.18.2",
         "2.1.5", "1.5.6");
-
-    private SupportedVersionsProvider versionsProvider;
+    private static final List<String> MULTI_DIGIT_VERSIONS = List.of("3.9.0", "3.14.4", "3.10.1", "3.12.3",
+        "3.12.0", "3.13.2");
 
     @Mock
     private SystemEnvVersionsReader versionsReader;
 
-    @BeforeEach
-    void setUp() {
-        versionsProvider = new SupportedVersionsProvider(versionsReader);
+    @Test
+    void shouldReturnSortedVersionsInRevertOrder() {
+        SupportedVersionsProvider versionsProvider = createProvider(UNSORTED_VERSIONS);
+
+        List<String> versions = versionsProvider.getVersions();
+
+        assertThat(versions).isEqualTo(SORTED_VERSIONS);
     }
 
     @Test
-    void shouldReturnSortedVersionsInRevertOrder() {
+    void shouldSortVersionsSemantically() {
+        SupportedVersionsProvider versionsProvider = createProvider(MULTI_DIGIT_VERSIONS);
+
+        List<String> versions = versionsProvider.getVersions();
+
+        assertThat(versions).containsExactly("3.14.4", "3.13.2", "3.12.3", "3.12.0", "3.10.1", "3.9.0");
+    }
 
-        when(versionsReader.readVersions()).thenReturn(UNSORTED_VERSIONS);
+    @Test
+    void shouldIgnoreBlankDuplicatedAndNotSemanticVersions() {
+        SupportedVersionsProvider versionsProvider = createProvider(List.of("3.5.2", " ", "latest", "3.5.2", "3.4"));
 
         List<String> versions = versionsProvider.getVersions();
 
-        assertThat(versions).isEqualTo(SORTED_VERSIONS);
+        assertThat(versions).containsExactly("3.5.2");
+    }
+
+    @Test
+    void shouldReadVersionsOnlyOnce() {
+        SupportedVersionsProvider versionsProvider = createProvider(SUPPORTED_VERSIONS);
+
+        versionsProvider.getVersions();
+        versionsProvider.getLatestVersion("3");
+        versionsProvider.resolveVersion("3.1.0");
+
+        verify(versionsReader, times(1)).readVersions();
     }
 
     @ParameterizedTest
     @CsvSource({"2,2.18.2", "3,3.11.3"})
     void shouldGetLatestHelmVersionBasedOnDesiredMajorVersion(String desiredMajorVersion, String expectedHelmVersion) {
-        when(versionsProvider.getVersions()).thenReturn(SUPPORTED_VERSIONS);
+        SupportedVersionsProvider versionsProvider = createProvider(SUPPORTED_VERSIONS);
 
         String helmVersion = versionsProvider.getLatestVersion(desiredMajorVersion);
 
         assertThat(helmVersion).isEqualTo(expectedHelmVersion);
     }
+
+    @Test
+    void shouldThrowExceptionWhenThereIsNoVersionWithDesiredMajorVersion() {
+        SupportedVersionsProvider versionsProvider = createProvider(SUPPORTED_VERSIONS);
+
+        assertThatExceptionOfType(NotSupportedVersionException.class)
+            .isThrownBy(() -> versionsProvider.getLatestVersion("5"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "3.12.0,3.12.0",
+        "v3,3.14.4",
+        "~3.12,3.12.3",
+        "~3.12.0,3.12.3",
+        "^3.10.0,3.14.4",
+        "3.12,3.12.3",
+        ">=3.10 <3.14,3.13.2",
+        "'>=3.10, <3.14',3.13.2",
+        ">= 3.10 < 3.13,3.12.3",
+        "<=3.12,3.12.3",
+        ">3.12.3 <3.14,3.13.2",
+        "<3.10,3.9.0"
+    })
+    void shouldResolveDesiredVersionToNewestMatchingVersion(String desiredVersion, String expectedHelmVersion) {
+        SupportedVersionsProvider versionsProvider = createProvider(MULTI_DIGIT_VERSIONS);
+
+        String helmVersion = versionsProvider.resolveVersion(desiredVersion);
+
+        assertThat(helmVersion).isEqualTo(expectedHelmVersion);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3.12.1", "v4", "~3.11", ">=3.15", "latest", "3.x", ""})
+    void shouldThrowExceptionWhenDesiredVersionCannotBeResolved(String desiredVersion) {
+        SupportedVersionsProvider versionsProvider = createProvider(MULTI_DIGIT_VERSIONS);
+
+        assertThatExceptionOfType(NotSupportedVersionException.class)
+            .isThrownBy(() -> versionsProvider.resolveVersion(desiredVersion));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+        "all;3.14.4,3.13.2,3.12.3,3.12.0,3.10.1,3.9.0",
+        "v3;3.14.4,3.13.2,3.12.3,3.12.0,3.10.1,3.9.0",
+        "~3.12;3.12.3,3.12.0",
+        ">=3.10 <3.14;3.13.2,3.12.3,3.12.0,3.10.1",
+        "3.9.0,3.12.0;3.12.0,3.9.0",
+        "3.12,3.12.3,~3.13;3.13.2,3.12.3,3.12.0"
+    })
+    void shouldResolveDesiredVersionsToAllMatchingVersions(String desiredVersions, String expectedHelmVersions) {
+        SupportedVersionsProvider versionsProvider = createProvider(MULTI_DIGIT_VERSIONS);
+
+        List<String> helmVersions = versionsProvider.resolveVersions(List.of(desiredVersions.split(",")));
+
+        assertThat(helmVersions).containsExactly(expectedHelmVersions.split(","));
+    }
+
+    @Test
+    void shouldResolveNoDesiredVersionsToAllVersions() {
+        SupportedVersionsProvider versionsProvider = createProvider(MULTI_DIGIT_VERSIONS);
+
+        assertThat(versionsProvider.resolveVersions(List.of())).isEqualTo(versionsProvider.getVersions());
+        assertThat(versionsProvider.resolveVersions(null)).isEqualTo(versionsProvider.getVersions());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenAnyOfDesiredVersionsCannotBeResolved() {
+        SupportedVersionsProvider versionsProvider = createProvider(MULTI_DIGIT_VERSIONS);
+        List<String> desiredVersions = List.of("3.12.0", "~3.11");
+
+        assertThatExceptionOfType(NotSupportedVersionException.class)
+            .isThrownBy(() -> versionsProvider.resolveVersions(desiredVersions))
+            .withMessage("Version: ~3.11 is not supported");
+    }
+
+    private SupportedVersionsProvider createProvider(List<String> versions) {
+        when(versionsReader.readVersions()).thenReturn(versions);
+        return new SupportedVersionsProvider(versionsReader);
+    }
 }
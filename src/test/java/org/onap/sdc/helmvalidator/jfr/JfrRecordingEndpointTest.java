@@ -0,0 +1,134 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+class JfrRecordingEndpointTest {
+
+    private static final long MAX_DURATION_MS = 60000;
+    private static final long MAX_SIZE_BYTES = 10 * 1024 * 1024;
+    private static final int STATUS_CONFLICT = 409;
+
+    @TempDir
+    Path tempDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(MAX_DURATION_MS, MAX_SIZE_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop(true);
+    }
+
+    @Test
+    void shouldStreamRecordingWithValidationEvents() throws IOException {
+        assertThat(endpoint.start(null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        var processEvent = new HelmProcessEvent();
+        processEvent.begin();
+        processEvent.complete("helm-v3.5.2 lint chart", 1, 1000, 1, false);
+
+        WebEndpointResponse<Resource> response = endpoint.stop(null);
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        try (InputStream recording = response.getBody().getInputStream()) {
+            Files.copy(recording, recordingFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> HelmProcessEvent.NAME.equals(event.getEventType().getName()))
+            .collect(Collectors.toList());
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getInt("exitCode")).isEqualTo(1);
+        assertThat(events.get(0).getString("command")).isEqualTo("helm-v3.5.2 lint chart");
+        assertThat(endpoint.stop(null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    void shouldNotRecordEnvironmentVariablesNorSystemProperties() throws IOException {
+        endpoint.start(null);
+
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        try (InputStream recording = endpoint.stop(null).getBody().getInputStream()) {
+            Files.copy(recording, recordingFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+            .extracting(event -> event.getEventType().getName())
+            .doesNotContain("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+    }
+
+    @Test
+    void shouldDescribeRecordingWithoutStoppingIt() {
+        endpoint.start(null);
+
+        WebEndpointResponse<Map<String, Object>> response = endpoint.status();
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(response.getBody()).isEqualTo(Map.of("state", "RUNNING", "durationMs", MAX_DURATION_MS,
+            "maxSizeBytes", MAX_SIZE_BYTES));
+        assertThat(endpoint.status().getBody()).containsEntry("state", "RUNNING");
+    }
+
+    @Test
+    void shouldLimitDurationOfRecording() {
+        WebEndpointResponse<?> response = endpoint.start(MAX_DURATION_MS * 10);
+
+        assertThat(response.getBody()).isEqualTo(Map.of("durationMs", MAX_DURATION_MS,
+            "maxSizeBytes", MAX_SIZE_BYTES));
+    }
+
+    @Test
+    void shouldNotStartSecondRecordingWhileFirstIsRunning() {
+        endpoint.start(null);
+
+        assertThat(endpoint.start(null).getStatus()).isEqualTo(STATUS_CONFLICT);
+        assertThat(endpoint.stop(true).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NO_CONTENT);
+        assertThat(endpoint.stop(true).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenNoRecordingWasStarted() {
+        assertThat(endpoint.status().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.stop(null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+/**
+ * Fake Helm clients installed as helm-v&lt;version&gt; scripts in a directory placed on PATH of the application.
+ * Latency, output volume, exit code and failure rate of the scripts can be changed between runs.
+ */
+class FakeHelm {
+
+    private static final String STUB_RESOURCE = "/load/helm-stub.sh";
+    private static final String STUB_CONFIG = "helm-stub.conf";
+    private static final String HELM_BINARY_PREFIX = "helm-v";
+
+    private final Path directory;
+
+    private FakeHelm(Path directory) {
+        this.directory = directory;
+    }
+
+    static FakeHelm install(Path directory, List<String> versions) throws IOException {
+        Files.createDirectories(directory);
+        for (String version : versions) {
+            Path binary = directory.resolve(HELM_BINARY_PREFIX + version);
+            try (InputStream stub = FakeHelm.class.getResourceAsStream(STUB_RESOURCE)) {
+                Files.copy(stub, binary, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.setPosixFilePermissions(binary, PosixFilePermissions.fromString("rwxr-xr-x"));
+        }
+        return new FakeHelm(directory);
+    }
+
+    void configure(long latencyMs, int outputLines, int exitCode, int failurePercent) throws IOException {
+        Files.writeString(directory.resolve(STUB_CONFIG), "LATENCY_MS=" + latencyMs + "\n"
+            + "OUTPUT_LINES=" + outputLines + "\n"
+            + "EXIT_CODE=" + exitCode + "\n"
+            + "FAILURE_PERCENT=" + failurePercent + "\n");
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * ============LICENSE_START=======================================================
+ * SDC-HELM-VALIDATOR
+ * ================================================================================
+ * Copyright (C) 2026 Nokia. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.sdc.helmvalidator.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Load test of chart validation, run with "load-test" Maven profile. The application is booted with fake Helm
+ * clients on PATH and POST /validate is driven at fixed concurrency levels with sample charts as payload.
+ * Throughput, latency percentiles, peak RSS and peak thread count of every level are written in JSON report.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = ValidationLoadTest.HELM_STUBS_PROPERTY, matches = ".+")
+class ValidationLoadTest {
+
+    static final String HELM_STUBS_PROPERTY = "load.helm-stubs";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationLoadTest.class);
+    private static final Path SAMPLE_CHARTS = Path.of("dev-resources", "sample-charts");
+    private static final String HELM_SUPPORTED_VERSIONS = "HELM_SUPPORTED_VERSIONS";
+    private static final String BOUNDARY = "load-test-boundary";
+    private static final String PROC_STATUS = "/proc/self/status";
+    private static final String PROC_CLEAR_REFS = "/proc/self/clear_refs";
+    private static final String PEAK_RSS_FIELD = "VmHWM:";
+    private static final String RESET_PEAK_RSS = "5";
+    private static final long BYTES_PER_KILOBYTE = 1024;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private static FakeHelm fakeHelm;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void applicationProperties(DynamicPropertyRegistry registry) throws IOException {
+        Path baseDirectory = Files.createTempDirectory("load-test");
+        registry.add("app.config.charts-base-path", baseDirectory::toString);
+        registry.add("app.config.cache.max-entries", () -> "0");
+        registry.add("logging.file.name", () -> baseDirectory.resolve("application.log").toString());
+    }
+
+    @BeforeAll
+    static void installFakeHelm() throws IOException {
+        List<String> versions = Arrays.stream(System.getenv(HELM_SUPPORTED_VERSIONS).split(","))
+            .map(String::trim)
+            .filter(version -> !version.isEmpty())
+            .collect(Collectors.toList());
+        fakeHelm = FakeHelm.install(Path.of(System.getProperty(HELM_STUBS_PROPERTY)), versions);
+    }
+
+    @Test
+    void shouldValidateChartsAtEveryConcurrencyLevel() throws Exception {
+        fakeHelm.configure(Long.getLong("load.stub.latency-ms", 50), Integer.getInteger("load.stub.output-lines", 20),
+            Integer.getInteger("load.stub.exit-code", 0), Integer.getInteger("load.stub.failure-percent", 0));
+        int requests = Integer.getInteger("load.requests", 200);
+        List<byte[]> corpus = readCorpus();
+
+        List<LevelResult> results = new ArrayList<>();
+        for (int concurrency : concurrencyLevels()) {
+            LevelResult result = runLevel(concurrency, requests, corpus);
+            LOGGER.info("Load test level: {}", result);
+            results.add(result);
+        }
+        writeReport(results);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getCompleted()).isEqualTo(requests));
+    }
+
+    private LevelResult runLevel(int concurrency, int requests, List<byte[]> corpus) throws Exception {
+        List<byte[]> bodies = new ArrayList<>(requests);
+        for (var i = 0; i < requests; i++) {
+            bodies.add(multipartBody(uniqueChart(corpus.get(i % corpus.size()), concurrency + "-" + i)));
+        }
+        long[] latencies = new long[requests];
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        var nextRequest = new AtomicInteger();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        resetPeakRss();
+        threads.resetPeakThreadCount();
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (var i = 0; i < concurrency; i++) {
+                workers.add(clients.submit(() -> {
+                    int request;
+                    while ((request = nextRequest.getAndIncrement()) < requests) {
+                        long requestStart = System.nanoTime();
+                        int status = send(bodies.get(request));
+                        latencies[request] = System.nanoTime() - requestStart;
+                        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        long durationNanos = System.nanoTime() - start;
+        return new LevelResult(concurrency, latencies, durationNanos, statuses, peakRssBytes(),
+            threads.getPeakThreadCount());
+    }
+
+    private int send(byte[] body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/validate"))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static byte[] multipartBody(byte[] chart) throws IOException {
+        var body = new ByteArrayOutputStream(chart.length + 512);
+        body.write(("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"isLinted\"\r\n\r\ntrue\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"chart.tgz\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(chart);
+        body.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    /**
+     * Repacks chart with additional file, so identical charts are neither shared by in-flight validations
+     * nor served from any cache and every request runs Helm.
+     */
+    private static byte[] uniqueChart(byte[] chart, String marker) throws IOException {
+        var outputStream = new ByteArrayOutputStream(chart.length + 1024);
+        try (var input = new TarArchiveInputStream(new GzipCompressorInputStream(new ByteArrayInputStream(chart)));
+            var output = new TarArchiveOutputStream(new GzipCompressorOutputStream(outputStream))) {
+            String chartDirectory = null;
+            TarArchiveEntry entry;
+            while ((entry = input.getNextTarEntry()) != null) {
+                if (chartDirectory == null) {
+                    chartDirectory = entry.getName().split("/", 2)[0];
+                }
+                output.putArchiveEntry(entry);
+                input.transferTo(output);
+                output.closeArchiveEntry();
+            }
+            byte[] content = marker.getBytes(StandardCharsets.UTF_8);
+            var markerEntry = new TarArchiveEntry(chartDirectory + "/.load-test-" + marker);
+            markerEntry.setSize(content.length);
+            output.putArchiveEntry(markerEntry);
+            output.write(content);
+            output.closeArchiveEntry();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static List<byte[]> readCorpus() throws IOException {
+        try (Stream<Path> charts = Files.list(SAMPLE_CHARTS)) {
+            List<byte[]> corpus = new ArrayList<>();
+            for (Path chart : charts.sorted().collect(Collectors.toList())) {
+                corpus.add(Files.readAllBytes(chart));
+            }
+            return corpus;
+        }
+    }
+
+    private static List<Integer> concurrencyLevels() {
+        return Arrays.stream(System.getProperty("load.concurrency", "1,4,16").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    }
+
+    private static void resetPeakRss() {
+        try {
+            Files.writeString(Path.of(PROC_CLEAR_REFS), RESET_PEAK_RSS);
+        } catch (IOException | SecurityException e) {
+            LOGGER.debug("Peak RSS cannot be reset, it is measured since start of the JVM", e);
+        }
+    }
+
+    private static long peakRssBytes() throws IOException {
+        try (Stream<String> lines = Files.lines(Path.of(PROC_STATUS))) {
+            return lines.filter(line -> line.startsWith(PEAK_RSS_FIELD))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .map(kilobytes -> kilobytes * BYTES_PER_KILOBYTE)
+                .findFirst()
+                .orElse(-1);
+        }
+    }
+
+    private static void writeReport(List<LevelResult> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("stub", Map.of(
+            "latencyMs", Long.getLong("load.stub.latency-ms", 50),
+            "outputLines", Integer.getInteger("load.stub.output-lines", 20),
+            "exitCode", Integer.getInteger("load.stub.exit-code", 0),
+            "failurePercent", Integer.getInteger("load.stub.failure-percent", 0)));
+        report.put("levels", results);
+        Path reportFile = Path.of(System.getProperty("load.result", "target/load-test-result.json"));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        LOGGER.info("Load test report written to: {}", reportFile.toAbsolutePath());
+    }
+
+    static class LevelResult {
+
+        private final int concurrency;
+        private final int completed;
+        private final double requestsPerSecond;
+        private final double p50Ms;
+        private final double p95Ms;
+        private final double p99Ms;
+        private final double maxMs;
+        private final Map<String, Long> statuses;
+        private final long peakRssBytes;
+        private final int peakThreads;
+
+        LevelResult(int concurrency, long[] latencies, long durationNanos, Map<Integer, LongAdder> statuses,
+            long peakRssBytes, int peakThreads) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            this.concurrency = concurrency;
+            this.statuses = new TreeMap<>();
+            statuses.forEach((status, count) -> this.statuses.put(String.valueOf(status), count.sum()));
+            this.completed = (int) this.statuses.values().stream().mapToLong(Long::longValue).sum();
+            this.requestsPerSecond = completed / (durationNanos / NANOS_PER_MILLI / 1000);
+            this.p50Ms = percentile(sorted, 0.50);
+            this.p95Ms = percentile(sorted, 0.95);
+            this.p99Ms = percentile(sorted, 0.99);
+            this.maxMs = sorted.length == 0 ? 0 : sorted[sorted.length - 1] / NANOS_PER_MILLI;
+            this.peakRssBytes = peakRssBytes;
+            this.peakThreads = peakThreads;
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            var rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / NANOS_PER_MILLI;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public double getP50Ms() {
+            return p50Ms;
+        }
+
+        public double getP95Ms() {
+            return p95Ms;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public Map<String, Long> getStatuses() {
+            return statuses;
+        }
+
+        public long getPeakRssBytes() {
+            return peakRssBytes;
+        }
+
+        public int getPeakThreads() {
+            return peakThreads;
+        }
+
+        @Override
+        public String toString() {
+            return "LevelResult{" +
+                " concurrency=" + concurrency +
+                ", completed=" + completed +
+                ", requestsPerSecond=" + requestsPerSecond +
+                ", p50Ms=" + p50Ms +
+                ", p95Ms=" + p95Ms +
+                ", p99Ms=" + p99Ms +
+                ", maxMs=" + maxMs +
+                ", statuses=" + statuses +
+                ", peakRssBytes=" + peakRssBytes +
+                ", peakThreads=" + peakThreads +
+                " }";
+        }
+    }
+}
@@ -0,0 +1,39 @@
+#!/bin/sh
+# Fake Helm client used by load tests. Its behaviour is read on every run from helm-stub.conf placed next to it:
+# LATENCY_MS - time spent before output is printed
+# OUTPUT_LINES - number of printed lines
+# EXIT_CODE - exit code of successful run
+# FAILURE_PERCENT - percent of runs failing with Helm error and exit code 1
+. "$(dirname "$0")/helm-stub.conf"
+
+SUBCOMMAND="$1"
+CHART="$2"
+
+if [ "$LATENCY_MS" -gt 0 ]; then
+    sleep "$(awk -v ms="$LATENCY_MS" 'BEGIN { printf "%.3f", ms / 1000 }')"
+fi
+
+awk -v lines="$OUTPUT_LINES" -v subcommand="$SUBCOMMAND" 'BEGIN {
+    for (i = 0; i < lines; i++) {
+        if (subcommand == "lint") {
+            printf "[INFO] templates/stub-%d.yaml: stub lint message %d\n", i, i
+        } else {
+            printf "# Source: stub/templates/stub-%d.yaml\n", i
+        }
+    }
+}'
+
+if [ "$FAILURE_PERCENT" -gt 0 ] && [ "$(( $(od -An -N2 -tu2 /dev/urandom) % 100 ))" -lt "$FAILURE_PERCENT" ]; then
+    if [ "$SUBCOMMAND" = "lint" ]; then
+        echo "[ERROR] templates/: stub failure of $CHART"
+        echo "Error: 1 chart(s) linted, 1 chart(s) failed"
+    else
+        echo "Error: parse error at (stub/templates/stub.yaml:1): stub failure of $CHART"
+    fi
+    exit 1
+fi
+
+if [ "$SUBCOMMAND" = "lint" ]; then
+    echo "1 chart(s) linted, 0 chart(s) failed"
+fi
+exit "$EXIT_CODE"